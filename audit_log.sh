@@ -0,0 +1,15 @@
+#!/bin/bash
+# 監査ログの参照・検証（アプリを起動せずにセグメントファイルを直接読む）
+# 時刻範囲・エンティティで絞り込んで1行1件（通番・時刻・種類・種別#ID・バージョン・実行者・変更）で表示する。
+# --verify は全セグメントのハッシュ連鎖を検証し、不整合があれば終了コード2で終わる。
+# 使い方: ./audit_log.sh [--dir=./data/audit] [--from=2026-10-19T09:00] [--to=2026-10-19] [--type=Facility] [--id=1] [--limit=1000] [--verify]
+# 事前に: mvn compile 済みであること（target/classes を使う）
+
+set -e
+
+CLASSES="$(cd "$(dirname "$0")" && pwd)/target/classes"
+if [ ! -f "$CLASSES/com/example/syndicatelending/common/infrastructure/audit/AuditLogReader.class" ]; then
+  echo "$CLASSES がありません。mvn compile を実行してください"
+  exit 1
+fi
+exec java -cp "$CLASSES" com.example.syndicatelending.common.infrastructure.audit.AuditLogReader "$@"
@@ -0,0 +1,62 @@
+#!/bin/bash
+# 起動時間（プロセス起動から最初のリクエストに応答するまで）の比較ベンチマーク
+#   baseline      : 実行可能jar（java -jar）
+#   fast-startup  : 実行可能jar + fast-startupプロファイル（遅延初期化・JPAの遅延ブートストラップ）
+#   cds           : 依存jar展開 + Class Data Sharingアーカイブ + fast-startupプロファイル
+#   aot           : 実行可能jar + Spring AOTで事前生成したBean定義（-Paot でビルドした場合のみ）
+# 使い方: ./bench_startup.sh [計測回数=5]
+# 事前に: mvn -Pcds package -DskipTests（aotも計測する場合は mvn -Pcds,aot package -DskipTests）
+
+set -e
+
+RUNS=${1:-5}
+PORT=${PORT:-18090}
+cd "$(dirname "$0")"
+JAR=$(ls target/*-SNAPSHOT.jar | head -1)
+CDS_JAR=$(ls target/cds/*-cds.jar 2>/dev/null | head -1)
+COMMON_ARGS="--server.port=$PORT --spring.jpa.show-sql=false --logging.level.root=WARN"
+
+# 1回起動し、/api/v1/facilities が200を返すまでのミリ秒を出力する
+measure() {
+  local start end pid
+  start=$(date +%s%N)
+  "$@" $COMMON_ARGS > /dev/null 2>&1 &
+  pid=$!
+  until curl -s -o /dev/null -f "http://localhost:$PORT/api/v1/facilities"; do
+    if ! kill -0 $pid 2>/dev/null; then
+      echo "起動に失敗しました: $*" >&2
+      return 1
+    fi
+    sleep 0.05
+  done
+  end=$(date +%s%N)
+  kill $pid
+  wait $pid 2>/dev/null || true
+  echo $(( (end - start) / 1000000 ))
+}
+
+run() {
+  local label=$1
+  shift
+  local times=()
+  for i in $(seq 1 "$RUNS"); do
+    times+=("$(measure "$@")")
+  done
+  printf '%s\n' "${times[@]}" | sort -n | awk -v label="$label" '{ t[NR] = $1 } END {
+    printf "%-14s 中央値: %6d ms  最小: %6d ms  最大: %6d ms\n", label, t[int((NR + 1) / 2)], t[1], t[NR];
+  }'
+}
+
+echo "--- 最初のリクエストまでの時間（${RUNS}回） ---"
+run baseline java -jar "$JAR"
+run fast-startup java -jar "$JAR" --spring.profiles.active=fast-startup
+if [ -n "$CDS_JAR" ] && [ -f target/cds/application.jsa ]; then
+  run cds java -XX:SharedArchiveFile=target/cds/application.jsa -Xlog:cds=off -jar "$CDS_JAR" \
+    --spring.profiles.active=fast-startup
+else
+  echo "cds: アーカイブがありません（mvn -Pcds package -DskipTests を実行）"
+fi
+if unzip -l "$JAR" 2>/dev/null | grep -q '__ApplicationContextInitializer'; then
+  run aot java -Dspring.aot.enabled=true -jar "$JAR"
+fi
+echo "--- 完了 ---"
@@ -0,0 +1,74 @@
+#!/bin/bash
+# Transaction継承マッピングの比較ベンチマーク（JOINED: V1〜V2 / SINGLE_TABLE: V1〜V3）
+# 取引を1件ずつINSERTし（8割がDRAWDOWN、2割がFACILITY_INVESTMENT）、ファシリティ単位の多態読み込みを行って所要時間を比較する。
+# 使い方: ./bench_transaction_mapping.sh [取引件数=20000] [読み込み回数=2000]
+# 事前に: H2のjarがローカルリポジトリにあること（H2_JAR で上書き可）
+
+set -e
+
+ROWS=${1:-20000}
+READS=${2:-2000}
+FACILITIES=200
+H2_JAR=${H2_JAR:-$(find ~/.m2/repository/com/h2database/h2 -name 'h2-*.jar' | sort | tail -1)}
+DB_DIR="$(cd "$(dirname "$0")" && pwd)/src/main/resources/db"
+WORK=$(mktemp -d)
+trap 'rm -rf "$WORK"' EXIT
+
+# JOINED: 取引ごとに親テーブル・子テーブルの2回INSERT、読み込みは子テーブル全てとの外部結合
+awk -v n="$ROWS" -v f="$FACILITIES" 'BEGIN {
+  for (i = 1; i <= n; i++) {
+    type = (i % 5 == 0) ? "FACILITY_INVESTMENT" : "DRAWDOWN";
+    printf "insert into transaction (id, facility_id, borrower_id, transaction_date, transaction_type, amount, created_at, updated_at, version) values (%d, %d, 1, current_date, %c%s%c, 1000.00, localtimestamp, localtimestamp, 0);\n", i, i % f + 1, 39, type, 39;
+    if (type == "DRAWDOWN")
+      printf "insert into drawdown (id, loan_id, currency, purpose) values (%d, %d, %cJPY%c, %cbench%c);\n", i, i, 39, 39, 39, 39;
+    else
+      printf "insert into facility_investment (id, investor_id) values (%d, %d);\n", i, i % 50 + 1;
+  }
+}' > "$WORK/joined_insert.sql"
+awk -v n="$READS" -v f="$FACILITIES" 'BEGIN {
+  for (i = 1; i <= n; i++)
+    printf "select t.id, t.transaction_type, t.amount, d.loan_id, d.currency, d.purpose, fi.investor_id from transaction t left join drawdown d on d.id = t.id left join facility_investment fi on fi.id = t.id where t.facility_id = %d;\n", i % f + 1;
+}' > "$WORK/joined_read.sql"
+
+# SINGLE_TABLE: 取引ごとに1回のINSERT、読み込みは結合なし
+awk -v n="$ROWS" -v f="$FACILITIES" 'BEGIN {
+  for (i = 1; i <= n; i++) {
+    if (i % 5 == 0)
+      printf "insert into transaction (id, facility_id, borrower_id, transaction_date, transaction_type, amount, created_at, updated_at, version, investor_id) values (%d, %d, 1, current_date, %cFACILITY_INVESTMENT%c, 1000.00, localtimestamp, localtimestamp, 0, %d);\n", i, i % f + 1, 39, 39, i % 50 + 1;
+    else
+      printf "insert into transaction (id, facility_id, borrower_id, transaction_date, transaction_type, amount, created_at, updated_at, version, loan_id, currency, purpose) values (%d, %d, 1, current_date, %cDRAWDOWN%c, 1000.00, localtimestamp, localtimestamp, 0, %d, %cJPY%c, %cbench%c);\n", i, i % f + 1, 39, 39, i, 39, 39, 39, 39;
+  }
+}' > "$WORK/single_insert.sql"
+awk -v n="$READS" -v f="$FACILITIES" 'BEGIN {
+  for (i = 1; i <= n; i++)
+    printf "select t.id, t.transaction_type, t.amount, t.loan_id, t.currency, t.purpose, t.investor_id from transaction t where t.facility_id = %d;\n", i % f + 1;
+}' > "$WORK/single_read.sql"
+
+run() {
+  local label=$1 last=$2 reset=$3
+  {
+    for f in $(ls "$DB_DIR"/migration/V*__*.sql "$DB_DIR"/vendor/h2/V*__*.sql | awk -F/ '{v=$NF; sub(/^V/, "", v); sub(/__.*/, "", v); gsub(/_/, ".", v); print v"\t"$0}' | sort -V | cut -f2); do
+      echo "RUNSCRIPT FROM '$f';"
+      [ "$(basename "$f")" = "$last" ] && break
+    done
+    # 計測前のウォームアップ（JITとキャッシュ）
+    echo "RUNSCRIPT FROM '$WORK/${label}_insert.sql';"
+    echo "RUNSCRIPT FROM '$WORK/${label}_read.sql';"
+    echo "$reset"
+    echo "SET @T0 = CURRENT_TIMESTAMP(9);"
+    echo "RUNSCRIPT FROM '$WORK/${label}_insert.sql';"
+    echo "SET @T1 = CURRENT_TIMESTAMP(9);"
+    echo "RUNSCRIPT FROM '$WORK/${label}_read.sql';"
+    echo "SET @T2 = CURRENT_TIMESTAMP(9);"
+    echo "SELECT 'RESULT', DATEDIFF('MILLISECOND', @T0, @T1), DATEDIFF('MILLISECOND', @T1, @T2);"
+  } > "$WORK/${label}.sql"
+  java -cp "$H2_JAR" org.h2.tools.RunScript -url "jdbc:h2:mem:bench_$label" -script "$WORK/${label}.sql" -showResults \
+    | awk -v label="$label" -v rows="$ROWS" -v reads="$READS" '/--> RESULT/ {
+        printf "%-8s insert: %6d ms (%8.0f rows/s)  read: %6d ms (%8.0f queries/s)\n", label, $3, rows * 1000 / ($3 > 0 ? $3 : 1), $4, reads * 1000 / ($4 > 0 ? $4 : 1);
+      }'
+}
+
+echo "--- 取引 ${ROWS} 件 / 読み込み ${READS} 回 ---"
+run joined V2__foreign_key_and_finder_indexes.sql "delete from drawdown; delete from facility_investment; delete from transaction;"
+run single V3__flatten_transaction_hierarchy.sql "delete from transaction;"
+echo "--- 完了 ---"
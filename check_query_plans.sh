@@ -0,0 +1,104 @@
+#!/bin/bash
+# Flywayマイグレーション（共通 + vendor/h2）を適用したH2上で、Repositoryの検索メソッドが発行するSQLの実行計画を確認する。
+# いずれかのクエリが全件走査（tableScan）になった場合は終了コード1で失敗する。
+# 引数にアプリのログを渡すと、各SQLがログに出たSQLと一致するか（Repositoryの変更で食い違っていないか）も確認する。
+#   例: ./check_query_plans.sh /tmp/app.log （アプリを起動してテストシナリオ等を流した後のログ）
+# 事前に: mvn dependency:resolve などでH2のjarがローカルリポジトリにあること（H2_JAR で上書き可）
+
+set -e
+
+H2_JAR=${H2_JAR:-$(find ~/.m2/repository/com/h2database/h2 -name 'h2-*.jar' | sort | tail -1)}
+DB_DIR="$(cd "$(dirname "$0")" && pwd)/src/main/resources/db"
+WORK=$(mktemp -d)
+trap 'rm -rf "$WORK"' EXIT
+
+# 検査対象（Repositoryメソッド名|パラメータ|SQL）
+# SQLはアプリのログ（spring.jpa.show-sql）に出たHibernateの文をそのまま貼り、in句の (?,?,...) は (?) にまとめる。
+# パラメータは ? に順に埋める値を ; で区切る（in句の (?) には 1,2,3 のように複数の値を書ける）。
+# 全件を読む一覧・findAll系と主キーでの取得は対象外。
+QUERIES=$(cat <<'SQL'
+DrawdownRepository.findByFacilityId|1|select d1_0.id,d1_0.amount,d1_0.borrower_id,d1_0.created_at,d1_0.facility_id,d1_0.transaction_date,d1_0.transaction_type,d1_0.updated_at,d1_0.version,d1_0.currency,d1_0.loan_id,d1_0.purpose from transaction d1_0 where d1_0.facility_id=? and d1_0.transaction_type='DRAWDOWN'
+DrawdownRepository.findByFacilityIdIn|1,2,3;0;10001|select d1_0.id,d1_0.amount,d1_0.borrower_id,d1_0.created_at,d1_0.facility_id,d1_0.transaction_date,d1_0.transaction_type,d1_0.updated_at,d1_0.version,d1_0.currency,d1_0.loan_id,d1_0.purpose from transaction d1_0 where d1_0.facility_id in (?) and d1_0.transaction_type='DRAWDOWN' offset ? rows fetch first ? rows only
+DrawdownRepository.findByFacilityIdAndTransactionDateBetweenOrderByTransactionDateAsc|1;date '2024-01-01';date '2024-12-31'|select d1_0.id,d1_0.amount,d1_0.borrower_id,d1_0.created_at,d1_0.facility_id,d1_0.transaction_date,d1_0.transaction_type,d1_0.updated_at,d1_0.version,d1_0.currency,d1_0.loan_id,d1_0.purpose from transaction d1_0 where d1_0.facility_id=? and d1_0.transaction_date between ? and ? and d1_0.transaction_type='DRAWDOWN' order by d1_0.transaction_date
+PaymentRepository.findByLoanId|1|select p1_0.id,p1_0.amount,p1_0.borrower_id,p1_0.created_at,p1_0.facility_id,p1_0.transaction_date,p1_0.transaction_type,p1_0.updated_at,p1_0.version,p1_0.currency,p1_0.fee_paid,p1_0.interest_paid,p1_0.loan_id,p1_0.principal_paid,p1_0.unapplied_amount from transaction p1_0 where p1_0.loan_id=? and p1_0.transaction_type='PAYMENT'
+PaymentRepository.findByLoanIdAndTransactionDateBetweenOrderByTransactionDateAsc|1;date '2024-01-01';date '2024-12-31'|select p1_0.id,p1_0.amount,p1_0.borrower_id,p1_0.created_at,p1_0.facility_id,p1_0.transaction_date,p1_0.transaction_type,p1_0.updated_at,p1_0.version,p1_0.currency,p1_0.fee_paid,p1_0.interest_paid,p1_0.loan_id,p1_0.principal_paid,p1_0.unapplied_amount from transaction p1_0 where p1_0.loan_id=? and p1_0.transaction_date between ? and ? and p1_0.transaction_type='PAYMENT' order by p1_0.transaction_date
+TransactionRepository.findIdsToArchive|date '2024-01-01';0;date '2024-01-01';0;500|select t1_0.id from transaction t1_0 where t1_0.transaction_date<? and t1_0.id>? and not exists(select 1 from facilities f1_0 where f1_0.id=t1_0.facility_id and f1_0.end_date>=?) order by t1_0.id offset ? rows fetch first ? rows only
+TransactionRepository.countToArchive|date '2024-01-01';date '2024-01-01'|select count(t1_0.id) from transaction t1_0 where t1_0.transaction_date<? and not exists(select 1 from facilities f1_0 where f1_0.id=t1_0.facility_id and f1_0.end_date>=?)
+TransactionArchiveRepository.findByFacilityIdAndTransactionDateBetweenOrderByTransactionDateAsc|1;date '2024-01-01';date '2024-12-31'|select ta1_0.id,ta1_0.amount,ta1_0.archived_at,ta1_0.borrower_id,ta1_0.created_at,ta1_0.currency,ta1_0.facility_id,ta1_0.investor_id,ta1_0.loan_id,ta1_0.transaction_date,ta1_0.transaction_type from transaction_archive ta1_0 where ta1_0.facility_id=? and ta1_0.transaction_date between ? and ? order by ta1_0.transaction_date
+TransactionArchiveRepository.findByLoanIdAndTransactionDateBetweenOrderByTransactionDateAsc|1;date '2024-01-01';date '2024-12-31'|select ta1_0.id,ta1_0.amount,ta1_0.archived_at,ta1_0.borrower_id,ta1_0.created_at,ta1_0.currency,ta1_0.facility_id,ta1_0.investor_id,ta1_0.loan_id,ta1_0.transaction_date,ta1_0.transaction_type from transaction_archive ta1_0 where ta1_0.loan_id=? and ta1_0.transaction_date between ? and ? order by ta1_0.transaction_date
+PaymentDistributionRepository.findByPaymentId|1|select pd1_0.id,pd1_0.created_at,pd1_0.fee_amount,pd1_0.interest_amount,pd1_0.investor_id,pd1_0.loan_id,pd1_0.payment_id,pd1_0.principal_amount from payment_distribution pd1_0 where pd1_0.payment_id=?
+FacilityInvestmentRepository.deleteByFacilityId|1|select fi1_0.id,fi1_0.amount,fi1_0.borrower_id,fi1_0.created_at,fi1_0.facility_id,fi1_0.transaction_date,fi1_0.transaction_type,fi1_0.updated_at,fi1_0.version,fi1_0.investor_id from transaction fi1_0 where fi1_0.facility_id=? and fi1_0.transaction_type='FACILITY_INVESTMENT'
+Facility.sharePies|1|select sp1_0.facility_id,sp1_0.id,sp1_0.created_at,sp1_0.investor_id,sp1_0.share,sp1_0.updated_at from facility_share_pies sp1_0 where sp1_0.facility_id=?
+SharePieRepository.deleteByFacility_Id|1|select sp1_0.id,sp1_0.created_at,sp1_0.facility_id,sp1_0.investor_id,sp1_0.share,sp1_0.updated_at from facility_share_pies sp1_0 where sp1_0.facility_id=?
+SharePieRepository.findByFacilityIds|1,2,3;0;10001|select sp1_0.id,sp1_0.created_at,sp1_0.facility_id,sp1_0.investor_id,sp1_0.share,sp1_0.updated_at from facility_share_pies sp1_0 where sp1_0.facility_id in (?) offset ? rows fetch first ? rows only
+SharePieRepository.findSnapshotRowsByFacilityIds|1,2,3|select sp1_0.facility_id,sp1_0.investor_id,sp1_0.share from facility_share_pies sp1_0 where sp1_0.facility_id in (?)
+FacilityRepository.findBySyndicateIdIn|1,2,3;0;10001|select f1_0.id,f1_0.commitment,f1_0.created_at,f1_0.currency,f1_0.end_date,f1_0.interest_terms,f1_0.start_date,f1_0.syndicate_id,f1_0.updated_at,f1_0.version from facilities f1_0 where f1_0.syndicate_id in (?) offset ? rows fetch first ? rows only
+FacilityRepository.findSnapshotRows|timestamp '2024-01-01 00:00:00';0;0;500|select f1_0.id,f1_0.commitment,f1_0.currency,f1_0.updated_at from facilities f1_0 where f1_0.updated_at>=? and f1_0.id>? order by f1_0.id offset ? rows fetch first ? rows only
+LoanRepository.findSnapshotRows|timestamp '2024-01-01 00:00:00';0;0;500|select l1_0.id,l1_0.facility_id,l1_0.borrower_id,l1_0.principal_amount,l1_0.outstanding_balance,l1_0.currency,l1_0.updated_at from loan l1_0 where l1_0.updated_at>=? and l1_0.id>? order by l1_0.id offset ? rows fetch first ? rows only
+LoanRepository.findByIdGreaterThanOrderByIdAsc|0;0;500|select l1_0.id,l1_0.accrued_interest,l1_0.annual_interest_rate,l1_0.borrower_id,l1_0.created_at,l1_0.currency,l1_0.drawdown_date,l1_0.facility_id,l1_0.last_interest_date,l1_0.outstanding_balance,l1_0.outstanding_fees,l1_0.principal_amount,l1_0.repayment_cycle,l1_0.repayment_method,l1_0.repayment_period_months,l1_0.updated_at,l1_0.version from loan l1_0 where l1_0.id>? order by l1_0.id offset ? rows fetch first ? rows only
+BorrowerRepository.findRatingRows|timestamp '2024-01-01 00:00:00'|select b1_0.id,b1_0.credit_rating,b1_0.updated_at from borrowers b1_0 where b1_0.updated_at>=?
+Syndicate.memberInvestorIds|1|select mii1_0.syndicate_id,mii1_0.investor_id from syndicate_members mii1_0 where mii1_0.syndicate_id=?
+SyndicateRepository.findSummariesByMemberInvestorId|1;0;20|select s1_0.id,s1_0.name,s1_0.lead_bank_id,s1_0.borrower_id from syndicates s1_0 join syndicate_members mii1_0 on s1_0.id=mii1_0.syndicate_id where mii1_0.investor_id=? offset ? rows fetch first ? rows only
+SyndicateRepository.findMemberRowsBySyndicateIds|1,2,3|select s1_0.id,mii1_0.investor_id from syndicates s1_0 join syndicate_members mii1_0 on s1_0.id=mii1_0.syndicate_id where s1_0.id in (?)
+EntityRevisionRepository.findByEntityTypeAndEntityIdAndVersion|'Facility';1;1|select er1_0.id,er1_0.created_at,er1_0.entity_id,er1_0.entity_type,er1_0.snapshot,er1_0.version from entity_revision er1_0 where er1_0.entity_type=? and er1_0.entity_id=? and er1_0.version=?
+EntityRevisionRepository.existsByEntityTypeAndEntityIdAndVersion|'Facility';1;1;1|select er1_0.id from entity_revision er1_0 where er1_0.entity_type=? and er1_0.entity_id=? and er1_0.version=? fetch first ? rows only
+EntityRevisionRepository.deleteOlderThan|'Facility';1;1|delete from entity_revision where entity_type=? and entity_id=? and version<?
+FxRateRepository.findByBaseCurrencyAndQuoteCurrencyAndRateDate|'USD';'JPY';date '2024-01-01'|select fr1_0.id,fr1_0.base_currency,fr1_0.created_at,fr1_0.quote_currency,fr1_0.rate,fr1_0.rate_date,fr1_0.updated_at from fx_rate fr1_0 where fr1_0.base_currency=? and fr1_0.quote_currency=? and fr1_0.rate_date=?
+BatchJobRepository.findByStatusOrderByIdAsc|'QUEUED';0;10|select bj1_0.id,bj1_0.cancel_requested,bj1_0.checkpoint,bj1_0.created_at,bj1_0.finished_at,bj1_0.job_type,bj1_0.parameters,bj1_0.processed_items,bj1_0.result_message,bj1_0.started_at,bj1_0.status,bj1_0.tenant_id,bj1_0.total_items,bj1_0.updated_at from batch_job bj1_0 where bj1_0.status=? order by bj1_0.id offset ? rows fetch first ? rows only
+BatchJobRepository.findByTenantIdAndStatus|'default';'RUNNING';0;20|select bj1_0.id,bj1_0.cancel_requested,bj1_0.checkpoint,bj1_0.created_at,bj1_0.finished_at,bj1_0.job_type,bj1_0.parameters,bj1_0.processed_items,bj1_0.result_message,bj1_0.started_at,bj1_0.status,bj1_0.tenant_id,bj1_0.total_items,bj1_0.updated_at from batch_job bj1_0 where bj1_0.tenant_id=? and bj1_0.status=? offset ? rows fetch first ? rows only
+BatchJobRepository.findByTenantId|'default';0;20|select bj1_0.id,bj1_0.cancel_requested,bj1_0.checkpoint,bj1_0.created_at,bj1_0.finished_at,bj1_0.job_type,bj1_0.parameters,bj1_0.processed_items,bj1_0.result_message,bj1_0.started_at,bj1_0.status,bj1_0.tenant_id,bj1_0.total_items,bj1_0.updated_at from batch_job bj1_0 where bj1_0.tenant_id=? offset ? rows fetch first ? rows only
+SQL
+)
+
+# ? をパラメータで順に置き換える
+bind() {
+  local sql=$1 value
+  IFS=';' read -ra values <<< "$2"
+  for value in "${values[@]}"; do
+    sql=${sql/\?/$value}
+  done
+  echo "$sql"
+}
+
+if [ -n "$1" ]; then
+  grep -a '^Hibernate: ' "$1" | sed -e 's/^Hibernate: //' -e 's/(?\(,?\)*)/(?)/g' | sort -u > "$WORK/logged.sql"
+  echo "$QUERIES" | while IFS='|' read -r name params sql; do
+    if ! grep -qxF "$sql" "$WORK/logged.sql"; then
+      echo "[要確認] $name: ログに同じSQLがありません（未実行か、Repositoryのクエリが変わっています）"
+    fi
+  done
+fi
+
+{
+  for f in $(ls "$DB_DIR"/migration/V*__*.sql "$DB_DIR"/vendor/h2/V*__*.sql | awk -F/ '{v=$NF; sub(/^V/, "", v); sub(/__.*/, "", v); gsub(/_/, ".", v); print v"\t"$0}' | sort -V | cut -f2); do
+    echo "RUNSCRIPT FROM '$f';"
+  done
+  echo "$QUERIES" | while IFS='|' read -r name params sql; do
+    echo "EXPLAIN $(bind "$sql" "$params");"
+  done
+} > "$WORK/plans.sql"
+
+java -cp "$H2_JAR" org.h2.tools.RunScript -url "jdbc:h2:mem:plans" -script "$WORK/plans.sql" -showResults > "$WORK/plans.out"
+
+FAILED=0
+echo "$QUERIES" | while IFS='|' read -r name params sql; do
+  # EXPLAIN の結果ブロックから該当SQLの計画を抜き出す
+  PLAN=$(awk -v q="EXPLAIN $(bind "$sql" "$params");" '$0==q{f=1;next} f&&/^;$/{exit} f' "$WORK/plans.out")
+  if [ -z "$PLAN" ]; then
+    echo "[NG] $name: 実行計画を取得できません（SQLの誤り）"
+    grep -A3 "EXPLAIN $(bind "$sql" "$params")" "$WORK/plans.out" | head -5
+    exit 1
+  elif echo "$PLAN" | grep -q "tableScan"; then
+    echo "[NG] $name: 全件走査"
+    echo "$PLAN" | grep "tableScan"
+    exit 1
+  else
+    echo "[OK] $name"
+  fi
+done || FAILED=1
+
+if [ "$FAILED" -ne 0 ]; then
+  echo "--- インデックスが使われないクエリがあります ---"
+  exit 1
+fi
+echo "--- 完了 ---"
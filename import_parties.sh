@@ -0,0 +1,55 @@
+#!/bin/bash
+# 参加者（企業・借り手・投資家）の一括登録
+# ファイルを /api/v1/parties/import に送信してジョブを投入し、完了まで進捗を表示する。
+# 不正な行があれば「ファイル名.errors.csv」（行番号,エラー,レコード）に保存する。
+# 使い方: ./import_parties.sh <COMPANY|BORROWER|INVESTOR> <ファイル(.csv / .ndjson)> [APIのURL=http://localhost:8080]
+# 事前に: サーバーが起動していること、jqコマンドが必要です
+
+set -e
+
+if [ $# -lt 2 ]; then
+  sed -n '2,6p' "$0"
+  exit 1
+fi
+
+TYPE=$1
+FILE=$2
+API_URL="${3:-http://localhost:8080}/api/v1"
+case "$FILE" in
+  *.ndjson|*.jsonl) CONTENT_TYPE=application/x-ndjson ;;
+  *) CONTENT_TYPE=text/csv ;;
+esac
+
+RESPONSE=$(curl -s -w '\n%{http_code}' -X POST "$API_URL/parties/import?type=$TYPE" \
+  -H "Content-Type: $CONTENT_TYPE" --data-binary @"$FILE")
+STATUS=$(echo "$RESPONSE" | tail -1)
+if [ "$STATUS" != "202" ]; then
+  echo "投入に失敗しました: HTTP $STATUS $(echo "$RESPONSE" | sed '$d')"
+  exit 1
+fi
+JOB_ID=$(echo "$RESPONSE" | sed '$d' | jq -r '.id')
+echo "ジョブ $JOB_ID を投入しました（$FILE, $TYPE）"
+
+while true; do
+  JOB=$(curl -s "$API_URL/jobs/$JOB_ID")
+  JOB_STATUS=$(echo "$JOB" | jq -r '.status')
+  case "$JOB_STATUS" in
+    SUCCEEDED|FAILED|CANCELLED) break ;;
+  esac
+  echo "  $JOB_STATUS: $(echo "$JOB" | jq -r '.processedItems') 行"
+  sleep 1
+done
+
+echo "$JOB_STATUS: $(echo "$JOB" | jq -r '.resultMessage')"
+STARTED=$(date -d "$(echo "$JOB" | jq -r '.startedAt')" +%s.%N)
+FINISHED=$(date -d "$(echo "$JOB" | jq -r '.finishedAt')" +%s.%N)
+echo "$STARTED $FINISHED $(echo "$JOB" | jq -r '.processedItems')" \
+  | awk '{ s = $2 - $1; printf "所要時間: %.2f 秒（%d 行、%.0f 行/秒）\n", s, $3, (s > 0 ? $3 / s : 0) }'
+
+if [ "$(curl -s "$API_URL/parties/import/$JOB_ID/errors" -o "$FILE.errors.csv" -w '%{http_code}')" = "200" ] \
+  && [ "$(wc -l < "$FILE.errors.csv")" -gt 1 ]; then
+  echo "不正な行: $(($(wc -l < "$FILE.errors.csv") - 1)) 件（$FILE.errors.csv）"
+else
+  rm -f "$FILE.errors.csv"
+fi
+[ "$JOB_STATUS" = "SUCCEEDED" ]
@@ -0,0 +1,108 @@
+package com.example.syndicatelending.loadtest;
+
+import com.example.syndicatelending.common.infrastructure.audit.AuditLog;
+import com.example.syndicatelending.common.infrastructure.audit.AuditLogReader;
+import com.example.syndicatelending.common.infrastructure.audit.AuditRecord;
+import org.HdrHistogram.Histogram;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+/**
+ * 監査ログの追記（リクエスト処理に加わる分）と読み取りのコスト。
+ * <p>
+ * ファシリティ更新相当のレコード（3項目の差分）を bench.records 件、1スレッドと bench.threads スレッドで追記し、
+ * 1件あたりの所要時間（平均・p50・p99・p99.9）を出力する。続けて全件の連鎖検証と、時刻範囲・エンティティでの検索の所要時間を出力する。
+ * 実行: {@code mvn -Ploadtest test-compile exec:java@audit-bench -Dbench.records=1000000 -Dbench.threads=8}
+ * </p>
+ */
+public final class AuditLogBenchmark {
+
+    private AuditLogBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int records = Integer.getInteger("bench.records", 1_000_000);
+        int threads = Integer.getInteger("bench.threads", 8);
+        Path dir = Files.createTempDirectory("audit-bench");
+        try {
+            System.out.printf("%-24s %10s %10s %10s %10s%n", "追記（" + records + "件）", "平均µs", "p50µs", "p99µs",
+                    "p99.9µs");
+            AuditLog warmup = new AuditLog(dir.resolve("warmup"), 64 << 20, 1000, 1000);
+            run(warmup, Math.min(records, 200_000), 1);
+            warmup.close();
+
+            AuditLog auditLog = new AuditLog(dir.resolve("log"), 64 << 20, 1000, 1000);
+            report("1スレッド", run(auditLog, records / 2, 1), records / 2);
+            Instant middle = Instant.now();
+            report(threads + "スレッド", run(auditLog, records / 2, threads), records / 2);
+            auditLog.close();
+
+            long start = System.nanoTime();
+            AuditLogReader.Result all = AuditLogReader.scan(dir.resolve("log"),
+                    new AuditLogReader.Query().verify(true).limit(0));
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("連鎖の検証: %d 件 %.2f 秒（%.0f 件/秒）、問題: %s%n", all.getScanned(), seconds,
+                    all.getScanned() / seconds, all.getProblem());
+            // 検索は5回繰り返して最短を出す（1回目はJITのウォームアップを含むため）
+            AuditLogReader.Result found = null;
+            long best = Long.MAX_VALUE;
+            for (int i = 0; i < 5; i++) {
+                start = System.nanoTime();
+                found = AuditLogReader.scan(dir.resolve("log"),
+                        new AuditLogReader.Query().from(middle).entityType("Facility").entityId(42L));
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            System.out.printf("検索（後半の時刻範囲・Facility#42）: %d 件 %.1f ms（%d 件を読んだ）%n",
+                    found.getRecords().size(), best / 1e6, found.getScanned());
+        } finally {
+            try (Stream<Path> files = Files.walk(dir)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private static Histogram run(AuditLog auditLog, int records, int threads) throws InterruptedException {
+        Histogram total = new Histogram(3_600_000_000_000L, 3);
+        List<Histogram> histograms = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            Histogram histogram = new Histogram(3_600_000_000_000L, 3);
+            histograms.add(histogram);
+            int count = records / threads;
+            int offset = t;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < count; i++) {
+                    long id = (i * 31L + offset) % 1000;
+                    List<AuditRecord.Change> changes = List.of(
+                            new AuditRecord.Change("commitment", "5000000.00 JPY", (5000000 + i) + ".00 JPY"),
+                            new AuditRecord.Change("interestRate", "0.0125 (ratio)", "0.0150 (ratio)"),
+                            new AuditRecord.Change("updatedAt", "2026-10-19T10:58:41.599498",
+                                    "2026-10-19T10:58:42.123456"));
+                    long start = System.nanoTime();
+                    auditLog.append(AuditRecord.Op.UPDATE, "Facility", id, i, "user-" + offset, changes);
+                    histogram.recordValue(System.nanoTime() - start);
+                }
+                done.countDown();
+            });
+            thread.start();
+        }
+        done.await();
+        histograms.forEach(total::add);
+        return total;
+    }
+
+    private static void report(String label, Histogram histogram, int records) {
+        System.out.printf("%-24s %10.2f %10.2f %10.2f %10.2f%n", label + "（" + records + "件）",
+                histogram.getMean() / 1000, histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0, histogram.getValueAtPercentile(99.9) / 1000.0);
+    }
+}
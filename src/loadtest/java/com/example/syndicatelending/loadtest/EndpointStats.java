@@ -0,0 +1,71 @@
+package com.example.syndicatelending.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 操作ごとのレイテンシ（HDRヒストグラム、マイクロ秒）とエラー件数。
+ */
+final class EndpointStats {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final String name;
+    private final Histogram latency = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param latencyNanos 送信予定時刻から応答受信までの時間（送信の遅れを含む）
+     * @param outcome      HTTPステータス、または例外のクラス名
+     */
+    void record(long latencyNanos, String outcome, boolean error) {
+        latency.recordValue(Math.min(MAX_TRACKABLE_MICROS, Math.max(1, latencyNanos / 1000)));
+        if (error) {
+            errors.increment();
+        }
+        outcomes.computeIfAbsent(outcome, o -> new LongAdder()).increment();
+    }
+
+    void reset() {
+        latency.reset();
+        errors.reset();
+        outcomes.clear();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    long getCount() {
+        return latency.getTotalCount();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    double getPercentileMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    double getMaxMillis() {
+        return latency.getMaxValue() / 1000.0;
+    }
+
+    Map<String, Long> getOutcomes() {
+        Map<String, Long> result = new TreeMap<>();
+        outcomes.forEach((k, v) -> result.put(k, v.sum()));
+        return result;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.syndicatelending.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 負荷試験中に作成されたエンティティのID。各操作はここから参照先を選び、作成結果を追加する。
+ */
+final class Fixture {
+
+    final URI baseUri;
+    final ObjectMapper objectMapper = new ObjectMapper();
+    final AtomicLong sequence = new AtomicLong();
+
+    private final List<Long> borrowerIds = new ArrayList<>();
+    private final List<Long> investorIds = new ArrayList<>();
+    private final List<Long> syndicateIds = new ArrayList<>();
+    private final List<Long> facilityIds = new ArrayList<>();
+    final Map<Long, Syndicate> syndicates = new ConcurrentHashMap<>();
+    final Map<Long, Long> facilityVersions = new ConcurrentHashMap<>();
+    final Map<Long, Long> facilitySyndicates = new ConcurrentHashMap<>();
+    /** 更新中でないファシリティ（同一ファシリティへの同時更新で楽観ロックの競合を起こさないため） */
+    final Queue<Long> idleFacilities = new ConcurrentLinkedQueue<>();
+    volatile Long companyId;
+
+    Fixture(URI baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    static final class Syndicate {
+        final Long borrowerId;
+        final List<Long> memberIds;
+
+        Syndicate(Long borrowerId, List<Long> memberIds) {
+            this.borrowerId = borrowerId;
+            this.memberIds = memberIds;
+        }
+    }
+
+    void addBorrower(Long id) {
+        synchronized (borrowerIds) {
+            borrowerIds.add(id);
+        }
+    }
+
+    void addInvestor(Long id) {
+        synchronized (investorIds) {
+            investorIds.add(id);
+        }
+    }
+
+    void addSyndicate(Long id, Syndicate syndicate) {
+        syndicates.put(id, syndicate);
+        synchronized (syndicateIds) {
+            syndicateIds.add(id);
+        }
+    }
+
+    void addFacility(Long id, Long syndicateId, Long version) {
+        facilityVersions.put(id, version);
+        facilitySyndicates.put(id, syndicateId);
+        idleFacilities.add(id);
+        synchronized (facilityIds) {
+            facilityIds.add(id);
+        }
+    }
+
+    Long randomBorrower(Random random) {
+        return pick(borrowerIds, random);
+    }
+
+    Long randomInvestor(Random random) {
+        return pick(investorIds, random);
+    }
+
+    List<Long> randomInvestors(Random random, int count) {
+        List<Long> result = new ArrayList<>();
+        synchronized (investorIds) {
+            while (result.size() < Math.min(count, investorIds.size())) {
+                Long id = investorIds.get(random.nextInt(investorIds.size()));
+                if (!result.contains(id)) {
+                    result.add(id);
+                }
+            }
+        }
+        return result;
+    }
+
+    Long randomSyndicate(Random random) {
+        return pick(syndicateIds, random);
+    }
+
+    Long randomFacility(Random random) {
+        return pick(facilityIds, random);
+    }
+
+    private static Long pick(List<Long> ids, Random random) {
+        synchronized (ids) {
+            return ids.get(random.nextInt(ids.size()));
+        }
+    }
+
+    HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).header("Accept", "application/json");
+    }
+
+    HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException ex) {
+            throw new IllegalStateException("JSONとして解釈できない応答: " + body, ex);
+        }
+    }
+
+    /**
+     * 計測前の初期データ投入（同期実行・計測対象外）。
+     */
+    void seed(HttpClient client, Random random, int borrowers, int investors, int syndicates, int facilities)
+            throws IOException, InterruptedException {
+        companyId = send(client, Operation.companyRequest(this)).get("id").asLong();
+        for (int i = 0; i < borrowers; i++) {
+            addBorrower(send(client, Operation.BORROWER_CREATE.prepare(this, random).request).get("id").asLong());
+        }
+        for (int i = 0; i < investors; i++) {
+            addInvestor(send(client, Operation.INVESTOR_CREATE.prepare(this, random).request).get("id").asLong());
+        }
+        for (int i = 0; i < syndicates; i++) {
+            Operation.Call call = Operation.SYNDICATE_CREATE.prepare(this, random);
+            call.complete(200, send(client, call.request));
+        }
+        for (int i = 0; i < facilities; i++) {
+            Operation.Call call = Operation.FACILITY_CREATE.prepare(this, random);
+            call.complete(200, send(client, call.request));
+        }
+    }
+
+    private JsonNode send(HttpClient client, HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("初期データの作成に失敗しました: " + request.method() + " " + request.uri()
+                    + " -> HTTP " + response.statusCode() + " " + response.body());
+        }
+        return readTree(response.body());
+    }
+}
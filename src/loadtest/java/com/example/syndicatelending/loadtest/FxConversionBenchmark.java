@@ -0,0 +1,125 @@
+package com.example.syndicatelending.loadtest;
+
+import com.example.syndicatelending.common.infrastructure.fx.FxRateTable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 為替レート表の参照と、ポートフォリオ合計の換算コストの計測。
+ * <p>
+ * bench.currencies 通貨 × bench.years 年分の日次レート（対USD）で表を作り、bench.amounts 件の金額について
+ * (1) 符号化済み通貨での参照、(2) 通貨コード・日付での参照、(3) 明細ごとのBigDecimal換算、
+ * (4) 通貨別に合計してから換算（LoanBookSnapshotの報告通貨換算と同じ方式）の1件あたりの所要時間を出力する。
+ * 実行: {@code mvn -Ploadtest test-compile exec:java@fx-bench -Dbench.amounts=1000000}
+ * </p>
+ */
+public final class FxConversionBenchmark {
+
+    /** JITによる結果の除去を防ぐ */
+    private static volatile double sink;
+
+    private static final String[] CODES = { "USD", "JPY", "EUR", "GBP", "CHF", "AUD", "CAD", "NZD", "SEK", "NOK",
+            "DKK", "SGD", "HKD", "CNY", "KRW", "INR", "THB", "MYR", "IDR", "PHP", "TWD", "MXN", "BRL", "ZAR" };
+
+    private FxConversionBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int currencies = Math.min(Integer.getInteger("bench.currencies", 20), CODES.length);
+        int years = Integer.getInteger("bench.years", 10);
+        int amounts = Integer.getInteger("bench.amounts", 1_000_000);
+        int iterations = Integer.getInteger("bench.iterations", 10);
+        Random random = new Random(42);
+
+        LocalDate start = LocalDate.of(2016, 1, 1);
+        int days = years * 365;
+        FxRateTable.Builder builder = FxRateTable.builder();
+        for (int c = 1; c < currencies; c++) {
+            double rate = 0.5 + random.nextDouble() * 150;
+            for (int d = 0; d < days; d++) {
+                // 週末は提示なし（直前のレートで埋まる）
+                if (d % 7 < 5) {
+                    rate *= 1 + (random.nextGaussian() * 0.005);
+                    builder.add("USD", CODES[c], start.plusDays(d), rate);
+                }
+            }
+        }
+        long buildStart = System.nanoTime();
+        FxRateTable table = builder.build("USD", 7);
+        System.out.printf("レート表: 通貨 %d、レート %d 件、構築 %.1f ms%n", currencies, table.getQuoteCount(),
+                (System.nanoTime() - buildStart) / 1e6);
+
+        int target = table.indexOf("JPY");
+        long[] cents = new long[amounts];
+        int[] currency = new int[amounts];
+        long[] epochDay = new long[amounts];
+        List<String> currencyCodes = new ArrayList<>();
+        List<LocalDate> dates = new ArrayList<>();
+        for (int i = 0; i < amounts; i++) {
+            cents[i] = 100_00L + (long) (random.nextDouble() * 1_000_000_000_00L);
+            currency[i] = random.nextInt(currencies);
+            epochDay[i] = start.toEpochDay() + random.nextInt(days);
+            currencyCodes.add(table.getCurrencies().get(currency[i]));
+            dates.add(LocalDate.ofEpochDay(epochDay[i]));
+        }
+        LocalDate asOf = start.plusDays(days - 1);
+
+        System.out.printf("%-34s %12s%n", "処理（" + amounts + "件）", "ns/件");
+        report("参照（符号化済み通貨・エポック日）", amounts, iterations, () -> {
+            double sum = 0;
+            for (int i = 0; i < amounts; i++) {
+                sum += table.rate(currency[i], target, epochDay[i]);
+            }
+            return sum;
+        });
+        report("参照（通貨コード・LocalDate）", amounts, iterations, () -> {
+            double sum = 0;
+            for (int i = 0; i < amounts; i++) {
+                sum += table.rate(currencyCodes.get(i), "JPY", dates.get(i));
+            }
+            return sum;
+        });
+        report("明細ごとにBigDecimalで換算して合計", amounts, iterations, () -> {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int i = 0; i < amounts; i++) {
+                double rate = table.rate(currency[i], target, epochDay[i]);
+                sum = sum.add(BigDecimal.valueOf(cents[i], 2).multiply(BigDecimal.valueOf(rate)));
+            }
+            return sum.setScale(2, RoundingMode.HALF_UP).doubleValue();
+        });
+        report("通貨別に合計してから換算（基準日）", amounts, iterations, () -> {
+            long[] byCurrency = new long[table.getCurrencies().size()];
+            for (int i = 0; i < amounts; i++) {
+                byCurrency[currency[i]] += cents[i];
+            }
+            double[] factors = table.factors(table.getCurrencies(), "JPY", asOf);
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int c = 0; c < byCurrency.length; c++) {
+                sum = sum.add(BigDecimal.valueOf(byCurrency[c], 2).multiply(BigDecimal.valueOf(factors[c])));
+            }
+            return sum.setScale(2, RoundingMode.HALF_UP).doubleValue();
+        });
+    }
+
+    private static void report(String label, int amounts, int iterations, Workload workload) {
+        // 1回目はウォームアップ
+        sink = workload.run();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            sink = workload.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-34s %12.1f%n", label, (double) best / amounts);
+    }
+
+    @FunctionalInterface
+    private interface Workload {
+        double run();
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.syndicatelending.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 設定した比率の操作を一定レートで送信し、操作ごとのレイテンシを記録する。
+ * <p>
+ * 応答を待たずに送信予定時刻どおりに送るオープンモデルで、レイテンシは送信予定時刻から計測する
+ * （サーバーが詰まって送信が遅れた分も計上され、coordinated omissionで分位点が過小にならない）。
+ * HTTPクライアントの実行スレッドは、Java 21以降なら仮想スレッド、それ以前は固定サイズのプールを使う。
+ * </p>
+ */
+final class LoadDriver {
+
+    private final LoadTestConfig config;
+    private final Fixture fixture;
+    private final Random random;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final EndpointStats total = new EndpointStats("TOTAL");
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final Semaphore inFlight;
+
+    LoadDriver(LoadTestConfig config, URI baseUri) {
+        this.config = config;
+        this.fixture = new Fixture(baseUri);
+        this.random = new Random(config.seed);
+        this.inFlight = new Semaphore(config.maxInFlight);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation.name, new EndpointStats(operation.name));
+        }
+        this.operations = new Operation[config.mix.size()];
+        this.cumulativeWeights = new int[config.mix.size()];
+        int i = 0;
+        int sum = 0;
+        for (Map.Entry<String, Integer> entry : config.mix.entrySet()) {
+            sum += entry.getValue();
+            operations[i] = Operation.byName(entry.getKey());
+            cumulativeWeights[i++] = sum;
+        }
+    }
+
+    LoadReport run() throws Exception {
+        ExecutorService executor = clientExecutor(config.clientThreads);
+        try {
+            HttpClient client = HttpClient.newBuilder().executor(executor).version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5)).build();
+            fixture.seed(client, random, 5, 20, 5, 20);
+
+            if (config.warmupSeconds > 0) {
+                drive(client, config.warmupSeconds);
+                awaitInFlight();
+                stats.values().forEach(EndpointStats::reset);
+                total.reset();
+            }
+            long start = System.nanoTime();
+            long sent = drive(client, config.durationSeconds);
+            awaitInFlight();
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+            return new LoadReport(config, stats.values(), total, sent, elapsedSeconds);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return 送信件数
+     */
+    private long drive(HttpClient client, int seconds) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate;
+        long count = (long) config.rate * seconds;
+        long phaseStart = System.nanoTime();
+        for (long i = 0; i < count; i++) {
+            long intended = phaseStart + i * intervalNanos;
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquire();
+            send(client, choose(), intended);
+        }
+        return count;
+    }
+
+    private void send(HttpClient client, Operation operation, long intended) {
+        Operation.Call call;
+        try {
+            call = operation.prepare(fixture, random);
+        } catch (RuntimeException ex) {
+            inFlight.release();
+            record(operation.name, System.nanoTime() - intended, ex.getClass().getSimpleName(), true);
+            return;
+        }
+        HttpResponse.BodyHandler<String> handler = call.needsBody() ? HttpResponse.BodyHandlers.ofString()
+                : HttpResponse.BodyHandlers.replacing(null);
+        client.sendAsync(call.request, handler).whenComplete((response, ex) -> {
+            long latency = System.nanoTime() - intended;
+            try {
+                if (ex != null) {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    record(call.name, latency, cause.getClass().getSimpleName(), true);
+                    call.complete(599, null);
+                    return;
+                }
+                int status = response.statusCode();
+                record(call.name, latency, String.valueOf(status), status >= 400);
+                JsonNode body = call.needsBody() && status < 300 ? fixture.readTree(response.body()) : null;
+                call.complete(status, body);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private void record(String name, long latencyNanos, String outcome, boolean error) {
+        stats.get(name).record(latencyNanos, outcome, error);
+        total.record(latencyNanos, outcome, error);
+    }
+
+    private Operation choose() {
+        int r = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (r < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        if (inFlight.tryAcquire(config.maxInFlight, 60, TimeUnit.SECONDS)) {
+            inFlight.release(config.maxInFlight);
+        }
+    }
+
+    /**
+     * Java 21以降は仮想スレッド（Executors#newVirtualThreadPerTaskExecutor）を使う。
+     * プロジェクトはJava 17でビルドするため、リフレクションで存在を確認する。
+     */
+    private static ExecutorService clientExecutor(int threads) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            return Executors.newFixedThreadPool(threads, r -> {
+                Thread thread = new Thread(r, "loadtest-client");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
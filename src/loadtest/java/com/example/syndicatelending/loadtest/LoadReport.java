@@ -0,0 +1,105 @@
+package com.example.syndicatelending.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 負荷試験の結果（操作ごとの件数・エラー・分位点）と合格判定。
+ */
+final class LoadReport {
+
+    private final LoadTestConfig config;
+    private final List<EndpointStats> endpoints = new ArrayList<>();
+    private final EndpointStats total;
+    private final long sent;
+    private final double elapsedSeconds;
+
+    LoadReport(LoadTestConfig config, Collection<EndpointStats> endpoints, EndpointStats total, long sent,
+            double elapsedSeconds) {
+        this.config = config;
+        for (EndpointStats stats : endpoints) {
+            if (stats.getCount() > 0) {
+                this.endpoints.add(stats);
+            }
+        }
+        this.total = total;
+        this.sent = sent;
+        this.elapsedSeconds = elapsedSeconds;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n=== 負荷試験結果: 目標 %d req/s × %d秒, 送信 %d件, 実測 %.1f req/s ===%n", config.rate,
+                config.durationSeconds, sent, total.getCount() / elapsedSeconds);
+        out.printf("%-18s %8s %7s %9s %9s %9s %9s  %s%n", "endpoint", "count", "errors", "p50(ms)", "p99(ms)",
+                "p99.9(ms)", "max(ms)", "outcomes");
+        for (EndpointStats stats : endpoints) {
+            printRow(out, stats);
+        }
+        printRow(out, total);
+    }
+
+    private static void printRow(PrintStream out, EndpointStats stats) {
+        out.printf("%-18s %8d %7d %9.2f %9.2f %9.2f %9.2f  %s%n", stats.getName(), stats.getCount(),
+                stats.getErrors(), stats.getPercentileMillis(50), stats.getPercentileMillis(99),
+                stats.getPercentileMillis(99.9), stats.getMaxMillis(), stats.getOutcomes());
+    }
+
+    void write(String file) throws IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("targetRate", config.rate);
+        result.put("durationSeconds", config.durationSeconds);
+        result.put("sent", sent);
+        result.put("achievedRate", total.getCount() / elapsedSeconds);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (EndpointStats stats : endpoints) {
+            rows.add(toMap(stats));
+        }
+        result.put("endpoints", rows);
+        result.put("total", toMap(total));
+        Path path = Paths.get(file);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), result);
+    }
+
+    private static Map<String, Object> toMap(EndpointStats stats) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("endpoint", stats.getName());
+        row.put("count", stats.getCount());
+        row.put("errors", stats.getErrors());
+        row.put("p50Ms", stats.getPercentileMillis(50));
+        row.put("p99Ms", stats.getPercentileMillis(99));
+        row.put("p999Ms", stats.getPercentileMillis(99.9));
+        row.put("maxMs", stats.getMaxMillis());
+        row.put("outcomes", stats.getOutcomes());
+        return row;
+    }
+
+    /**
+     * 合格条件に反する項目。空なら合格。
+     */
+    List<String> violations() {
+        List<String> result = new ArrayList<>();
+        double errorRate = total.getCount() == 0 ? 1.0 : (double) total.getErrors() / total.getCount();
+        if (config.maxErrorRate > 0 && errorRate > config.maxErrorRate) {
+            result.add(String.format("エラー率 %.4f > %.4f", errorRate, config.maxErrorRate));
+        }
+        double p99 = total.getPercentileMillis(99);
+        if (config.maxP99Millis > 0 && p99 > config.maxP99Millis) {
+            result.add(String.format("p99 %.2fms > %.2fms", p99, config.maxP99Millis));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.syndicatelending.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 負荷試験の設定（システムプロパティ loadtest.* から読み込む）。
+ */
+final class LoadTestConfig {
+
+    static final String DEFAULT_MIX = "facility.get=30,facility.list=10,syndicate.list=5,investor.list=5,"
+            + "investor.create=10,borrower.create=3,syndicate.create=5,facility.create=10,facility.update=10,"
+            + "drawdown.create=12";
+
+    /** 対象サーバー。未指定ならアプリケーションをランダムポートで起動する */
+    final String baseUrl;
+    /** 秒間リクエスト数（オープンモデル。応答を待たずに一定間隔で送信する） */
+    final int rate;
+    final int warmupSeconds;
+    final int durationSeconds;
+    /** 同時送信数の上限。上限に達すると送信が遅れ、その遅れもレイテンシに計上される */
+    final int maxInFlight;
+    final int clientThreads;
+    /** 操作名 → 重み */
+    final Map<String, Integer> mix;
+    /** 合格条件（0以下で無効） */
+    final double maxErrorRate;
+    final double maxP99Millis;
+    final String reportFile;
+    final long seed;
+
+    private LoadTestConfig() {
+        this.baseUrl = System.getProperty("loadtest.base-url");
+        this.rate = Integer.getInteger("loadtest.rate", 50);
+        this.warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 5);
+        this.durationSeconds = Integer.getInteger("loadtest.duration-seconds", 30);
+        this.maxInFlight = Integer.getInteger("loadtest.max-in-flight", 256);
+        this.clientThreads = Integer.getInteger("loadtest.client-threads",
+                Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+        this.mix = parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX));
+        this.maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+        this.maxP99Millis = Double.parseDouble(System.getProperty("loadtest.max-p99-ms", "0"));
+        this.reportFile = System.getProperty("loadtest.report-file");
+        this.seed = Long.getLong("loadtest.seed", 42L);
+        if (rate <= 0 || durationSeconds <= 0) {
+            throw new IllegalArgumentException("loadtest.rate と loadtest.duration-seconds は1以上を指定してください");
+        }
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig();
+    }
+
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] kv = part.trim().split("=");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix の形式が不正です: " + part);
+            }
+            Operation.byName(kv[0].trim());
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight > 0) {
+                result.put(kv[0].trim(), weight);
+            }
+        }
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix に重み1以上の操作がありません");
+        }
+        return result;
+    }
+}
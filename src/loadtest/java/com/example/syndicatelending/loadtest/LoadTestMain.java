@@ -0,0 +1,58 @@
+package com.example.syndicatelending.loadtest;
+
+import com.example.syndicatelending.DemoApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * REST APIの負荷試験。外部サービスに依存せず、アプリケーションをランダムポート（H2インメモリ）で起動して計測する。
+ * <p>
+ * 実行: {@code mvn -Ploadtest verify -Dloadtest.rate=200 -Dloadtest.duration-seconds=60}。
+ * 設定は {@link LoadTestConfig} を参照。合格条件（loadtest.max-error-rate / loadtest.max-p99-ms）を満たさない場合は
+ * 例外で終了し、ビルドを失敗させる。
+ * </p>
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ConfigurableApplicationContext context = null;
+        try {
+            URI baseUri;
+            if (config.baseUrl == null) {
+                // application.propertiesより優先させるため、コマンドライン引数として渡す
+                List<String> arguments = new ArrayList<>(List.of("--server.port=0", "--spring.jpa.show-sql=false",
+                        "--spring.main.banner-mode=off", "--logging.level.root=WARN"));
+                arguments.addAll(Arrays.asList(args));
+                context = new SpringApplicationBuilder(DemoApplication.class).run(arguments.toArray(new String[0]));
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                baseUri = URI.create("http://localhost:" + port + "/api/v1/");
+            } else {
+                baseUri = URI.create(config.baseUrl.replaceAll("/+$", "") + "/api/v1/");
+            }
+
+            LoadReport report = new LoadDriver(config, baseUri).run();
+            report.print(System.out);
+            if (config.reportFile != null) {
+                report.write(config.reportFile);
+            }
+            List<String> violations = report.violations();
+            if (!violations.isEmpty()) {
+                throw new IllegalStateException("負荷試験の合格条件を満たしていません: " + violations);
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+}
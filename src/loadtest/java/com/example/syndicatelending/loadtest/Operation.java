@@ -0,0 +1,245 @@
+package com.example.syndicatelending.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * 負荷試験で送信する操作（エンドポイント）。名前はレポートとloadtest.mixで使う。
+ */
+enum Operation {
+
+    FACILITY_GET("facility.get") {
+        @Override
+        Call prepare(Fixture fixture, Random random) {
+            return new Call(name, fixture.request("facilities/" + fixture.randomFacility(random)).GET().build());
+        }
+    },
+    FACILITY_OVERVIEW("facility.overview") {
+        @Override
+        Call prepare(Fixture fixture, Random random) {
+            return new Call(name,
+                    fixture.request("facilities/" + fixture.randomFacility(random) + "/overview").GET().build());
+        }
+    },
+    FACILITY_QUERY("facility.query") {
+        @Override
+        Call prepare(Fixture fixture, Random random) {
+            String query = "facilities(ids: [" + fixture.randomFacility(random) + "]) { id commitment "
+                    + "sharePies { share investor { name } } syndicate { name borrower { name } members { name } } "
+                    + "drawdowns { amount transactionDate } }";
+            return new Call(name, post(fixture, "query", Map.of("query", query)));
+        }
+    },
+    FACILITY_LIST("facility.list") {
+        @Override
+        Call prepare(Fixture fixture, Random random) {
+            return new Call(name, fixture.request("facilities?page=0&size=20").GET().build());
+        }
+    },
+    SYNDICATE_LIST("syndicate.list") {
+        @Override
+        Call prepare(Fixture fixture, Random random) {
+            return new Call(name, fixture.request("syndicates?page=0&size=20").GET().build());
+        }
+    },
+    INVESTOR_LIST("investor.list") {
+        @Override
+        Call prepare(Fixture fixture, Random random) {
+            return new Call(name, fixture.request("parties/investors?page=0&size=20").GET().build());
+        }
+    },
+    INVESTOR_CREATE("investor.create") {
+        @Override
+        Call prepare(Fixture fixture, Random random) {
+            long n = fixture.sequence.incrementAndGet();
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("name", "LT Investor " + n);
+            body.put("email", "investor" + n + "@loadtest.example.com");
+            body.put("phoneNumber", "000-0000-0000");
+            body.put("investmentCapacity", 100_000_000);
+            body.put("investorType", n % 5 == 0 ? "LEAD_BANK" : "BANK");
+            return new Call(name, post(fixture, "parties/investors", body),
+                    created -> fixture.addInvestor(created.get("id").asLong()), null);
+        }
+    },
+    BORROWER_CREATE("borrower.create") {
+        @Override
+        Call prepare(Fixture fixture, Random random) {
+            long n = fixture.sequence.incrementAndGet();
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("name", "LT Borrower " + n);
+            body.put("email", "borrower" + n + "@loadtest.example.com");
+            body.put("phoneNumber", "000-0000-0000");
+            body.put("companyId", String.valueOf(fixture.companyId));
+            body.put("creditLimit", 1_000_000_000_000L);
+            body.put("creditRating", "AA");
+            return new Call(name, post(fixture, "parties/borrowers", body),
+                    created -> fixture.addBorrower(created.get("id").asLong()), null);
+        }
+    },
+    SYNDICATE_CREATE("syndicate.create") {
+        @Override
+        Call prepare(Fixture fixture, Random random) {
+            Long borrowerId = fixture.randomBorrower(random);
+            List<Long> members = fixture.randomInvestors(random, 3);
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("name", "LT Syndicate " + fixture.sequence.incrementAndGet());
+            body.put("leadBankId", members.get(0));
+            body.put("borrowerId", borrowerId);
+            body.put("memberInvestorIds", members);
+            return new Call(name, post(fixture, "syndicates", body), created -> fixture
+                    .addSyndicate(created.get("id").asLong(), new Fixture.Syndicate(borrowerId, members)), null);
+        }
+    },
+    FACILITY_CREATE("facility.create") {
+        @Override
+        Call prepare(Fixture fixture, Random random) {
+            Long syndicateId = fixture.randomSyndicate(random);
+            Map<String, Object> body = facilityBody(syndicateId, fixture.syndicates.get(syndicateId), random);
+            return new Call(name, post(fixture, "facilities", body), created -> fixture
+                    .addFacility(created.get("id").asLong(), syndicateId, created.get("version").asLong()), null);
+        }
+    },
+    FACILITY_UPDATE("facility.update") {
+        @Override
+        Call prepare(Fixture fixture, Random random) {
+            Long facilityId = fixture.idleFacilities.poll();
+            if (facilityId == null) {
+                // 全ファシリティが更新中の場合は参照で代替する
+                return FACILITY_GET.prepare(fixture, random);
+            }
+            Long syndicateId = fixture.facilitySyndicates.get(facilityId);
+            Map<String, Object> body = facilityBody(syndicateId, fixture.syndicates.get(syndicateId), random);
+            body.put("version", fixture.facilityVersions.get(facilityId));
+            HttpRequest request = fixture.request("facilities/" + facilityId)
+                    .header("Content-Type", "application/json").PUT(fixture.json(body)).build();
+            return new Call(name, request,
+                    updated -> fixture.facilityVersions.put(facilityId, updated.get("version").asLong()),
+                    () -> fixture.idleFacilities.add(facilityId));
+        }
+    },
+    DRAWDOWN_CREATE("drawdown.create") {
+        @Override
+        Call prepare(Fixture fixture, Random random) {
+            Long facilityId = fixture.randomFacility(random);
+            Fixture.Syndicate syndicate = fixture.syndicates.get(fixture.facilitySyndicates.get(facilityId));
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("facilityId", facilityId);
+            body.put("borrowerId", syndicate.borrowerId);
+            body.put("amount", 10_000 + random.nextInt(1_000_000));
+            body.put("currency", "USD");
+            body.put("purpose", "Load test");
+            body.put("annualInterestRate", 0.025);
+            body.put("drawdownDate", LocalDate.now().minusDays(random.nextInt(365)).toString());
+            body.put("repaymentPeriodMonths", 12);
+            body.put("repaymentCycle", "MONTHLY");
+            body.put("repaymentMethod", "EQUAL_INSTALLMENT");
+            return new Call(name, post(fixture, "loans/drawdowns", body));
+        }
+    };
+
+    final String name;
+
+    Operation(String name) {
+        this.name = name;
+    }
+
+    abstract Call prepare(Fixture fixture, Random random);
+
+    static Operation byName(String name) {
+        for (Operation operation : values()) {
+            if (operation.name.equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("未知の操作: " + name);
+    }
+
+    static HttpRequest companyRequest(Fixture fixture) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("companyName", "LT Company");
+        body.put("registrationNumber", "LT-" + System.nanoTime());
+        body.put("industry", "IT");
+        body.put("address", "Tokyo");
+        body.put("country", "JAPAN");
+        return post(fixture, "parties/companies", body);
+    }
+
+    private static HttpRequest post(Fixture fixture, String path, Object body) {
+        return fixture.request(path).header("Content-Type", "application/json").POST(fixture.json(body)).build();
+    }
+
+    /**
+     * シンジケートのメンバーで均等に按分したファシリティ（端数は最後のメンバーに寄せて合計1.0にする）。
+     */
+    private static Map<String, Object> facilityBody(Long syndicateId, Fixture.Syndicate syndicate, Random random) {
+        List<Map<String, Object>> sharePies = new ArrayList<>();
+        BigDecimal each = BigDecimal.ONE.divide(BigDecimal.valueOf(syndicate.memberIds.size()), 4, RoundingMode.DOWN);
+        BigDecimal remaining = BigDecimal.ONE;
+        for (int i = 0; i < syndicate.memberIds.size(); i++) {
+            BigDecimal share = i == syndicate.memberIds.size() - 1 ? remaining : each;
+            remaining = remaining.subtract(share);
+            Map<String, Object> pie = new LinkedHashMap<>();
+            pie.put("investorId", syndicate.memberIds.get(i));
+            pie.put("share", share);
+            sharePies.add(pie);
+        }
+        LocalDate start = LocalDate.now().withDayOfMonth(1);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("syndicateId", syndicateId);
+        body.put("commitment", 1_000_000 + random.nextInt(9_000_000));
+        body.put("currency", "USD");
+        body.put("startDate", start.toString());
+        body.put("endDate", start.plusYears(1 + random.nextInt(5)).toString());
+        body.put("interestTerms", "SOFR + 2%");
+        body.put("sharePies", sharePies);
+        return body;
+    }
+
+    /**
+     * 送信1回分。作成系は2xx応答の本文からIDを取り込む。
+     */
+    static final class Call {
+        final String name;
+        final HttpRequest request;
+        private final Consumer<JsonNode> onSuccess;
+        private final Runnable onFinished;
+
+        Call(String name, HttpRequest request) {
+            this(name, request, null, null);
+        }
+
+        Call(String name, HttpRequest request, Consumer<JsonNode> onSuccess, Runnable onFinished) {
+            this.name = name;
+            this.request = request;
+            this.onSuccess = onSuccess;
+            this.onFinished = onFinished;
+        }
+
+        boolean needsBody() {
+            return onSuccess != null;
+        }
+
+        void complete(int status, JsonNode body) {
+            try {
+                if (status < 300 && onSuccess != null && body != null) {
+                    onSuccess.accept(body);
+                }
+            } finally {
+                if (onFinished != null) {
+                    onFinished.run();
+                }
+            }
+        }
+    }
+}
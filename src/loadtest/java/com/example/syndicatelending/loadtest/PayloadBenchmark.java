@@ -0,0 +1,101 @@
+package com.example.syndicatelending.loadtest;
+
+import com.example.syndicatelending.common.infrastructure.web.FieldSelection;
+import com.example.syndicatelending.entity.Drawdown;
+import com.example.syndicatelending.entity.Facility;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 一覧APIの応答サイズとシリアライズCPUの比較（全項目／fields指定 × 非圧縮／gzip）。
+ * <p>
+ * fieldsはアプリと同じ {@link FieldSelection#apply} 経由でフィルタを組み立て、gzipはTomcatと同じ既定の圧縮レベルで測る。
+ * 実行: {@code mvn -Ploadtest test-compile exec:java@payload-bench -Dbench.page-size=200 -Dbench.iterations=200}
+ * </p>
+ */
+public final class PayloadBenchmark {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    /** JITによる結果の除去を防ぐ */
+    private static volatile long sink;
+
+    private PayloadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int pageSize = Integer.getInteger("bench.page-size", 200);
+        int iterations = Integer.getInteger("bench.iterations", 200);
+        Random random = new Random(42);
+
+        List<Facility> facilities = new ArrayList<>();
+        List<Drawdown> drawdowns = new ArrayList<>();
+        for (long i = 1; i <= pageSize; i++) {
+            facilities.add(SerializationBenchmark.facility(i, random));
+            drawdowns.add(SerializationBenchmark.drawdown(i, random));
+        }
+        PageRequest pageRequest = PageRequest.of(0, pageSize);
+        PageImpl<Facility> facilityPage = new PageImpl<>(facilities, pageRequest, pageSize * 50L);
+        PageImpl<Drawdown> drawdownPage = new PageImpl<>(drawdowns, pageRequest, pageSize * 50L);
+        ObjectMapper mapper = SerializationBenchmark.mapper(new JsonFactory(), true);
+
+        System.out.printf("=== 1ページ%d件, %d回の平均（CPUはスレッドCPU時間） ===%n", pageSize, iterations);
+        System.out.printf("%-50s %10s %12s %12s%n", "payload", "bytes", "json(µs)", "gzip(µs)");
+        run("facilities 全項目", mapper, facilityPage, null, iterations);
+        run("facilities fields=id,syndicateId,commitment", mapper, facilityPage, "id,syndicateId,commitment",
+                iterations);
+        run("drawdowns 全項目", mapper, drawdownPage, null, iterations);
+        run("drawdowns fields=id,loanId,amount,transactionDate", mapper, drawdownPage,
+                "id,loanId,amount,transactionDate", iterations);
+    }
+
+    private static void run(String name, ObjectMapper mapper, Object page, String fields, int iterations)
+            throws Exception {
+        Object body = FieldSelection.apply(page, fields);
+        ObjectWriter writer = body instanceof MappingJacksonValue value
+                ? mapper.writer(value.getFilters()).forType(Object.class)
+                : mapper.writer();
+        Object payload = body instanceof MappingJacksonValue value ? value.getValue() : body;
+
+        // JITのウォームアップ
+        for (int i = 0; i < Math.max(20, iterations / 5); i++) {
+            sink += gzip(writer.writeValueAsBytes(payload)).length;
+        }
+        long jsonNanos = 0;
+        long gzipNanos = 0;
+        int raw = 0;
+        int compressed = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = THREADS.getCurrentThreadCpuTime();
+            byte[] json = writer.writeValueAsBytes(payload);
+            long mid = THREADS.getCurrentThreadCpuTime();
+            byte[] gz = gzip(json);
+            gzipNanos += THREADS.getCurrentThreadCpuTime() - mid;
+            jsonNanos += mid - start;
+            raw = json.length;
+            compressed = gz.length;
+        }
+        System.out.printf("%-50s %10d %12.1f %12s%n", name, raw, jsonNanos / 1e3 / iterations, "-");
+        System.out.printf("%-50s %10d %12s %12.1f%n", "  + gzip", compressed, "", gzipNanos / 1e3 / iterations);
+    }
+
+    private static byte[] gzip(byte[] data) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.syndicatelending.loadtest;
+
+import com.example.syndicatelending.DemoApplication;
+import com.example.syndicatelending.common.infrastructure.datasource.PersistenceSelfCheck;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 永続化プロファイル（既定のH2インメモリ・h2file・postgres）ごとのファシリティ・ドローダウン作成スループットの比較。
+ * <p>
+ * プロファイルごとにアプリをランダムポートで起動し、初期データの投入後、bench.threads 並列のクローズドループで
+ * facility.create → drawdown.create をそれぞれ bench.writes 件実行する。HTTP・シリアライズの条件は全プロファイルで同じため、
+ * 差はDBの書き込み経路の差になる。Facility・SharePie・LoanはIDENTITY採番でINSERTがバッチ化されず、取引も1リクエスト1行のため、
+ * この計測にJDBCバッチ・reWriteBatchedInserts の効果はほぼ含まれない（効くのは返済一括登録などSEQUENCE採番の大量書き込み）。
+ * h2file は毎回新しい一時ディレクトリを使う。
+ * postgres は bench.postgres-url のDBをFlywayでcleanしてから計測するため、必ず計測専用のDBを指定すること。
+ * 実行: {@code mvn -Ploadtest test-compile exec:java@persistence-bench -Dbench.profiles=default,h2file,postgres
+ * -Dbench.postgres-url=jdbc:postgresql://localhost:5432/bench -Dbench.postgres-username=postgres}
+ * </p>
+ */
+public final class PersistenceBenchmark {
+
+    private PersistenceBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String[] profiles = System.getProperty("bench.profiles", "default,h2file").split(",");
+        int writes = Integer.getInteger("bench.writes", 1000);
+        int threads = Integer.getInteger("bench.threads", 8);
+
+        Map<String, List<Result>> results = new LinkedHashMap<>();
+        for (String profile : profiles) {
+            results.put(profile.trim(), run(profile.trim(), writes, threads));
+        }
+
+        System.out.printf("%n=== 作成スループット（各%d件, 並列%d） ===%n", writes, threads);
+        System.out.printf("%-10s %-16s %10s %12s %8s%n", "profile", "operation", "writes/s", "mean(ms)", "errors");
+        results.forEach((profile, rows) -> rows.forEach(r -> System.out.printf("%-10s %-16s %10.1f %12.2f %8d%n",
+                profile, r.operation, r.count / r.seconds, r.seconds * 1000 * threads / r.count, r.errors)));
+    }
+
+    private static List<Result> run(String profile, int writes, int threads) throws Exception {
+        // application.propertiesより優先させるため、コマンドライン引数として渡す
+        List<String> arguments = new ArrayList<>(List.of("--server.port=0", "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off", "--logging.level.root=WARN",
+                "--logging.level." + PersistenceSelfCheck.class.getName() + "=INFO"));
+        Path dataDir = null;
+        if (!profile.equals("default")) {
+            arguments.add("--spring.profiles.active=" + profile);
+        }
+        if (profile.equals("h2file")) {
+            dataDir = Files.createTempDirectory("bench-h2file");
+            arguments.add("--app.h2.data-dir=" + dataDir);
+        }
+        if (profile.equals("postgres")) {
+            String url = System.getProperty("bench.postgres-url", "jdbc:postgresql://localhost:5432/bench");
+            String username = System.getProperty("bench.postgres-username", "postgres");
+            String password = System.getProperty("bench.postgres-password", "");
+            Flyway.configure().dataSource(url, username, password).cleanDisabled(false).load().clean();
+            arguments.add("--spring.datasource.url=" + url);
+            arguments.add("--spring.datasource.username=" + username);
+            arguments.add("--spring.datasource.password=" + password);
+        }
+
+        System.out.printf("%n--- %s ---%n", profile);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .run(arguments.toArray(new String[0]));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Fixture fixture = new Fixture(URI.create("http://localhost:" + port + "/api/v1/"));
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5)).build();
+            fixture.seed(client, new Random(42), 5, 20, 5, 20);
+
+            // JITとプールのウォームアップ（計測対象外）
+            phase(executor, client, fixture, Operation.FACILITY_CREATE, Math.max(threads, writes / 10), threads);
+            phase(executor, client, fixture, Operation.DRAWDOWN_CREATE, Math.max(threads, writes / 10), threads);
+            return List.of(phase(executor, client, fixture, Operation.FACILITY_CREATE, writes, threads),
+                    phase(executor, client, fixture, Operation.DRAWDOWN_CREATE, writes, threads));
+        } finally {
+            executor.shutdownNow();
+            context.close();
+            if (dataDir != null) {
+                deleteRecursively(dataDir);
+            }
+        }
+    }
+
+    private static Result phase(ExecutorService executor, HttpClient client, Fixture fixture, Operation operation,
+            int writes, int threads) throws Exception {
+        AtomicInteger remaining = new AtomicInteger(writes);
+        AtomicInteger errors = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            Random random = new Random(42 + t);
+            workers.add(executor.submit(() -> {
+                while (remaining.getAndDecrement() > 0) {
+                    Operation.Call call = operation.prepare(fixture, random);
+                    HttpResponse<String> response = client.send(call.request, HttpResponse.BodyHandlers.ofString());
+                    int status = response.statusCode();
+                    if (status >= 400) {
+                        errors.incrementAndGet();
+                    }
+                    JsonNode body = call.needsBody() && status < 300 ? fixture.readTree(response.body()) : null;
+                    call.complete(status, body);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        return new Result(operation.name, writes, (System.nanoTime() - start) / 1e9, errors.get());
+    }
+
+    private static void deleteRecursively(Path root) throws Exception {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static final class Result {
+        final String operation;
+        final int count;
+        final double seconds;
+        final int errors;
+
+        Result(String operation, int count, double seconds, int errors) {
+            this.operation = operation;
+            this.count = count;
+            this.seconds = seconds;
+            this.errors = errors;
+        }
+    }
+}
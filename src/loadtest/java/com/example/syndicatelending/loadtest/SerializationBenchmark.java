@@ -0,0 +1,155 @@
+package com.example.syndicatelending.loadtest;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.common.infrastructure.web.MoneyJacksonModule;
+import com.example.syndicatelending.entity.Drawdown;
+import com.example.syndicatelending.entity.Facility;
+import com.example.syndicatelending.entity.SharePie;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 大きな一覧応答（Page&lt;Facility&gt;・List&lt;Drawdown&gt;）の（デ）シリアライズ性能の比較。
+ * <p>
+ * 従来の {@code @JsonValue}/{@code @JsonCreator} 経路、MoneyJacksonModule、Smile・CBORの所要時間とサイズを出力する。
+ * 実行: {@code mvn -Ploadtest test-compile exec:java@serialization-bench -Dbench.items=10000 -Dbench.iterations=30}
+ * </p>
+ */
+public final class SerializationBenchmark {
+
+    /** JITによる結果の除去を防ぐ */
+    private static volatile long sink;
+
+    private SerializationBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int items = Integer.getInteger("bench.items", 10_000);
+        int iterations = Integer.getInteger("bench.iterations", 30);
+        Random random = new Random(42);
+
+        List<Facility> facilities = new ArrayList<>();
+        List<Drawdown> drawdowns = new ArrayList<>();
+        for (long i = 1; i <= items; i++) {
+            facilities.add(facility(i, random));
+            drawdowns.add(drawdown(i, random));
+        }
+        PageImpl<Facility> page = new PageImpl<>(facilities, PageRequest.of(0, items), items * 10L);
+
+        ObjectMapper annotations = mapper(new JsonFactory(), false);
+        ObjectMapper module = mapper(new JsonFactory(), true);
+        ObjectMapper smile = mapper(new SmileFactory(), true);
+        ObjectMapper cbor = mapper(new CBORFactory(), true);
+
+        byte[] expected = annotations.writeValueAsBytes(page);
+        System.out.printf("JSON出力が従来と一致: %s%n", Arrays.equals(expected, module.writeValueAsBytes(page)));
+        System.out.printf("%n=== %d件, %d回の平均 ===%n", items, iterations);
+        System.out.printf("%-42s %10s %10s %10s%n", "payload / mapper", "write(ms)", "read(ms)", "bytes");
+
+        JavaType facilityList = annotations.getTypeFactory().constructCollectionType(List.class, Facility.class);
+        JavaType drawdownList = annotations.getTypeFactory().constructCollectionType(List.class, Drawdown.class);
+        String[] names = { "json (@JsonValue)", "json (MoneyJacksonModule)", "smile", "cbor" };
+        ObjectMapper[] mappers = { annotations, module, smile, cbor };
+        for (int m = 0; m < mappers.length; m++) {
+            run("Page<Facility> " + names[m], mappers[m], page, facilities, facilityList, iterations);
+        }
+        for (int m = 0; m < mappers.length; m++) {
+            run("List<Drawdown> " + names[m], mappers[m], drawdowns, drawdowns, drawdownList, iterations);
+        }
+    }
+
+    private static void run(String name, ObjectMapper mapper, Object payload, List<?> list, JavaType listType,
+            int iterations) throws Exception {
+        byte[] listBytes = mapper.writeValueAsBytes(list);
+        long sink = 0;
+        // JITのウォームアップ
+        for (int i = 0; i < Math.max(5, iterations / 3); i++) {
+            sink += mapper.writeValueAsBytes(payload).length;
+            sink += ((List<?>) mapper.readValue(listBytes, listType)).size();
+        }
+        int size = 0;
+        long writeNanos = 0;
+        long readNanos = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            byte[] bytes = mapper.writeValueAsBytes(payload);
+            writeNanos += System.nanoTime() - start;
+            size = bytes.length;
+            start = System.nanoTime();
+            sink += ((List<?>) mapper.readValue(listBytes, listType)).size();
+            readNanos += System.nanoTime() - start;
+        }
+        SerializationBenchmark.sink += sink;
+        System.out.printf("%-42s %10.2f %10.2f %10d%n", name, writeNanos / 1e6 / iterations,
+                readNanos / 1e6 / iterations, size);
+    }
+
+    static ObjectMapper mapper(JsonFactory factory, boolean withModule) {
+        // アプリと同様、fields未指定時はフィルタなし（全項目出力）とする
+        JsonMapper.Builder builder = JsonMapper.builder(factory).findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .filterProvider(new SimpleFilterProvider().setFailOnUnknownId(false));
+        if (withModule) {
+            builder.addModule(new MoneyJacksonModule());
+        }
+        return builder.build();
+    }
+
+    static Facility facility(long id, Random random) {
+        Facility facility = new Facility(id % 500 + 1, money(random, 1_000_000_000), "USD", LocalDate.of(2025, 1, 1),
+                LocalDate.of(2030, 1, 1), "SOFR + 2%");
+        facility.setId(id);
+        facility.setVersion(3L);
+        facility.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0));
+        facility.setUpdatedAt(LocalDateTime.of(2025, 6, 1, 9, 0));
+        List<SharePie> sharePies = new ArrayList<>();
+        String[] shares = { "0.4000", "0.3500", "0.2500" };
+        for (int i = 0; i < shares.length; i++) {
+            SharePie pie = new SharePie();
+            pie.setId(id * 3 + i);
+            pie.setInvestorId((long) i + 1);
+            pie.setShare(Percentage.of(new BigDecimal(shares[i])));
+            pie.setFacility(facility);
+            sharePies.add(pie);
+        }
+        facility.setSharePies(sharePies);
+        return facility;
+    }
+
+    static Drawdown drawdown(long id, Random random) {
+        Drawdown drawdown = new Drawdown();
+        drawdown.setId(id);
+        drawdown.setFacilityId(id % 500 + 1);
+        drawdown.setBorrowerId(id % 100 + 1);
+        drawdown.setLoanId(id);
+        drawdown.setCurrency("USD");
+        drawdown.setPurpose("Working capital");
+        drawdown.setTransactionDate(LocalDate.of(2025, 3, 1).plusDays(id % 365));
+        drawdown.setAmount(money(random, 50_000_000));
+        drawdown.setVersion(0L);
+        drawdown.setCreatedAt(LocalDateTime.of(2025, 3, 1, 9, 0));
+        drawdown.setUpdatedAt(LocalDateTime.of(2025, 3, 1, 9, 0));
+        return drawdown;
+    }
+
+    private static Money money(Random random, int bound) {
+        return Money.of(BigDecimal.valueOf(random.nextInt(bound) * 100L + random.nextInt(100), 2));
+    }
+}
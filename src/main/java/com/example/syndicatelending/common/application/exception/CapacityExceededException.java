@@ -0,0 +1,16 @@
+package com.example.syndicatelending.common.application.exception;
+
+/**
+ * 処理能力（キュー・同時実行数）の上限に達し、要求を受け付けられないことを示すアプリケーション例外。
+ * (例: ジョブキューが満杯、テナントの同時実行ジョブ数超過など) HTTP 429 に対応する。
+ */
+public class CapacityExceededException extends RuntimeException {
+
+    public CapacityExceededException(String message) {
+        super(message);
+    }
+
+    public CapacityExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.syndicatelending.common.application.exception;
+
+import java.util.Map;
+
+/**
+ * 同時更新の競合を自動で解決できないことを示すアプリケーション例外。HTTP 409 に対応する。
+ * (例: 古いバージョンからの更新が、その後の他の更新と同じ項目を別の値に変えている)
+ */
+public class UpdateConflictException extends RuntimeException {
+
+    private final Long currentVersion;
+    private final Map<String, Object> conflicts;
+
+    public UpdateConflictException(String message, Long currentVersion, Map<String, Object> conflicts) {
+        super(message);
+        this.currentVersion = currentVersion;
+        this.conflicts = conflicts;
+    }
+
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+
+    /**
+     * 項目名ごとの {base, yours, current}（基点が不明な場合のbaseはnull）
+     */
+    public Map<String, Object> getConflicts() {
+        return conflicts;
+    }
+}
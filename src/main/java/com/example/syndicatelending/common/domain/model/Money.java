@@ -4,11 +4,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import java.math.BigDecimal;
 import java.math.RoundingMode; // Use standard RoundingMode
+import java.util.Currency;
+import java.util.Locale;
 import java.util.Objects;
 
 /**
  * 金額を表すValue Object。金融計算のためBigDecimalを使用。
  * Immutable Class.
+ * <p>
+ * 通貨は任意（null は通貨未指定）。異なる通貨同士の加減算・比較は例外とし、通貨未指定との演算は相手の通貨を引き継ぐ。
+ * DB・JSONには金額のみを出力する（通貨はエンティティの通貨列で保持する）。
+ * </p>
  */
 public final class Money {
 
@@ -16,14 +22,19 @@ public final class Money {
     static final RoundingMode DEFAULT_ROUNDING_MODE = RoundingMode.HALF_UP; // デフォルトの丸めモード
 
     private final BigDecimal amount;
-    // private final Currency currency; // 通貨も考慮する場合は追加
+    private final Currency currency;
 
     private Money(BigDecimal amount) {
+        this(amount, null);
+    }
+
+    private Money(BigDecimal amount, Currency currency) {
         if (amount == null) {
             throw new IllegalArgumentException("Amount cannot be null");
         }
         // コンストラクタでスケールと丸めを強制
         this.amount = amount.setScale(DEFAULT_SCALE, DEFAULT_ROUNDING_MODE);
+        this.currency = currency;
     }
 
     /**
@@ -33,6 +44,20 @@ public final class Money {
         return new Money(amount);
     }
 
+    /**
+     * 通貨付きのMoneyインスタンスを生成するファクトリメソッド。
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        return new Money(amount, currency);
+    }
+
+    /**
+     * 通貨コード（ISO 4217）付きのMoneyインスタンスを生成するファクトリメソッド。null・空文字は通貨未指定。
+     */
+    public static Money of(BigDecimal amount, String currencyCode) {
+        return new Money(amount, toCurrency(currencyCode));
+    }
+
     /**
      * JSONからMoneyインスタンスを生成するファクトリメソッド。
      */
@@ -62,6 +87,27 @@ public final class Money {
         return amount;
     }
 
+    /**
+     * 通貨を取得する（未指定はnull）。
+     */
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    /**
+     * 同じ金額で通貨を付け替えたインスタンスを返す。
+     */
+    public Money withCurrency(Currency currency) {
+        return Objects.equals(this.currency, currency) ? this : new Money(amount, currency);
+    }
+
+    /**
+     * 同じ金額で通貨（ISO 4217コード）を付け替えたインスタンスを返す。
+     */
+    public Money withCurrency(String currencyCode) {
+        return withCurrency(toCurrency(currencyCode));
+    }
+
     /**
      * JSON用の値を取得する。
      */
@@ -75,7 +121,7 @@ public final class Money {
      */
     public Money add(Money other) {
         Objects.requireNonNull(other, "Cannot add null Money");
-        return new Money(this.amount.add(other.amount));
+        return new Money(this.amount.add(other.amount), commonCurrency(other));
     }
 
     /**
@@ -83,7 +129,7 @@ public final class Money {
      */
     public Money subtract(Money other) {
         Objects.requireNonNull(other, "Cannot subtract null Money");
-        return new Money(this.amount.subtract(other.amount));
+        return new Money(this.amount.subtract(other.amount), commonCurrency(other));
     }
 
     /**
@@ -92,7 +138,7 @@ public final class Money {
     public Money multiply(BigDecimal multiplier) {
         Objects.requireNonNull(multiplier, "Cannot multiply by null BigDecimal");
         // 乗算結果のスケールはBigDecimalのデフォルトに任せるか、ここで強制するか検討
-        return new Money(this.amount.multiply(multiplier));
+        return new Money(this.amount.multiply(multiplier), currency);
     }
 
     /**
@@ -100,6 +146,7 @@ public final class Money {
      */
     public boolean isGreaterThan(Money other) {
         Objects.requireNonNull(other, "Cannot compare with null Money");
+        commonCurrency(other);
         return this.amount.compareTo(other.amount) > 0;
     }
 
@@ -108,6 +155,7 @@ public final class Money {
      */
     public boolean isGreaterThanOrEqual(Money other) {
         Objects.requireNonNull(other, "Cannot compare with null Money");
+        commonCurrency(other);
         return this.amount.compareTo(other.amount) >= 0;
     }
 
@@ -116,6 +164,7 @@ public final class Money {
      */
     public boolean isLessThan(Money other) {
         Objects.requireNonNull(other, "Cannot compare with null Money");
+        commonCurrency(other);
         return this.amount.compareTo(other.amount) < 0;
     }
 
@@ -133,6 +182,27 @@ public final class Money {
         return this.amount.compareTo(BigDecimal.ZERO) == 0;
     }
 
+    private Currency commonCurrency(Money other) {
+        if (currency == null) {
+            return other.currency;
+        }
+        if (other.currency == null || currency.equals(other.currency)) {
+            return currency;
+        }
+        throw new IllegalArgumentException("Currency mismatch: " + currency + " and " + other.currency);
+    }
+
+    private static Currency toCurrency(String currencyCode) {
+        if (currencyCode == null || currencyCode.isBlank()) {
+            return null;
+        }
+        try {
+            return Currency.getInstance(currencyCode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown currency code: " + currencyCode);
+        }
+    }
+
     // equals, hashCode, toString (BigDecimal based) - Omitted for brevity
 
     @Override
@@ -147,16 +217,17 @@ public final class Money {
         // Value Objectとしてはequalsもスケール込みとするのが一般的。
         // または、equalsForAmount(Money other) のようなメソッドを別途用意する。
         // ここでは標準的なequals実装を採用。
-        return Objects.equals(amount, money.amount);
+        return Objects.equals(amount, money.amount) && Objects.equals(currency, money.currency);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount);
+        return Objects.hash(amount, currency);
     }
 
     @Override
     public String toString() {
-        return amount.toPlainString(); // 指数表記を避ける
+        String plain = amount.toPlainString(); // 指数表記を避ける
+        return currency == null ? plain : plain + " " + currency.getCurrencyCode();
     }
 }
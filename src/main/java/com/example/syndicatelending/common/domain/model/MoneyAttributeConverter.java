@@ -6,6 +6,7 @@ import java.math.BigDecimal;
 
 /**
  * Money <-> BigDecimal 変換用 AttributeConverter
+ * 通貨は保存しない（エンティティの通貨列で保持する）。
  */
 @Converter(autoApply = true)
 public class MoneyAttributeConverter implements AttributeConverter<Money, BigDecimal> {
@@ -0,0 +1,860 @@
+package com.example.syndicatelending.common.infrastructure.analytics;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.common.infrastructure.fx.FxRateService;
+import com.example.syndicatelending.entity.CreditRating;
+import com.example.syndicatelending.repository.BorrowerRepository;
+import com.example.syndicatelending.repository.FacilityRepository;
+import com.example.syndicatelending.repository.LoanRepository;
+import com.example.syndicatelending.repository.SharePieRepository;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * ローンブックのインメモリ列指向スナップショット。
+ * <p>
+ * Loan / Facility / SharePie をエンティティグラフではなくプリミティブ配列の列として保持し、
+ * ダッシュボード向けの集計（フィルタ・グループ化）をパラレルストリームで実行する。
+ * 金額はスケール済みlong（Moneyは小数2桁、Percentageは小数4桁）、通貨・格付は辞書符号化したbyteで保持する。
+ * 更新日時（updated_at）のウォーターマーク以降の変更行のみを取り込む差分リフレッシュ方式。
+ * リフレッシュは起動完了時から専用スレッドで一定間隔ごとに行い、集計は要求スレッドでDBを読まずに現在の列だけを使う。
+ * 報告通貨を指定した場合は通貨別に合計してから通貨ごとに1回だけ換算するため、換算コストは明細件数に依存しない。
+ * </p>
+ */
+@Component
+public class LoanBookSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(LoanBookSnapshot.class);
+
+    private static final int AMOUNT_SCALE = 2;
+    private static final int SHARE_SCALE = 4;
+    private static final long SHARE_ONE = 10_000L;
+    private static final long DELETED = Long.MIN_VALUE;
+    private static final byte NO_RATING = -1;
+    private static final int RATING_COUNT = CreditRating.values().length;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final LoanRepository loanRepository;
+    private final FacilityRepository facilityRepository;
+    private final SharePieRepository sharePieRepository;
+    private final BorrowerRepository borrowerRepository;
+    private final FxRateService fxRateService;
+    private final int pageSize;
+    private final long refreshIntervalMillis;
+    private final long watermarkOverlapSeconds;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object refreshMonitor = new Object();
+    private final ScheduledExecutorService refresher;
+
+    // 通貨辞書（コード → 通貨文字列）
+    private final List<String> currencyDictionary = new ArrayList<>();
+    private final Map<String, Byte> currencyCodes = new HashMap<>();
+
+    // Loan列
+    private int loanCount;
+    private long[] loanIds = new long[0];
+    private long[] loanFacilityIds = new long[0];
+    private long[] loanBorrowerIds = new long[0];
+    private long[] loanPrincipal = new long[0];
+    private long[] loanOutstanding = new long[0];
+    private byte[] loanCurrency = new byte[0];
+    private byte[] loanRating = new byte[0];
+    private final LongIntIndex loanIndex = new LongIntIndex(1024);
+
+    // Facility列（削除済みはID = DELETED）
+    private int facilityCount;
+    private long[] facilityIds = new long[0];
+    private long[] facilityCommitment = new long[0];
+    private byte[] facilityCurrency = new byte[0];
+    private final LongIntIndex facilityIndex = new LongIntIndex(256);
+
+    // SharePie列（無効化済みはFacilityID = DELETED）
+    private int pieCount;
+    private int deadPieCount;
+    private long[] pieFacilityIds = new long[0];
+    private long[] pieInvestorIds = new long[0];
+    private int[] pieShare = new int[0];
+
+    // 借り手ID → 格付コード
+    private final Map<Long, Byte> borrowerRatings = new HashMap<>();
+
+    private LocalDateTime loanWatermark = EPOCH;
+    private LocalDateTime facilityWatermark = EPOCH;
+    private LocalDateTime borrowerWatermark = EPOCH;
+
+    public LoanBookSnapshot(LoanRepository loanRepository, FacilityRepository facilityRepository,
+            SharePieRepository sharePieRepository, BorrowerRepository borrowerRepository, FxRateService fxRateService,
+            @Value("${app.analytics.page-size:5000}") int pageSize,
+            @Value("${app.analytics.refresh-interval-ms:1000}") long refreshIntervalMillis,
+            @Value("${app.analytics.watermark-overlap-seconds:5}") long watermarkOverlapSeconds) {
+        this.loanRepository = loanRepository;
+        this.facilityRepository = facilityRepository;
+        this.sharePieRepository = sharePieRepository;
+        this.borrowerRepository = borrowerRepository;
+        this.fxRateService = fxRateService;
+        this.pageSize = pageSize;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        this.watermarkOverlapSeconds = watermarkOverlapSeconds;
+        this.refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "analytics-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 起動完了時に初回の取り込みを始め、以降は前回の終了から app.analytics.refresh-interval-ms ごとに差分リフレッシュする。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRefresher() {
+        refresher.scheduleWithFixedDelay(this::refreshQuietly, 0, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException ex) {
+            log.warn("分析スナップショットのリフレッシュに失敗しました: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * ウォーターマーク以降に更新された行をDBから取り込み、列を差分更新する。
+     * <p>
+     * コミット順と更新日時の逆転による取りこぼしを防ぐため、ウォーターマークには重複取り込み幅を持たせる
+     * （同じ行の再取り込みは上書きになるだけで冪等）。
+     * </p>
+     */
+    public void refresh() {
+        synchronized (refreshMonitor) {
+            refreshBorrowerRatings();
+            refreshFacilities();
+            refreshLoans();
+        }
+    }
+
+    /**
+     * 全列を破棄して再構築する。
+     */
+    public void rebuild() {
+        synchronized (refreshMonitor) {
+            lock.writeLock().lock();
+            try {
+                loanCount = 0;
+                facilityCount = 0;
+                pieCount = 0;
+                deadPieCount = 0;
+                loanIndex.clear();
+                facilityIndex.clear();
+                borrowerRatings.clear();
+                loanWatermark = EPOCH;
+                facilityWatermark = EPOCH;
+                borrowerWatermark = EPOCH;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            refresh();
+        }
+    }
+
+    /**
+     * 削除されたFacilityとそのSharePieをスナップショットから除外する。
+     * （削除は更新日時ウォーターマークでは検出できないため、削除処理から明示的に呼び出す）
+     */
+    public void removeFacility(Long facilityId) {
+        lock.writeLock().lock();
+        try {
+            int row = facilityIndex.get(facilityId);
+            if (row != LongIntIndex.NOT_FOUND) {
+                facilityIds[row] = DELETED;
+                facilityIndex.remove(facilityId);
+            }
+            invalidatePies(Set.of(facilityId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ポートフォリオ集計。通貨・格付・Facilityで絞り込み、通貨別と格付別に集計する。
+     *
+     * @param currency   通貨フィルタ（nullは全通貨）
+     * @param rating     借り手格付フィルタ（nullは全格付）
+     * @param facilityId FacilityIDフィルタ（nullは全Facility）
+     * @param reportingCurrency 報告通貨（指定時は全通貨の合計を換算して返す。nullは換算しない）
+     * @param asOf       換算レートの基準日（nullは当日）
+     */
+    public PortfolioAggregate aggregatePortfolio(String currency, CreditRating rating, Long facilityId,
+            String reportingCurrency, LocalDate asOf) {
+        lock.readLock().lock();
+        try {
+            final int currencies = currencyDictionary.size();
+            final int n = loanCount;
+            final long[] ids = loanIds;
+            final long[] facilities = loanFacilityIds;
+            final long[] principal = loanPrincipal;
+            final long[] outstanding = loanOutstanding;
+            final byte[] ccy = loanCurrency;
+            final byte[] ratings = loanRating;
+            final int ccyFilter = currency == null ? -1 : currencyCode(currency);
+            final int ratingFilter = rating == null ? -1 : rating.ordinal();
+            final long facilityFilter = facilityId == null ? DELETED : facilityId;
+            if (currency != null && ccyFilter < 0) {
+                PortfolioAggregate empty = new PortfolioAggregate(0, new LinkedHashMap<>(), new LinkedHashMap<>());
+                if (reportingCurrency != null) {
+                    empty.convertedTo(reportingCurrency, reportingDate(asOf), BigDecimal.ZERO, BigDecimal.ZERO,
+                            new LinkedHashMap<>());
+                }
+                return empty;
+            }
+
+            Accumulator acc = IntStream.range(0, n).parallel().collect(
+                    () -> new Accumulator(currencies),
+                    (a, i) -> {
+                        if (ids[i] == DELETED) {
+                            return;
+                        }
+                        int c = ccy[i] & 0xFF;
+                        int r = ratings[i];
+                        if ((ccyFilter >= 0 && c != ccyFilter)
+                                || (ratingFilter >= 0 && r != ratingFilter)
+                                || (facilityFilter != DELETED && facilities[i] != facilityFilter)) {
+                            return;
+                        }
+                        a.count[c]++;
+                        a.principal[c] += principal[i];
+                        a.outstanding[c] += outstanding[i];
+                        a.ratingOutstanding[(r + 1) * currencies + c] += outstanding[i];
+                    },
+                    Accumulator::merge);
+
+            long total = 0;
+            Map<String, CurrencyTotals> byCurrency = new LinkedHashMap<>();
+            Map<String, Map<String, BigDecimal>> byRating = new LinkedHashMap<>();
+            for (int c = 0; c < currencies; c++) {
+                if (acc.count[c] == 0) {
+                    continue;
+                }
+                total += acc.count[c];
+                byCurrency.put(currencyDictionary.get(c), new CurrencyTotals(acc.count[c],
+                        toDecimal(acc.principal[c], AMOUNT_SCALE), toDecimal(acc.outstanding[c], AMOUNT_SCALE)));
+            }
+            for (int r = -1; r < RATING_COUNT; r++) {
+                Map<String, BigDecimal> perCurrency = new LinkedHashMap<>();
+                for (int c = 0; c < currencies; c++) {
+                    long value = acc.ratingOutstanding[(r + 1) * currencies + c];
+                    if (value != 0) {
+                        perCurrency.put(currencyDictionary.get(c), toDecimal(value, AMOUNT_SCALE));
+                    }
+                }
+                if (!perCurrency.isEmpty()) {
+                    byRating.put(r < 0 ? "UNRATED" : CreditRating.values()[r].name(), perCurrency);
+                }
+            }
+            PortfolioAggregate aggregate = new PortfolioAggregate(total, byCurrency, byRating);
+            if (reportingCurrency != null) {
+                LocalDate date = reportingDate(asOf);
+                double[] factors = reportingFactors(acc.count, reportingCurrency, date);
+                Map<String, BigDecimal> totalByRating = new LinkedHashMap<>();
+                for (int r = -1; r < RATING_COUNT; r++) {
+                    BigDecimal value = sumConverted(acc.ratingOutstanding, (r + 1) * currencies, factors);
+                    if (value.signum() != 0) {
+                        totalByRating.put(r < 0 ? "UNRATED" : CreditRating.values()[r].name(), value);
+                    }
+                }
+                aggregate.convertedTo(reportingCurrency, date, sumConverted(acc.principal, 0, factors),
+                        sumConverted(acc.outstanding, 0, factors), totalByRating);
+            }
+            return aggregate;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 投資家別エクスポージャ集計。コミットメントと引出残高に持分比率を乗じて通貨別に合計する。
+     *
+     * @param reportingCurrency 報告通貨（指定時は全通貨の合計を換算して返す。nullは換算しない）
+     * @param asOf              換算レートの基準日（nullは当日）
+     */
+    public InvestorExposure aggregateInvestorExposure(long investorId, String reportingCurrency, LocalDate asOf) {
+        lock.readLock().lock();
+        try {
+            final int currencies = currencyDictionary.size();
+            final int facilities = facilityCount;
+            final long[] loanFacility = loanFacilityIds;
+            final long[] outstanding = loanOutstanding;
+            final long[] ids = loanIds;
+
+            // Facility行ごとの引出残高（Facility行でグループ化）
+            long[] drawnByFacilityRow = IntStream.range(0, loanCount).parallel().collect(
+                    () -> new long[facilities],
+                    (a, i) -> {
+                        if (ids[i] == DELETED) {
+                            return;
+                        }
+                        int row = facilityIndex.get(loanFacility[i]);
+                        if (row != LongIntIndex.NOT_FOUND) {
+                            a[row] += outstanding[i];
+                        }
+                    },
+                    LoanBookSnapshot::addInto);
+
+            BigDecimal[] commitment = new BigDecimal[currencies];
+            BigDecimal[] drawn = new BigDecimal[currencies];
+            Arrays.fill(commitment, BigDecimal.ZERO);
+            Arrays.fill(drawn, BigDecimal.ZERO);
+            int participations = 0;
+            for (int p = 0; p < pieCount; p++) {
+                if (pieInvestorIds[p] != investorId || pieFacilityIds[p] == DELETED) {
+                    continue;
+                }
+                int row = facilityIndex.get(pieFacilityIds[p]);
+                if (row == LongIntIndex.NOT_FOUND) {
+                    continue;
+                }
+                int c = facilityCurrency[row] & 0xFF;
+                // long同士の乗算はオーバーフローし得るため、持分の適用のみBigDecimalで行う
+                BigDecimal share = BigDecimal.valueOf(pieShare[p], SHARE_SCALE);
+                commitment[c] = commitment[c].add(toDecimal(facilityCommitment[row], AMOUNT_SCALE).multiply(share));
+                drawn[c] = drawn[c].add(toDecimal(drawnByFacilityRow[row], AMOUNT_SCALE).multiply(share));
+                participations++;
+            }
+            Map<String, BigDecimal> commitmentByCurrency = new LinkedHashMap<>();
+            Map<String, BigDecimal> drawnByCurrency = new LinkedHashMap<>();
+            for (int c = 0; c < currencies; c++) {
+                if (commitment[c].signum() != 0 || drawn[c].signum() != 0) {
+                    commitmentByCurrency.put(currencyDictionary.get(c),
+                            commitment[c].setScale(AMOUNT_SCALE, RoundingMode.HALF_UP));
+                    drawnByCurrency.put(currencyDictionary.get(c),
+                            drawn[c].setScale(AMOUNT_SCALE, RoundingMode.HALF_UP));
+                }
+            }
+            InvestorExposure exposure = new InvestorExposure(investorId, participations, commitmentByCurrency,
+                    drawnByCurrency);
+            if (reportingCurrency != null) {
+                LocalDate date = reportingDate(asOf);
+                long[] used = new long[currencies];
+                for (int c = 0; c < currencies; c++) {
+                    used[c] = commitment[c].signum() != 0 || drawn[c].signum() != 0 ? 1 : 0;
+                }
+                double[] factors = reportingFactors(used, reportingCurrency, date);
+                exposure.convertedTo(reportingCurrency, date, sumConverted(commitment, factors),
+                        sumConverted(drawn, factors));
+            }
+            return exposure;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * スナップショットの行数
+     */
+    public int getLoanCount() {
+        return loanCount;
+    }
+
+    // --- 報告通貨への換算 ---
+
+    private static LocalDate reportingDate(LocalDate asOf) {
+        return asOf != null ? asOf : LocalDate.now();
+    }
+
+    /**
+     * 通貨辞書の各通貨から報告通貨への換算係数。集計に現れた通貨（used[c] != 0）のレートがなければ例外とする。
+     */
+    private double[] reportingFactors(long[] used, String reportingCurrency, LocalDate date) {
+        double[] factors = fxRateService.factors(currencyDictionary, reportingCurrency, date);
+        Set<String> missing = new TreeSet<>();
+        for (int c = 0; c < used.length; c++) {
+            if (used[c] != 0 && Double.isNaN(factors[c])) {
+                missing.add(currencyDictionary.get(c).isEmpty() ? "(通貨なし)" : currencyDictionary.get(c));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new BusinessRuleViolationException("為替レートがありません: " + missing + " → " + reportingCurrency
+                    + " (" + date + ")");
+        }
+        return factors;
+    }
+
+    private static BigDecimal sumConverted(long[] scaledByCurrency, int offset, double[] factors) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int c = 0; c < factors.length; c++) {
+            long value = scaledByCurrency[offset + c];
+            if (value != 0) {
+                sum = sum.add(toDecimal(value, AMOUNT_SCALE).multiply(BigDecimal.valueOf(factors[c])));
+            }
+        }
+        return sum.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal sumConverted(BigDecimal[] byCurrency, double[] factors) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int c = 0; c < factors.length; c++) {
+            if (byCurrency[c].signum() != 0) {
+                sum = sum.add(byCurrency[c].multiply(BigDecimal.valueOf(factors[c])));
+            }
+        }
+        return sum.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP);
+    }
+
+    // --- 差分リフレッシュ ---
+
+    private void refreshBorrowerRatings() {
+        List<BorrowerRepository.RatingRow> rows = borrowerRepository.findRatingRows(borrowerWatermark);
+        if (rows.isEmpty()) {
+            return;
+        }
+        LocalDateTime maxSeen = borrowerWatermark;
+        Map<Long, Byte> changed = new HashMap<>();
+        for (BorrowerRepository.RatingRow row : rows) {
+            byte code = row.getCreditRating() == null ? NO_RATING : (byte) row.getCreditRating().ordinal();
+            changed.put(row.getId(), code);
+            maxSeen = max(maxSeen, row.getUpdatedAt());
+        }
+        lock.writeLock().lock();
+        try {
+            borrowerRatings.putAll(changed);
+            // 格付変更は稀なため、該当借り手のローン行を全走査で書き換える
+            final long[] borrowers = loanBorrowerIds;
+            final byte[] ratings = loanRating;
+            IntStream.range(0, loanCount).parallel().forEach(i -> {
+                Byte code = changed.get(borrowers[i]);
+                if (code != null) {
+                    ratings[i] = code;
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+        borrowerWatermark = maxSeen.minusSeconds(watermarkOverlapSeconds);
+    }
+
+    private void refreshFacilities() {
+        LocalDateTime maxSeen = facilityWatermark;
+        long afterId = 0L;
+        while (true) {
+            List<FacilityRepository.SnapshotRow> rows = facilityRepository.findSnapshotRows(facilityWatermark,
+                    afterId, PageRequest.of(0, pageSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            Set<Long> changedIds = new HashSet<>();
+            for (FacilityRepository.SnapshotRow row : rows) {
+                changedIds.add(row.getId());
+            }
+            List<SharePieRepository.SnapshotRow> pies = sharePieRepository.findSnapshotRowsByFacilityIds(changedIds);
+            lock.writeLock().lock();
+            try {
+                for (FacilityRepository.SnapshotRow row : rows) {
+                    upsertFacility(row);
+                }
+                invalidatePies(changedIds);
+                for (SharePieRepository.SnapshotRow pie : pies) {
+                    appendPie(pie);
+                }
+                compactPiesIfNeeded();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            for (FacilityRepository.SnapshotRow row : rows) {
+                maxSeen = max(maxSeen, row.getUpdatedAt());
+            }
+            afterId = rows.get(rows.size() - 1).getId();
+            if (rows.size() < pageSize) {
+                break;
+            }
+        }
+        facilityWatermark = maxSeen.minusSeconds(watermarkOverlapSeconds);
+    }
+
+    private void refreshLoans() {
+        LocalDateTime maxSeen = loanWatermark;
+        long afterId = 0L;
+        while (true) {
+            List<LoanRepository.SnapshotRow> rows = loanRepository.findSnapshotRows(loanWatermark, afterId,
+                    PageRequest.of(0, pageSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            lock.writeLock().lock();
+            try {
+                for (LoanRepository.SnapshotRow row : rows) {
+                    upsertLoan(row);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            for (LoanRepository.SnapshotRow row : rows) {
+                maxSeen = max(maxSeen, row.getUpdatedAt());
+            }
+            afterId = rows.get(rows.size() - 1).getId();
+            if (rows.size() < pageSize) {
+                break;
+            }
+        }
+        loanWatermark = maxSeen.minusSeconds(watermarkOverlapSeconds);
+    }
+
+    private void upsertLoan(LoanRepository.SnapshotRow row) {
+        int i = loanIndex.get(row.getId());
+        if (i == LongIntIndex.NOT_FOUND) {
+            i = loanCount;
+            ensureLoanCapacity(i + 1);
+            loanCount++;
+            loanIndex.put(row.getId(), i);
+        }
+        loanIds[i] = row.getId();
+        loanFacilityIds[i] = row.getFacilityId();
+        loanBorrowerIds[i] = row.getBorrowerId();
+        loanPrincipal[i] = toScaled(row.getPrincipalAmount());
+        loanOutstanding[i] = toScaled(row.getOutstandingBalance());
+        loanCurrency[i] = encodeCurrency(row.getCurrency());
+        loanRating[i] = borrowerRatings.getOrDefault(row.getBorrowerId(), NO_RATING);
+    }
+
+    private void upsertFacility(FacilityRepository.SnapshotRow row) {
+        int i = facilityIndex.get(row.getId());
+        if (i == LongIntIndex.NOT_FOUND) {
+            i = facilityCount;
+            ensureFacilityCapacity(i + 1);
+            facilityCount++;
+            facilityIndex.put(row.getId(), i);
+        }
+        facilityIds[i] = row.getId();
+        facilityCommitment[i] = toScaled(row.getCommitment());
+        facilityCurrency[i] = encodeCurrency(row.getCurrency());
+    }
+
+    private void appendPie(SharePieRepository.SnapshotRow row) {
+        ensurePieCapacity(pieCount + 1);
+        pieFacilityIds[pieCount] = row.getFacilityId();
+        pieInvestorIds[pieCount] = row.getInvestorId();
+        pieShare[pieCount] = toScaledShare(row.getShare());
+        pieCount++;
+    }
+
+    private void invalidatePies(Set<Long> facilityIdsToInvalidate) {
+        for (int p = 0; p < pieCount; p++) {
+            if (pieFacilityIds[p] != DELETED && facilityIdsToInvalidate.contains(pieFacilityIds[p])) {
+                pieFacilityIds[p] = DELETED;
+                deadPieCount++;
+            }
+        }
+    }
+
+    private void compactPiesIfNeeded() {
+        if (deadPieCount * 2 <= pieCount) {
+            return;
+        }
+        int live = 0;
+        for (int p = 0; p < pieCount; p++) {
+            if (pieFacilityIds[p] != DELETED) {
+                pieFacilityIds[live] = pieFacilityIds[p];
+                pieInvestorIds[live] = pieInvestorIds[p];
+                pieShare[live] = pieShare[p];
+                live++;
+            }
+        }
+        pieCount = live;
+        deadPieCount = 0;
+    }
+
+    // --- 列の拡張 ---
+
+    private void ensureLoanCapacity(int required) {
+        if (required <= loanIds.length) {
+            return;
+        }
+        int capacity = grow(loanIds.length, required);
+        loanIds = Arrays.copyOf(loanIds, capacity);
+        loanFacilityIds = Arrays.copyOf(loanFacilityIds, capacity);
+        loanBorrowerIds = Arrays.copyOf(loanBorrowerIds, capacity);
+        loanPrincipal = Arrays.copyOf(loanPrincipal, capacity);
+        loanOutstanding = Arrays.copyOf(loanOutstanding, capacity);
+        loanCurrency = Arrays.copyOf(loanCurrency, capacity);
+        loanRating = Arrays.copyOf(loanRating, capacity);
+    }
+
+    private void ensureFacilityCapacity(int required) {
+        if (required <= facilityIds.length) {
+            return;
+        }
+        int capacity = grow(facilityIds.length, required);
+        facilityIds = Arrays.copyOf(facilityIds, capacity);
+        facilityCommitment = Arrays.copyOf(facilityCommitment, capacity);
+        facilityCurrency = Arrays.copyOf(facilityCurrency, capacity);
+    }
+
+    private void ensurePieCapacity(int required) {
+        if (required <= pieFacilityIds.length) {
+            return;
+        }
+        int capacity = grow(pieFacilityIds.length, required);
+        pieFacilityIds = Arrays.copyOf(pieFacilityIds, capacity);
+        pieInvestorIds = Arrays.copyOf(pieInvestorIds, capacity);
+        pieShare = Arrays.copyOf(pieShare, capacity);
+    }
+
+    private static int grow(int current, int required) {
+        return Math.max(required, Math.max(64, current + (current >> 1)));
+    }
+
+    // --- 符号化 ---
+
+    private byte encodeCurrency(String currency) {
+        String key = currency == null ? "" : currency;
+        Byte code = currencyCodes.get(key);
+        if (code != null) {
+            return code;
+        }
+        if (currencyDictionary.size() > 0xFF) {
+            throw new IllegalStateException("Too many distinct currencies in loan book snapshot");
+        }
+        byte newCode = (byte) currencyDictionary.size();
+        currencyDictionary.add(key);
+        currencyCodes.put(key, newCode);
+        return newCode;
+    }
+
+    private int currencyCode(String currency) {
+        Byte code = currencyCodes.get(currency);
+        return code == null ? -1 : code & 0xFF;
+    }
+
+    private static long toScaled(Money money) {
+        return money == null ? 0L
+                : money.getAmount().setScale(AMOUNT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static int toScaledShare(Percentage share) {
+        return share == null ? 0
+                : share.getValue().setScale(SHARE_SCALE, RoundingMode.HALF_UP).unscaledValue().intValueExact();
+    }
+
+    private static BigDecimal toDecimal(long scaled, int scale) {
+        return BigDecimal.valueOf(scaled, scale);
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return b != null && b.isAfter(a) ? b : a;
+    }
+
+    private static void addInto(long[] target, long[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[i];
+        }
+    }
+
+    /**
+     * パラレル集計用のスレッドローカルな累積器
+     */
+    private static final class Accumulator {
+        final long[] count;
+        final long[] principal;
+        final long[] outstanding;
+        final long[] ratingOutstanding;
+
+        Accumulator(int currencies) {
+            count = new long[currencies];
+            principal = new long[currencies];
+            outstanding = new long[currencies];
+            ratingOutstanding = new long[(RATING_COUNT + 1) * currencies];
+        }
+
+        void merge(Accumulator other) {
+            addInto(count, other.count);
+            addInto(principal, other.principal);
+            addInto(outstanding, other.outstanding);
+            addInto(ratingOutstanding, other.ratingOutstanding);
+        }
+    }
+
+    /**
+     * 通貨別の件数・元本・残高
+     */
+    public static final class CurrencyTotals {
+        private final long loanCount;
+        private final BigDecimal principal;
+        private final BigDecimal outstanding;
+
+        CurrencyTotals(long loanCount, BigDecimal principal, BigDecimal outstanding) {
+            this.loanCount = loanCount;
+            this.principal = principal;
+            this.outstanding = outstanding;
+        }
+
+        public long getLoanCount() {
+            return loanCount;
+        }
+
+        public BigDecimal getPrincipal() {
+            return principal;
+        }
+
+        public BigDecimal getOutstanding() {
+            return outstanding;
+        }
+    }
+
+    /**
+     * ポートフォリオ集計結果（total* は報告通貨を指定した場合のみ）
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static final class PortfolioAggregate {
+        private final long loanCount;
+        private final Map<String, CurrencyTotals> byCurrency;
+        private final Map<String, Map<String, BigDecimal>> outstandingByRating;
+        private String reportingCurrency;
+        private LocalDate asOf;
+        private BigDecimal totalPrincipal;
+        private BigDecimal totalOutstanding;
+        private Map<String, BigDecimal> totalOutstandingByRating;
+
+        PortfolioAggregate(long loanCount, Map<String, CurrencyTotals> byCurrency,
+                Map<String, Map<String, BigDecimal>> outstandingByRating) {
+            this.loanCount = loanCount;
+            this.byCurrency = byCurrency;
+            this.outstandingByRating = outstandingByRating;
+        }
+
+        void convertedTo(String reportingCurrency, LocalDate asOf, BigDecimal totalPrincipal,
+                BigDecimal totalOutstanding, Map<String, BigDecimal> totalOutstandingByRating) {
+            this.reportingCurrency = reportingCurrency;
+            this.asOf = asOf;
+            this.totalPrincipal = totalPrincipal;
+            this.totalOutstanding = totalOutstanding;
+            this.totalOutstandingByRating = totalOutstandingByRating;
+        }
+
+        public long getLoanCount() {
+            return loanCount;
+        }
+
+        public Map<String, CurrencyTotals> getByCurrency() {
+            return byCurrency;
+        }
+
+        public Map<String, Map<String, BigDecimal>> getOutstandingByRating() {
+            return outstandingByRating;
+        }
+
+        public String getReportingCurrency() {
+            return reportingCurrency;
+        }
+
+        public LocalDate getAsOf() {
+            return asOf;
+        }
+
+        public BigDecimal getTotalPrincipal() {
+            return totalPrincipal;
+        }
+
+        public BigDecimal getTotalOutstanding() {
+            return totalOutstanding;
+        }
+
+        public Map<String, BigDecimal> getTotalOutstandingByRating() {
+            return totalOutstandingByRating;
+        }
+    }
+
+    /**
+     * 投資家別エクスポージャ集計結果（total* は報告通貨を指定した場合のみ）
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static final class InvestorExposure {
+        private final long investorId;
+        private final int participations;
+        private final Map<String, BigDecimal> commitmentByCurrency;
+        private final Map<String, BigDecimal> drawnByCurrency;
+        private String reportingCurrency;
+        private LocalDate asOf;
+        private BigDecimal totalCommitment;
+        private BigDecimal totalDrawn;
+
+        InvestorExposure(long investorId, int participations, Map<String, BigDecimal> commitmentByCurrency,
+                Map<String, BigDecimal> drawnByCurrency) {
+            this.investorId = investorId;
+            this.participations = participations;
+            this.commitmentByCurrency = commitmentByCurrency;
+            this.drawnByCurrency = drawnByCurrency;
+        }
+
+        void convertedTo(String reportingCurrency, LocalDate asOf, BigDecimal totalCommitment, BigDecimal totalDrawn) {
+            this.reportingCurrency = reportingCurrency;
+            this.asOf = asOf;
+            this.totalCommitment = totalCommitment;
+            this.totalDrawn = totalDrawn;
+        }
+
+        public long getInvestorId() {
+            return investorId;
+        }
+
+        public int getParticipations() {
+            return participations;
+        }
+
+        public Map<String, BigDecimal> getCommitmentByCurrency() {
+            return commitmentByCurrency;
+        }
+
+        public Map<String, BigDecimal> getDrawnByCurrency() {
+            return drawnByCurrency;
+        }
+
+        public String getReportingCurrency() {
+            return reportingCurrency;
+        }
+
+        public LocalDate getAsOf() {
+            return asOf;
+        }
+
+        public BigDecimal getTotalCommitment() {
+            return totalCommitment;
+        }
+
+        public BigDecimal getTotalDrawn() {
+            return totalDrawn;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.syndicatelending.common.infrastructure.audit;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * 監査ログの構成（app.audit.enabled=true で有効）。
+ * <p>
+ * app.audit.dir に app.audit.segment-size バイトのセグメントを作って追記し、app.audit.fsync-interval-ms ごとにディスクへ書き出す。
+ * 記録しないエンティティは app.audit.exclude-entities（既定は更新の基点の記録とジョブの管理情報）。
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.audit.enabled", havingValue = "true")
+public class AuditConfig {
+
+    /**
+     * リスナーは参照されないため、遅延初期化（fast-startup）でも起動時に登録する。
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter auditListenerExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(AuditEventListener.class);
+    }
+
+    @Bean(destroyMethod = "close")
+    public AuditLog auditLog(@Value("${app.audit.dir:./data/audit}") String dir,
+            @Value("${app.audit.segment-size:67108864}") int segmentSize,
+            @Value("${app.audit.max-value-length:1000}") int maxValueLength,
+            @Value("${app.audit.fsync-interval-ms:1000}") long fsyncIntervalMillis) throws IOException {
+        return new AuditLog(Path.of(dir), segmentSize, maxValueLength, fsyncIntervalMillis);
+    }
+
+    @Bean
+    public AuditEventListener auditEventListener(AuditLog auditLog, EntityManagerFactory entityManagerFactory,
+            @Value("${app.audit.exclude-entities:EntityRevision,BatchJob}") Set<String> excludedEntities) {
+        AuditEventListener listener = new AuditEventListener(auditLog, excludedEntities);
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+        registry.appendListeners(EventType.PRE_COLLECTION_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, listener);
+        registry.appendListeners(EventType.PRE_COLLECTION_REMOVE, listener);
+        return listener;
+    }
+}
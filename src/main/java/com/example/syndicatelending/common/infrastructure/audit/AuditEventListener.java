@@ -0,0 +1,317 @@
+package com.example.syndicatelending.common.infrastructure.audit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.event.spi.PreCollectionRemoveEvent;
+import org.hibernate.event.spi.PreCollectionRemoveEventListener;
+import org.hibernate.event.spi.PreCollectionUpdateEvent;
+import org.hibernate.event.spi.PreCollectionUpdateEventListener;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JPAでのエンティティの追加・更新・削除を {@link AuditLog} に記録するHibernateのイベントリスナー。
+ * <p>
+ * flush時のイベントで項目の差分（更新は変更された項目のみ、関連はID）をセッションごとに集め、
+ * コミットが成功した後にエンティティごとに1件追記する（ロールバックしたトランザクションは記録しない）。
+ * 同じトランザクションで同じエンティティを複数回flushした場合は最初の値と最後の値の差分にまとめる。
+ * 値の要素コレクション（シンジケートのメンバー等）の変更は所有者のレコードに含める（エンティティのコレクションは各エンティティ側で記録される）。
+ * 実行者は認証済みのユーザー、なければ X-User-Id ヘッダー、リクエスト外（ジョブ等）では system:スレッド名。
+ * JDBC・一括更新のクエリはイベントを通らないため、該当する処理は {@link AuditLog#append} を直接呼ぶ。
+ * </p>
+ */
+public class AuditEventListener implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener, PreCollectionUpdateEventListener, PostCollectionRecreateEventListener,
+        PreCollectionRemoveEventListener {
+
+    public static final String USER_HEADER = "X-User-Id";
+
+    private static final Logger log = LoggerFactory.getLogger(AuditEventListener.class);
+
+    private final AuditLog auditLog;
+    private final Set<String> excludedTypes;
+    private final Map<SharedSessionContractImplementor, Pending> pending = new ConcurrentHashMap<>();
+
+    public AuditEventListener(AuditLog auditLog, Set<String> excludedTypes) {
+        this.auditLog = auditLog;
+        this.excludedTypes = excludedTypes;
+    }
+
+    /**
+     * 現在のスレッドの実行者
+     */
+    public static String currentPrincipal() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            if (request.getUserPrincipal() != null) {
+                return request.getUserPrincipal().getName();
+            }
+            String user = request.getHeader(USER_HEADER);
+            return user == null || user.isBlank() ? "anonymous" : user;
+        }
+        return "system:" + Thread.currentThread().getName();
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        Entry entry = entry(event.getSession(), event.getPersister(), event.getEntity(), event.getId(),
+                AuditRecord.Op.INSERT);
+        if (entry == null) {
+            return;
+        }
+        Object[] state = event.getState();
+        for (int i = 0; i < state.length; i++) {
+            if (isRecorded(event.getPersister(), i) && state[i] != null) {
+                entry.change(event.getPersister().getPropertyNames()[i], null,
+                        text(state[i], event.getPersister().getPropertyTypes()[i], event.getSession()));
+            }
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Entry entry = entry(event.getSession(), event.getPersister(), event.getEntity(), event.getId(),
+                AuditRecord.Op.UPDATE);
+        if (entry == null || event.getDirtyProperties() == null) {
+            return;
+        }
+        Object[] oldState = event.getOldState();
+        Type[] types = event.getPersister().getPropertyTypes();
+        for (int i : event.getDirtyProperties()) {
+            if (isRecorded(event.getPersister(), i)) {
+                entry.change(event.getPersister().getPropertyNames()[i],
+                        oldState == null ? null : text(oldState[i], types[i], event.getSession()),
+                        text(event.getState()[i], types[i], event.getSession()));
+            }
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        Entry entry = entry(event.getSession(), event.getPersister(), event.getEntity(), event.getId(),
+                AuditRecord.Op.DELETE);
+        if (entry == null) {
+            return;
+        }
+        if (entry.op == AuditRecord.Op.INSERT) {
+            // 同じトランザクションで追加して削除した場合は記録しない
+            pending.get(event.getSession()).entries.remove(entry.key);
+            return;
+        }
+        entry.op = AuditRecord.Op.DELETE;
+        entry.changes.clear();
+        Object[] state = event.getDeletedState();
+        for (int i = 0; state != null && i < state.length; i++) {
+            if (isRecorded(event.getPersister(), i) && state[i] != null) {
+                entry.change(event.getPersister().getPropertyNames()[i],
+                        text(state[i], event.getPersister().getPropertyTypes()[i], event.getSession()), null);
+            }
+        }
+    }
+
+    @Override
+    public void onPreUpdateCollection(PreCollectionUpdateEvent event) {
+        PersistentCollection<?> collection = event.getCollection();
+        collectionChange(event, elements(collection.getStoredSnapshot()), elements(collection));
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        collectionChange(event, null, elements(event.getCollection()));
+    }
+
+    @Override
+    public void onPreRemoveCollection(PreCollectionRemoveEvent event) {
+        PersistentCollection<?> collection = event.getCollection();
+        if (collection.wasInitialized()) {
+            collectionChange(event, elements(collection), null);
+        }
+    }
+
+    private void collectionChange(AbstractCollectionEvent event, String oldValue, String newValue) {
+        Object owner = event.getAffectedOwnerOrNull();
+        if (owner == null) {
+            return;
+        }
+        // 新規のコレクションはロールが未設定のため、永続化コンテキストの持つ永続化情報から取る
+        CollectionEntry collectionEntry = event.getSession().getPersistenceContextInternal()
+                .getCollectionEntry(event.getCollection());
+        CollectionPersister collectionPersister = collectionEntry == null ? null
+                : collectionEntry.getCurrentPersister() != null ? collectionEntry.getCurrentPersister()
+                        : collectionEntry.getLoadedPersister();
+        if (collectionPersister == null || collectionPersister.isInverse() || collectionPersister.isOneToMany()
+                || collectionPersister.isManyToMany()) {
+            return;
+        }
+        String role = collectionPersister.getRole();
+        EntityPersister persister = event.getSession().getEntityPersister(event.getAffectedOwnerEntityName(), owner);
+        Entry entry = entry(event.getSession(), persister, owner, event.getAffectedOwnerIdOrNull(),
+                AuditRecord.Op.UPDATE);
+        if (entry != null) {
+            entry.change(role.substring(role.lastIndexOf('.') + 1), oldValue, newValue);
+        }
+    }
+
+    /**
+     * セッションの記録待ちのエントリ（対象外の種別はnull）。最初のイベントでコミット後の処理を登録する。
+     */
+    private Entry entry(EventSource session, EntityPersister persister, Object entity, Object id,
+            AuditRecord.Op op) {
+        String entityName = persister.getEntityName();
+        String type = entityName.substring(entityName.lastIndexOf('.') + 1);
+        if (excludedTypes.contains(type)) {
+            return null;
+        }
+        Pending sessionPending = pending.get(session);
+        if (sessionPending == null) {
+            sessionPending = new Pending(currentPrincipal());
+            pending.put(session, sessionPending);
+            session.getActionQueue().registerProcess(sessionPending);
+        }
+        String key = type + "#" + id;
+        Entry entry = sessionPending.entries.get(key);
+        if (entry == null) {
+            entry = new Entry(key, type, id, persister, entity, op);
+            sessionPending.entries.put(key, entry);
+        }
+        return entry;
+    }
+
+    private static boolean isRecorded(EntityPersister persister, int property) {
+        return !persister.getPropertyTypes()[property].isCollectionType()
+                && !(persister.isVersioned() && persister.getVersionProperty() == property);
+    }
+
+    private static String text(Object value, Type type, SharedSessionContractImplementor session) {
+        if (value == null) {
+            return null;
+        }
+        if (type.isEntityType()) {
+            return String.valueOf(session.getFactory().getPersistenceUnitUtil().getIdentifier(value));
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value.toString();
+    }
+
+    private static String elements(Object value) {
+        if (value instanceof Map<?, ?> snapshot) {
+            // PersistentSetのスナップショットは要素→要素のMap
+            value = snapshot.values();
+        }
+        if (!(value instanceof Collection<?> collection)) {
+            return value == null ? null : value.toString();
+        }
+        List<Object> elements = new ArrayList<>(collection);
+        try {
+            elements.sort(null);
+        } catch (ClassCastException ignored) {
+            // 比較できない要素は元の順のまま
+        }
+        return elements.toString();
+    }
+
+    private static final class Entry {
+        final String key;
+        final String type;
+        final Object id;
+        final EntityPersister persister;
+        final Object entity;
+        AuditRecord.Op op;
+        final Map<String, String[]> changes = new LinkedHashMap<>();
+
+        Entry(String key, String type, Object id, EntityPersister persister, Object entity, AuditRecord.Op op) {
+            this.key = key;
+            this.type = type;
+            this.id = id;
+            this.persister = persister;
+            this.entity = entity;
+            this.op = op;
+        }
+
+        void change(String field, String oldValue, String newValue) {
+            String[] values = changes.get(field);
+            if (values == null) {
+                if (!Objects.equals(oldValue, newValue)) {
+                    changes.put(field, new String[] { oldValue, newValue });
+                }
+            } else {
+                values[1] = newValue;
+                if (op == AuditRecord.Op.UPDATE && Objects.equals(values[0], newValue)) {
+                    changes.remove(field);
+                }
+            }
+        }
+    }
+
+    private final class Pending implements AfterTransactionCompletionProcess {
+        final String principal;
+        final Map<String, Entry> entries = new LinkedHashMap<>();
+
+        Pending(String principal) {
+            this.principal = principal;
+        }
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+            pending.remove(session);
+            if (!success) {
+                return;
+            }
+            for (Entry entry : entries.values()) {
+                if (entry.op == AuditRecord.Op.UPDATE && entry.changes.isEmpty()) {
+                    continue;
+                }
+                List<AuditRecord.Change> changes = new ArrayList<>(entry.changes.size());
+                entry.changes.forEach((field, values) -> changes.add(new AuditRecord.Change(field, values[0],
+                        values[1])));
+                try {
+                    long version = entry.persister.isVersioned()
+                            && entry.persister.getVersion(entry.entity) instanceof Number number
+                                    ? number.longValue() : -1;
+                    auditLog.append(entry.op, entry.type, entry.id instanceof Number id ? id.longValue() : -1,
+                            version, principal, changes);
+                } catch (RuntimeException ex) {
+                    // コミット済みのため処理は失敗させない
+                    log.error("監査ログに記録できませんでした: {} {}: {}", entry.op, entry.key, ex.getMessage());
+                }
+            }
+        }
+    }
+}
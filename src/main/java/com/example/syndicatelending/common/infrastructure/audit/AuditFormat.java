@@ -0,0 +1,168 @@
+package com.example.syndicatelending.common.infrastructure.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 監査ログのセグメントファイルの形式（{@link AuditLog} と {@link AuditLogReader} で共有）。
+ * <pre>
+ * ヘッダー（64バイト）: magic "AUD1" | 形式の版(2) | 予約(2) | 最初の通番(8) | 最初のレコードの時刻(8) | 直前のハッシュ(32) | 予約(8)
+ * レコード: 本文の長さ(4) | 本文 | SHA-256(直前のレコードのハッシュ || 本文)(32)
+ * 本文: 通番(8) | 時刻ms(8) | 種類(1) | ID(8) | バージョン(8) | エンティティ種別 | 実行者 | 項目数(2) | {項目名 | 変更前 | 変更後}...
+ * </pre>
+ * 文字列はUTF-8で、種別・実行者・項目名は2バイト、値は4バイトの長さ（-1はnull）を前に置く。
+ * 長さ0のレコードはセグメント内のデータの終わりを表す（ファイルは作成時に全体を確保し0で埋まっている）。
+ * 各セグメントのヘッダーに前のセグメントの最後のハッシュを持つため、ハッシュの連鎖はセグメントをまたいで続く。
+ */
+final class AuditFormat {
+
+    static final int MAGIC = 0x41554431;
+    static final short FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int HASH_SIZE = 32;
+    static final int HEADER_FIRST_SEQUENCE = 8;
+    static final int HEADER_CREATED_AT = 16;
+    static final int HEADER_PREVIOUS_HASH = 24;
+    static final int BODY_SEQUENCE = 0;
+    static final int BODY_TIMESTAMP = 8;
+    static final int BODY_ENTITY_ID = 17;
+    static final int BODY_ENTITY_TYPE = 33;
+
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".seg";
+
+    private AuditFormat() {
+    }
+
+    static String segmentName(long firstSequence) {
+        return String.format("%s%020d%s", PREFIX, firstSequence, SUFFIX);
+    }
+
+    /**
+     * ディレクトリ内のセグメント（通番の順）
+     */
+    static List<Path> segments(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+            }).sorted().toList();
+        }
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    static void writeHeader(ByteBuffer segment, long firstSequence, long createdAt, byte[] previousHash) {
+        segment.putInt(0, MAGIC);
+        segment.putShort(4, FORMAT_VERSION);
+        segment.putLong(HEADER_FIRST_SEQUENCE, firstSequence);
+        segment.putLong(HEADER_CREATED_AT, createdAt);
+        segment.put(HEADER_PREVIOUS_HASH, previousHash);
+    }
+
+    static boolean hasHeader(ByteBuffer segment) {
+        return segment.capacity() >= HEADER_SIZE && segment.getInt(0) == MAGIC
+                && segment.getShort(4) == FORMAT_VERSION;
+    }
+
+    static byte[] previousHash(ByteBuffer segment) {
+        byte[] hash = new byte[HASH_SIZE];
+        segment.get(HEADER_PREVIOUS_HASH, hash);
+        return hash;
+    }
+
+    /**
+     * 本文を書く（通番・時刻は追記時に埋める）。
+     */
+    static void encode(ByteBuffer body, AuditRecord.Op op, String entityType, long entityId, long version,
+            String principal, List<AuditRecord.Change> changes, int maxValueLength) {
+        body.putLong(0).putLong(0).put((byte) op.ordinal()).putLong(entityId).putLong(version);
+        putName(body, entityType);
+        putName(body, principal);
+        body.putShort((short) changes.size());
+        for (AuditRecord.Change change : changes) {
+            putName(body, change.getField());
+            putValue(body, change.getOldValue(), maxValueLength);
+            putValue(body, change.getNewValue(), maxValueLength);
+        }
+    }
+
+    /**
+     * 本文の長さの上限（encodeの前にバッファを確保するため）
+     */
+    static int maxEncodedLength(String entityType, String principal, List<AuditRecord.Change> changes,
+            int maxValueLength) {
+        int length = 8 + 8 + 1 + 8 + 8 + 2 + 2 + 2 + 3 * (entityType.length() + principal.length());
+        for (AuditRecord.Change change : changes) {
+            length += 2 + 3 * change.getField().length() + 2 * (4 + 3 * (maxValueLength + 1));
+        }
+        return length;
+    }
+
+    static AuditRecord decode(ByteBuffer body) {
+        long sequence = body.getLong();
+        long timestamp = body.getLong();
+        AuditRecord.Op op = AuditRecord.Op.of(body.get());
+        long entityId = body.getLong();
+        long version = body.getLong();
+        String entityType = getName(body);
+        String principal = getName(body);
+        int count = body.getShort() & 0xFFFF;
+        List<AuditRecord.Change> changes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            changes.add(new AuditRecord.Change(getName(body), getValue(body), getValue(body)));
+        }
+        return new AuditRecord(sequence, timestamp, op, entityType, entityId, version, principal, changes);
+    }
+
+    private static void putName(ByteBuffer body, String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, 0xFFFF);
+        body.putShort((short) length).put(bytes, 0, length);
+    }
+
+    private static void putValue(ByteBuffer body, String value, int maxValueLength) {
+        if (value == null) {
+            body.putInt(-1);
+            return;
+        }
+        if (value.length() > maxValueLength) {
+            value = value.substring(0, maxValueLength) + "…";
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        body.putInt(bytes.length).put(bytes);
+    }
+
+    private static String getName(ByteBuffer body) {
+        byte[] bytes = new byte[body.getShort() & 0xFFFF];
+        body.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String getValue(ByteBuffer body) {
+        int length = body.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        body.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,304 @@
+package com.example.syndicatelending.common.infrastructure.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.example.syndicatelending.common.infrastructure.audit.AuditFormat.HASH_SIZE;
+import static com.example.syndicatelending.common.infrastructure.audit.AuditFormat.HEADER_SIZE;
+
+/**
+ * 追記専用の監査ログ（形式は {@link AuditFormat}）。
+ * <p>
+ * セグメントファイル（app.audit.segment-size バイト）をメモリマップし、レコードをハッシュで連鎖させて追記する。
+ * 本文の組み立てはロックの外（スレッドごとのバッファ）で行い、ロック内では通番・時刻の確定、SHA-256、
+ * マップ領域へのコピーだけを行う。ディスクへの書き出し（force）は別スレッドで app.audit.fsync-interval-ms ごとに行うため、
+ * 追記はシステムコールを伴わない。プロセスが落ちてもページキャッシュ上のレコードは残り、
+ * OSごと停止した場合に失われるのは最後のforce以降の分だけになる。
+ * 起動時は最後のセグメントの連鎖を検証して続きから追記する（書き込み途中で壊れた末尾のレコードは切り捨てる）。
+ * 同じディレクトリに複数のプロセスが追記すると互いのレコードを上書きするため、ディレクトリのロックファイルを排他ロックし、
+ * 他のプロセスが使用中なら起動を失敗させる。
+ * </p>
+ */
+public class AuditLog implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+    private static final int MIN_SEGMENT_SIZE = 1 << 20;
+    private static final String LOCK_FILE = "audit.lock";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxValueLength;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final MessageDigest digest = AuditFormat.sha256();
+    private final ThreadLocal<ByteBuffer> bodies = ThreadLocal.withInitial(() -> ByteBuffer.allocate(1024));
+    private final ScheduledExecutorService syncExecutor;
+    private final FileChannel lockChannel;
+    private final FileLock directoryLock;
+
+    // 以下はlockで保護する
+    private MappedByteBuffer segment;
+    private int position;
+    private int syncedPosition;
+    private long nextSequence = 1;
+    private long lastTimestamp;
+    private byte[] lastHash = new byte[HASH_SIZE];
+    private boolean closed;
+
+    private volatile long lastSequence;
+
+    public AuditLog(Path directory, int segmentSize, int maxValueLength, long fsyncIntervalMillis)
+            throws IOException {
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("app.audit.segment-size は " + MIN_SEGMENT_SIZE + " バイト以上にしてください");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxValueLength = maxValueLength;
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+        try {
+            this.directoryLock = lock(lockChannel, directory);
+            recover();
+        } catch (IOException | RuntimeException ex) {
+            lockChannel.close();
+            throw ex;
+        }
+        this.syncExecutor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "audit-log-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (fsyncIntervalMillis > 0) {
+            syncExecutor.scheduleWithFixedDelay(this::syncQuietly, fsyncIntervalMillis, fsyncIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+        log.info("監査ログを {} に記録します（次の通番 {}）", directory.toAbsolutePath(), nextSequence);
+    }
+
+    /**
+     * レコードを追記し、通番を返す。
+     */
+    public long append(AuditRecord.Op op, String entityType, long entityId, long version, String principal,
+            List<AuditRecord.Change> changes) {
+        ByteBuffer body = bodies.get();
+        int maxLength = AuditFormat.maxEncodedLength(entityType, principal, changes, maxValueLength);
+        if (body.capacity() < maxLength) {
+            body = ByteBuffer.allocate(Math.max(maxLength, body.capacity() * 2));
+            bodies.set(body);
+        }
+        body.clear();
+        AuditFormat.encode(body, op, entityType, entityId, version, principal, changes, maxValueLength);
+        int length = body.position();
+        int recordSize = 4 + length + HASH_SIZE;
+        if (HEADER_SIZE + recordSize > segmentSize) {
+            throw new IllegalArgumentException("監査レコードがセグメントに収まりません（" + recordSize + "バイト）");
+        }
+
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("監査ログは閉じられています");
+            }
+            long sequence = nextSequence;
+            // 時刻は通番の順に単調増加させる（時刻範囲の検索でセグメントを読み飛ばすため）
+            long timestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+            body.putLong(AuditFormat.BODY_SEQUENCE, sequence).putLong(AuditFormat.BODY_TIMESTAMP, timestamp);
+            if (segment == null || position + recordSize > segment.capacity()) {
+                roll(sequence, timestamp);
+            }
+            digest.update(lastHash);
+            digest.update(body.array(), 0, length);
+            lastHash = digest.digest();
+            segment.put(position + 4, body.array(), 0, length);
+            segment.put(position + 4 + length, lastHash);
+            // 長さを最後に書き、読み手に書き込み途中のレコードを見せない
+            segment.putInt(position, length);
+            position += recordSize;
+            nextSequence = sequence + 1;
+            lastTimestamp = timestamp;
+            lastSequence = sequence;
+            return sequence;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 未書き出しの範囲をディスクに書き出す。
+     */
+    public void sync() {
+        MappedByteBuffer target;
+        int from;
+        int to;
+        lock.lock();
+        try {
+            target = segment;
+            from = syncedPosition;
+            to = position;
+            syncedPosition = position;
+        } finally {
+            lock.unlock();
+        }
+        if (target != null && to > from) {
+            target.force(from, to - from);
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * 最後に追記したレコードの通番（読み手はこれより後のレコードを読まない）
+     */
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        syncExecutor.shutdown();
+        try {
+            syncExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        sync();
+        try {
+            directoryLock.release();
+            lockChannel.close();
+        } catch (IOException ex) {
+            log.warn("監査ログのロックを解放できませんでした: {}", ex.getMessage());
+        }
+    }
+
+    private static FileLock lock(FileChannel channel, Path directory) throws IOException {
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException ex) {
+            lock = null;
+        }
+        if (lock == null) {
+            throw new IllegalStateException("監査ログのディレクトリ " + directory.toAbsolutePath()
+                    + " は他のプロセスが使用中です（app.audit.dir を分けてください）");
+        }
+        return lock;
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException ex) {
+            log.warn("監査ログの書き出しに失敗しました: {}", ex.getMessage());
+        }
+    }
+
+    private void roll(long firstSequence, long createdAt) throws IOException {
+        MappedByteBuffer previous = segment;
+        Path file = directory.resolve(AuditFormat.segmentName(firstSequence));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        AuditFormat.writeHeader(segment, firstSequence, createdAt, lastHash);
+        position = HEADER_SIZE;
+        syncedPosition = 0;
+        if (previous != null) {
+            // 前のセグメントの残りは別スレッドで書き出す
+            syncExecutor.execute(previous::force);
+        }
+    }
+
+    /**
+     * 最後のセグメントの連鎖を検証し、追記位置・通番・直前のハッシュを復元する。
+     */
+    private void recover() throws IOException {
+        List<Path> segments = new ArrayList<>(AuditFormat.segments(directory));
+        while (!segments.isEmpty()) {
+            Path file = segments.remove(segments.size() - 1);
+            MappedByteBuffer mapped;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            }
+            if (!AuditFormat.hasHeader(mapped)) {
+                if (mapped.capacity() >= HEADER_SIZE && mapped.getInt(0) == 0 && mapped.getLong(8) == 0) {
+                    // 作成直後に停止したセグメント（ヘッダーも未書き出し）
+                    log.warn("レコードのない監査ログのセグメントを削除します: {}", file);
+                    Files.delete(file);
+                    continue;
+                }
+                throw new IOException("監査ログのセグメントの形式が不正です: " + file);
+            }
+            long sequence = mapped.getLong(AuditFormat.HEADER_FIRST_SEQUENCE);
+            long timestamp = mapped.getLong(AuditFormat.HEADER_CREATED_AT);
+            byte[] hash = AuditFormat.previousHash(mapped);
+            MessageDigest verifier = AuditFormat.sha256();
+            int pos = HEADER_SIZE;
+            while (pos + 4 <= mapped.capacity()) {
+                int length = mapped.getInt(pos);
+                if (length == 0) {
+                    break;
+                }
+                long end = pos + 4L + length + HASH_SIZE;
+                boolean valid = length > 0 && end <= mapped.capacity() && mapped.getLong(pos + 4) == sequence;
+                byte[] actual = null;
+                if (valid) {
+                    verifier.update(hash);
+                    verifier.update(mapped.slice(pos + 4, length));
+                    actual = verifier.digest();
+                    valid = mapped.slice(pos + 4 + length, HASH_SIZE).equals(ByteBuffer.wrap(actual));
+                }
+                if (!valid) {
+                    log.warn("監査ログ {} の通番 {} 以降は書き込み途中のため切り捨てます", file, sequence);
+                    int limit = (int) Math.min(mapped.capacity(), length > 0 ? end : pos + 4);
+                    for (int i = pos; i < limit; i++) {
+                        mapped.put(i, (byte) 0);
+                    }
+                    mapped.force();
+                    break;
+                }
+                hash = actual;
+                timestamp = mapped.getLong(pos + 4 + AuditFormat.BODY_TIMESTAMP);
+                sequence++;
+                pos = (int) end;
+            }
+            segment = mapped;
+            position = pos;
+            syncedPosition = pos;
+            nextSequence = sequence;
+            lastTimestamp = timestamp;
+            lastHash = hash;
+            lastSequence = sequence - 1;
+            return;
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.example.syndicatelending.common.infrastructure.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static com.example.syndicatelending.common.infrastructure.audit.AuditFormat.HASH_SIZE;
+import static com.example.syndicatelending.common.infrastructure.audit.AuditFormat.HEADER_SIZE;
+
+/**
+ * 監査ログの読み取り（時刻範囲・エンティティでの絞り込みと、ハッシュ連鎖の検証）。
+ * <p>
+ * 時刻は通番の順に単調増加するため、時刻範囲より前のセグメントはヘッダーだけを見て読み飛ばし、範囲を過ぎたら読むのをやめる。
+ * 検索ではレコードの長さと通番の連続だけを確かめながら読む。verify を指定すると全セグメントを先頭から読み、
+ * 各レコードのハッシュとセグメント間の連鎖を検証する（SHA-256の再計算のため検索より1桁ほど遅い）。
+ * 不整合があればそこで止めて {@link Result#getProblem()} に返す。
+ * アプリケーションを起動せずに使えるよう、JDKのクラスだけに依存する（audit_log.sh から {@link #main} を実行する）。
+ * </p>
+ */
+public final class AuditLogReader {
+
+    private AuditLogReader() {
+    }
+
+    /**
+     * 検索条件（時刻はエポックミリ秒、範囲は両端を含む）
+     */
+    public static final class Query {
+        private long from = Long.MIN_VALUE;
+        private long to = Long.MAX_VALUE;
+        private String entityType;
+        private Long entityId;
+        private int limit = 1000;
+        private boolean verify;
+        private long maxSequence = Long.MAX_VALUE;
+
+        public Query from(Instant from) {
+            this.from = from == null ? Long.MIN_VALUE : from.toEpochMilli();
+            return this;
+        }
+
+        public Query to(Instant to) {
+            this.to = to == null ? Long.MAX_VALUE : to.toEpochMilli();
+            return this;
+        }
+
+        public Query entityType(String entityType) {
+            this.entityType = entityType;
+            return this;
+        }
+
+        public Query entityId(Long entityId) {
+            this.entityId = entityId;
+            return this;
+        }
+
+        public Query limit(int limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        public Query verify(boolean verify) {
+            this.verify = verify;
+            return this;
+        }
+
+        /**
+         * これより後の通番は読まない（追記中のログを読む場合に {@link AuditLog#getLastSequence()} を指定する）
+         */
+        public Query maxSequence(long maxSequence) {
+            this.maxSequence = maxSequence;
+            return this;
+        }
+    }
+
+    /**
+     * 検索結果
+     */
+    public static final class Result {
+        private final List<AuditRecord> records = new ArrayList<>();
+        private long scanned;
+        private long lastSequence;
+        private boolean truncated;
+        private String problem;
+
+        /**
+         * 条件に一致したレコード（通番の順、最大limit件）
+         */
+        public List<AuditRecord> getRecords() {
+            return records;
+        }
+
+        /**
+         * 読んで検証したレコード数
+         */
+        public long getScanned() {
+            return scanned;
+        }
+
+        /**
+         * 読んだ最後のレコードの通番
+         */
+        public long getLastSequence() {
+            return lastSequence;
+        }
+
+        /**
+         * limitを超えて一致するレコードがあったか
+         */
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+        /**
+         * 連鎖の不整合（改ざん・欠落の疑い）。問題がなければnull
+         */
+        public String getProblem() {
+            return problem;
+        }
+    }
+
+    public static Result scan(Path directory, Query query) throws IOException {
+        List<Path> segments = AuditFormat.segments(directory);
+        long[] firstSequences = new long[segments.size()];
+        long[] createdAts = new long[segments.size()];
+        for (int i = 0; i < segments.size(); i++) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            try (FileChannel channel = FileChannel.open(segments.get(i), StandardOpenOption.READ)) {
+                channel.read(header, 0);
+            }
+            firstSequences[i] = header.getLong(AuditFormat.HEADER_FIRST_SEQUENCE);
+            createdAts[i] = header.getLong(AuditFormat.HEADER_CREATED_AT);
+        }
+
+        Result result = new Result();
+        MessageDigest digest = AuditFormat.sha256();
+        byte[] expectedHash = query.verify ? new byte[HASH_SIZE] : null;
+        long expectedSequence = query.verify ? 1 : -1;
+        for (int i = 0; i < segments.size(); i++) {
+            Path file = segments.get(i);
+            if (firstSequences[i] > query.maxSequence) {
+                break;
+            }
+            if (!query.verify) {
+                if (createdAts[i] > query.to) {
+                    break;
+                }
+                if (i + 1 < segments.size() && createdAts[i + 1] < query.from) {
+                    // 次のセグメントの最初のレコードより前の時刻しかない
+                    continue;
+                }
+            }
+            MappedByteBuffer segment;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            if (!AuditFormat.hasHeader(segment)) {
+                result.problem = "セグメントの形式が不正です: " + file.getFileName();
+                return result;
+            }
+            byte[] hash = AuditFormat.previousHash(segment);
+            long sequence = firstSequences[i];
+            if (expectedHash != null && (!Arrays.equals(hash, expectedHash) || sequence != expectedSequence)) {
+                result.problem = "セグメント " + file.getFileName() + " が直前のレコード（通番" + (expectedSequence - 1)
+                        + "）と連続していません";
+                return result;
+            }
+            int position = HEADER_SIZE;
+            while (position + 4 <= segment.capacity()) {
+                int length = segment.getInt(position);
+                if (length == 0 || sequence > query.maxSequence) {
+                    break;
+                }
+                long end = position + 4L + length + HASH_SIZE;
+                boolean valid = length > 0 && end <= segment.capacity()
+                        && segment.getLong(position + 4 + AuditFormat.BODY_SEQUENCE) == sequence;
+                byte[] actual = null;
+                if (valid && query.verify) {
+                    digest.update(hash);
+                    digest.update(segment.slice(position + 4, length));
+                    actual = digest.digest();
+                    valid = segment.slice(position + 4 + length, HASH_SIZE).equals(ByteBuffer.wrap(actual));
+                }
+                if (!valid) {
+                    result.problem = "通番 " + sequence + " のレコードが"
+                            + (actual == null ? "壊れています" : "ハッシュと一致しません") + "（" + file.getFileName() + "）";
+                    return result;
+                }
+                result.scanned++;
+                result.lastSequence = sequence;
+                long timestamp = segment.getLong(position + 4 + AuditFormat.BODY_TIMESTAMP);
+                if (timestamp > query.to && !query.verify) {
+                    return result;
+                }
+                if (timestamp >= query.from && timestamp <= query.to && matches(segment, position + 4, query)) {
+                    if (result.records.size() < query.limit) {
+                        result.records.add(AuditFormat.decode(segment.slice(position + 4, length)));
+                    } else {
+                        result.truncated = true;
+                        if (!query.verify) {
+                            return result;
+                        }
+                    }
+                }
+                hash = actual;
+                sequence++;
+                position = (int) end;
+            }
+            expectedHash = query.verify ? hash : null;
+            expectedSequence = sequence;
+        }
+        return result;
+    }
+
+    /**
+     * 種別・IDの条件を、本文を全部は読まずに判定する。
+     */
+    private static boolean matches(ByteBuffer segment, int body, Query query) {
+        if (query.entityId != null && segment.getLong(body + AuditFormat.BODY_ENTITY_ID) != query.entityId) {
+            return false;
+        }
+        if (query.entityType == null) {
+            return true;
+        }
+        int typeOffset = body + AuditFormat.BODY_ENTITY_TYPE;
+        byte[] type = new byte[segment.getShort(typeOffset) & 0xFFFF];
+        segment.get(typeOffset + 2, type);
+        return query.entityType.equalsIgnoreCase(new String(type, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 時刻の指定を解釈する（2026-10-19T10:00:00Z、ローカル時刻の 2026-10-19T10:00、日付の 2026-10-19）。
+     */
+    public static Instant parseTime(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(text);
+        } catch (DateTimeParseException ignored) {
+            // ローカル時刻・日付として解釈する
+        }
+        try {
+            return LocalDateTime.parse(text).atZone(ZoneId.systemDefault()).toInstant();
+        } catch (DateTimeParseException ignored) {
+            return LocalDate.parse(text).atStartOfDay(ZoneId.systemDefault()).toInstant();
+        }
+    }
+
+    /**
+     * 使い方: AuditLogReader [--dir=./data/audit] [--from=時刻] [--to=時刻] [--type=Facility] [--id=1]
+     * [--limit=1000] [--verify]
+     * <p>
+     * 1行1件（通番・時刻・種類・種別#ID・バージョン・実行者・変更）で出力し、連鎖に問題があれば終了コード2で終わる。
+     * </p>
+     */
+    public static void main(String[] args) throws IOException {
+        Path directory = Path.of("./data/audit");
+        Query query = new Query();
+        try {
+            for (String arg : args) {
+                String value = arg.contains("=") ? arg.substring(arg.indexOf('=') + 1) : "";
+                switch (arg.contains("=") ? arg.substring(0, arg.indexOf('=')) : arg) {
+                    case "--dir" -> directory = Path.of(value);
+                    case "--from" -> query.from(parseTime(value));
+                    case "--to" -> query.to(parseTime(value));
+                    case "--type" -> query.entityType(value);
+                    case "--id" -> query.entityId(Long.valueOf(value));
+                    case "--limit" -> query.limit(Integer.parseInt(value));
+                    case "--verify" -> query.verify(true);
+                    default -> throw new IllegalArgumentException("不明な引数です: " + arg);
+                }
+            }
+        } catch (RuntimeException ex) {
+            System.err.println(ex.getMessage());
+            System.err.println("使い方: [--dir=./data/audit] [--from=時刻] [--to=時刻] [--type=種別] [--id=ID]"
+                    + " [--limit=件数] [--verify]");
+            System.exit(1);
+        }
+
+        Result result = scan(directory, query);
+        for (AuditRecord record : result.getRecords()) {
+            StringJoiner changes = new StringJoiner("; ");
+            for (AuditRecord.Change change : record.getChanges()) {
+                changes.add(change.getField() + ": " + change.getOldValue() + " -> " + change.getNewValue());
+            }
+            System.out.println(record.getSequence() + "\t"
+                    + record.getTimestamp().atZone(ZoneId.systemDefault()).toOffsetDateTime() + "\t"
+                    + record.getOp() + "\t" + record.getEntityType() + "#" + record.getEntityId() + "\tv"
+                    + record.getVersion() + "\t" + record.getPrincipal() + "\t" + changes);
+        }
+        System.err.println("検証したレコード " + result.getScanned() + " 件（最後の通番 " + result.getLastSequence()
+                + "）、該当 " + result.getRecords().size() + " 件" + (result.isTruncated() ? "（上限で打ち切り）" : ""));
+        if (result.getProblem() != null) {
+            System.err.println("連鎖の不整合: " + result.getProblem());
+            System.exit(2);
+        }
+    }
+}
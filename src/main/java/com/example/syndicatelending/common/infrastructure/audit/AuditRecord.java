@@ -0,0 +1,114 @@
+package com.example.syndicatelending.common.infrastructure.audit;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 監査ログの1件（1トランザクションでの1エンティティの変更）。
+ * 項目の変更前後の値は文字列（関連エンティティはID）で、記録時に app.audit.max-value-length 文字で切り詰める。
+ */
+public final class AuditRecord {
+
+    /**
+     * 変更の種類
+     */
+    public enum Op {
+        INSERT, UPDATE, DELETE;
+
+        private static final Op[] VALUES = values();
+
+        static Op of(int code) {
+            return VALUES[code];
+        }
+    }
+
+    /**
+     * 項目の変更（追加ではoldValue、削除ではnewValueがnull）
+     */
+    public static final class Change {
+        private final String field;
+        private final String oldValue;
+        private final String newValue;
+
+        public Change(String field, String oldValue, String newValue) {
+            this.field = field;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        public String getOldValue() {
+            return oldValue;
+        }
+
+        public String getNewValue() {
+            return newValue;
+        }
+    }
+
+    private final long sequence;
+    private final long timestamp;
+    private final Op op;
+    private final String entityType;
+    private final long entityId;
+    private final long version;
+    private final String principal;
+    private final List<Change> changes;
+
+    AuditRecord(long sequence, long timestamp, Op op, String entityType, long entityId, long version,
+            String principal, List<Change> changes) {
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.op = op;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.version = version;
+        this.principal = principal;
+        this.changes = changes;
+    }
+
+    /**
+     * 通番（1始まり、欠番なし）
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Instant getTimestamp() {
+        return Instant.ofEpochMilli(timestamp);
+    }
+
+    long getTimestampMillis() {
+        return timestamp;
+    }
+
+    public Op getOp() {
+        return op;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public long getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * 変更後のバージョン（バージョンを持たないエンティティ・不明な場合は-1）
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public String getPrincipal() {
+        return principal;
+    }
+
+    public List<Change> getChanges() {
+        return changes;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.syndicatelending.common.infrastructure.cache;
+
+/**
+ * キャッシュ無効化を他ノードへ伝えるフック。
+ * Beanが登録されている場合のみ、FacilityCacheは更新・削除時にこれを呼び出す。
+ * 受信側は {@link FacilityCache#evictLocal(Long)} で自ノードのエントリのみを破棄する（再送しない）。
+ */
+public interface CacheInvalidationBroadcaster {
+
+    void facilityEvicted(Long facilityId);
+}
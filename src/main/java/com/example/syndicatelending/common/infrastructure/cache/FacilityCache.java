@@ -0,0 +1,150 @@
+package com.example.syndicatelending.common.infrastructure.cache;
+
+import com.example.syndicatelending.entity.Facility;
+import com.example.syndicatelending.entity.SharePie;
+import com.example.syndicatelending.repository.FacilityRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Facility（SharePie一覧を含む）のリードスルーキャッシュ。
+ * <p>
+ * 参照が一部の稼働中ファシリティに集中するため、頻度ベースで追い出すCaffeine（W-TinyLFU）で保持する。
+ * ヒット時はバージョン列のみを主キーで読み、キャッシュ側の {@code @Version} と異なれば読み直す
+ * （他ノードでの更新や、無効化の取りこぼしを検出する）。
+ * 保持するのはどの永続化コンテキストにも属さない複製であり、呼び出し側は変更しないこと。
+ * </p>
+ */
+@Component
+public class FacilityCache {
+
+    private final FacilityRepository facilityRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<Long, Facility> cache;
+    private final boolean verifyVersion;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+
+    @Autowired(required = false)
+    private CacheInvalidationBroadcaster broadcaster;
+
+    public FacilityCache(FacilityRepository facilityRepository, PlatformTransactionManager transactionManager,
+            @Value("${app.cache.facility.maximum-size:1000}") long maximumSize,
+            @Value("${app.cache.facility.expire-after-write-seconds:600}") long expireAfterWriteSeconds,
+            @Value("${app.cache.facility.verify-version:true}") boolean verifyVersion) {
+        this.facilityRepository = facilityRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.verifyVersion = verifyVersion;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Facilityを取得する。存在しない場合はnull（存在しないIDはキャッシュしない）。
+     */
+    public Facility get(Long id) {
+        Facility cached = cache.getIfPresent(id);
+        if (cached != null) {
+            if (!verifyVersion) {
+                hits.increment();
+                return cached;
+            }
+            Optional<Long> current = facilityRepository.findVersionById(id);
+            if (current.isEmpty()) {
+                cache.invalidate(id);
+                return null;
+            }
+            if (current.get().equals(cached.getVersion())) {
+                hits.increment();
+                return cached;
+            }
+            staleHits.increment();
+            cache.invalidate(id);
+        }
+        misses.increment();
+        Facility loaded = readOnlyTransaction
+                .execute(status -> facilityRepository.findById(id).map(FacilityCache::copyOf).orElse(null));
+        if (loaded != null) {
+            cache.put(id, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 更新・削除時の無効化。登録されていれば他ノードへも伝える。
+     */
+    public void evict(Long id) {
+        evictLocal(id);
+        if (broadcaster != null) {
+            broadcaster.facilityEvicted(id);
+        }
+    }
+
+    /**
+     * 自ノードのエントリのみを破棄する（他ノードからの無効化通知の受信用）。
+     */
+    public void evictLocal(Long id) {
+        cache.invalidate(id);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        long hitCount = hits.sum();
+        long requestCount = hitCount + misses.sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", hitCount);
+        result.put("missCount", misses.sum());
+        result.put("staleHitCount", staleHits.sum());
+        result.put("hitRate", requestCount == 0 ? 1.0 : (double) hitCount / requestCount);
+        result.put("evictionCount", stats.evictionCount());
+        result.put("verifyVersion", verifyVersion);
+        return result;
+    }
+
+    private static Facility copyOf(Facility source) {
+        Facility copy = new Facility(source.getSyndicateId(), source.getCommitment(), source.getCurrency(),
+                source.getStartDate(), source.getEndDate(), source.getInterestTerms());
+        copy.setId(source.getId());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        copy.setVersion(source.getVersion());
+        List<SharePie> sharePies = new ArrayList<>();
+        for (SharePie pie : source.getSharePies()) {
+            SharePie pieCopy = new SharePie();
+            pieCopy.setId(pie.getId());
+            pieCopy.setInvestorId(pie.getInvestorId());
+            pieCopy.setShare(pie.getShare());
+            pieCopy.setCreatedAt(pie.getCreatedAt());
+            pieCopy.setUpdatedAt(pie.getUpdatedAt());
+            pieCopy.setFacility(copy);
+            sharePies.add(pieCopy);
+        }
+        copy.setSharePies(List.copyOf(sharePies));
+        return copy;
+    }
+}
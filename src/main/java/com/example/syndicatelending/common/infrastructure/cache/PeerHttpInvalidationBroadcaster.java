@@ -0,0 +1,50 @@
+package com.example.syndicatelending.common.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * app.cache.peers（カンマ区切りのベースURL）に列挙した他ノードへ、
+ * {@code POST /api/v1/cache/facilities/{id}/evict} を非同期に送って無効化を伝える。
+ * 送信に失敗しても更新処理は止めない（各ノードのバージョン確認・有効期限で整合する）。
+ */
+@Component
+@ConditionalOnProperty("app.cache.peers")
+public class PeerHttpInvalidationBroadcaster implements CacheInvalidationBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(PeerHttpInvalidationBroadcaster.class);
+
+    private final List<String> peers;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    public PeerHttpInvalidationBroadcaster(@Value("${app.cache.peers}") String peers) {
+        this.peers = Arrays.stream(peers.split(",")).map(String::trim).filter(p -> !p.isEmpty())
+                .map(p -> p.endsWith("/") ? p.substring(0, p.length() - 1) : p).toList();
+    }
+
+    @Override
+    public void facilityEvicted(Long facilityId) {
+        for (String peer : peers) {
+            HttpRequest request = HttpRequest
+                    .newBuilder(URI.create(peer + "/api/v1/cache/facilities/" + facilityId + "/evict"))
+                    .timeout(Duration.ofSeconds(2)).POST(HttpRequest.BodyPublishers.noBody()).build();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, ex) -> {
+                if (ex != null || response.statusCode() >= 300) {
+                    log.warn("Facility {} の無効化を {} へ伝えられませんでした: {}", facilityId, peer,
+                            ex != null ? ex.getMessage() : "HTTP " + response.statusCode());
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.syndicatelending.common.infrastructure.concurrent;
+
+import com.example.syndicatelending.common.infrastructure.datasource.ReadYourWritesFilter;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 複数の読み取りを並行に実行する（複合参照API用）。
+ * <p>
+ * リクエストスレッド（Tomcat）とは別の上限付きスレッドプールで、読み取りごとに読み取り専用トランザクション
+ * （レプリカ振り分けの対象）を開いて実行し、取得元ごとにタイムアウトを設ける。
+ * タイムアウトしても実行中の問い合わせは中断せず結果を捨てる（スレッド数の上限で巻き添えを抑える）。
+ * 待ち行列が満杯の場合、その読み取りは {@link RejectedExecutionException} で失敗する。
+ * </p>
+ */
+@Component
+public class ParallelReader {
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final Tracer tracer;
+    private final ThreadPoolExecutor executor;
+    private final long defaultTimeoutMillis;
+
+    public ParallelReader(PlatformTransactionManager transactionManager, ObjectProvider<Tracer> tracerProvider,
+            @Value("${app.parallel-read.pool-size:16}") int poolSize,
+            @Value("${app.parallel-read.queue-capacity:200}") int queueCapacity,
+            @Value("${app.parallel-read.timeout-ms:2000}") long defaultTimeoutMillis) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.tracer = tracerProvider.getIfAvailable(() -> Tracer.NOOP);
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "parallel-read-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 1リクエスト分の読み取りを始める。呼び出し元のスパンを引き継ぎ、並行実行した問い合わせも同じトレースに記録する。
+     * 更新直後の要求（{@link ReadYourWritesFilter}）なら、並行実行した読み取りもプライマリで行う。
+     */
+    public Batch begin() {
+        return new Batch(tracer.currentSpan(), ReadYourWritesFilter.isPrimaryRequired());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 同じリクエストの読み取り。依存する読み取り（例: Facility取得後のシンジケート）は
+     * {@code thenCompose} の中で {@link #read} を呼ぶ（プールのスレッドから呼んでもよい）。
+     */
+    public final class Batch {
+        private final Span parent;
+        private final boolean primaryRequired;
+
+        private Batch(Span parent, boolean primaryRequired) {
+            this.parent = parent;
+            this.primaryRequired = primaryRequired;
+        }
+
+        public <T> CompletableFuture<T> read(Supplier<T> query) {
+            return read(query, defaultTimeoutMillis);
+        }
+
+        public <T> CompletableFuture<T> read(Supplier<T> query, long timeoutMillis) {
+            try {
+                return CompletableFuture.supplyAsync(() -> execute(query), executor)
+                        .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+
+        private <T> T execute(Supplier<T> query) {
+            if (parent == null) {
+                return executeInTransaction(query);
+            }
+            try (Tracer.SpanInScope scope = tracer.withSpan(parent)) {
+                return executeInTransaction(query);
+            }
+        }
+
+        private <T> T executeInTransaction(Supplier<T> query) {
+            return ReadYourWritesFilter.callWithPrimaryRequired(primaryRequired,
+                    () -> readOnlyTransaction.execute(status -> query.get()));
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.syndicatelending.common.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 起動時に永続化層の実効設定（DB・接続プール・Hibernateのバッチ設定・DB固有のチューニング値）を出力する。
+ * INSERTのバッチ化はIDENTITY採番のエンティティには効かない（HibernateがIDの取得のため1行ずつ実行する）ため、
+ * バッチ化の対象となるエンティティと対象外のエンティティも出力する。
+ * <p>
+ * プロファイル（既定のH2インメモリ・h2file・postgres）ごとの設定が意図どおり効いているかを確認するためのもの。
+ * 検出した問題（再起動でデータが消える、SQLログ出力が有効、プール数がDBの最大接続数を超える等）は警告として出す。
+ * </p>
+ */
+@Component
+public class PersistenceSelfCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(PersistenceSelfCheck.class);
+
+    private static final List<String> HIBERNATE_SETTINGS = List.of("hibernate.jdbc.batch_size",
+            "hibernate.jdbc.fetch_size", "hibernate.default_batch_fetch_size", "hibernate.order_inserts",
+            "hibernate.order_updates");
+
+    private static final String H2_SETTINGS_SQL = "select setting_name, setting_value "
+            + "from information_schema.settings "
+            + "where setting_name in ('MV_STORE', 'CACHE_SIZE', 'WRITE_DELAY', 'RETENTION_TIME', 'MAX_COMPACT_TIME')";
+
+    private static final String POSTGRES_SETTINGS_SQL = "select name, current_setting(name) from pg_settings "
+            + "where name in ('max_connections', 'shared_buffers', 'effective_cache_size', 'work_mem', "
+            + "'synchronous_commit', 'wal_buffers', 'checkpoint_timeout')";
+
+    private final DataSource dataSource;
+    private final Environment environment;
+    private final EntityManagerFactory entityManagerFactory;
+    private volatile Map<String, Object> report = Collections.emptyMap();
+
+    public PersistenceSelfCheck(DataSource dataSource, Environment environment,
+            EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.environment = environment;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            report = inspect();
+            StringBuilder message = new StringBuilder("永続化設定の確認:");
+            report.forEach((key, value) -> {
+                if (!key.equals("warnings")) {
+                    message.append("\n  ").append(key).append(" = ").append(value);
+                }
+            });
+            log.info(message.toString());
+            for (Object warning : (List<?>) report.get("warnings")) {
+                log.warn("永続化設定の警告: {}", warning);
+            }
+        } catch (Exception ex) {
+            log.warn("永続化設定の確認に失敗しました: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 直近の確認結果（起動完了前は空）
+     */
+    public Map<String, Object> getReport() {
+        return report;
+    }
+
+    Map<String, Object> inspect() throws Exception {
+        Map<String, Object> result = new LinkedHashMap<>();
+        List<String> warnings = new ArrayList<>();
+        result.put("profiles", Arrays.asList(environment.getActiveProfiles()));
+
+        boolean inMemory = false;
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData meta = connection.getMetaData();
+            String product = meta.getDatabaseProductName();
+            result.put("database", product + " " + meta.getDatabaseProductVersion());
+            result.put("url", meta.getURL());
+            if (product.equals("H2")) {
+                result.put("h2", settings(connection, H2_SETTINGS_SQL));
+                inMemory = meta.getURL().startsWith("jdbc:h2:mem:");
+                if (inMemory) {
+                    warnings.add("インメモリDBのため再起動でデータが消えます（永続化には h2file または postgres プロファイルを使用）");
+                }
+            } else if (product.equals("PostgreSQL")) {
+                result.put("postgresql", settings(connection, POSTGRES_SETTINGS_SQL));
+            }
+        }
+
+        HikariDataSource hikari = dataSource.isWrapperFor(HikariDataSource.class)
+                ? dataSource.unwrap(HikariDataSource.class)
+                : null;
+        if (hikari != null) {
+            Map<String, Object> pool = new LinkedHashMap<>();
+            pool.put("name", hikari.getPoolName());
+            pool.put("maximumPoolSize", hikari.getMaximumPoolSize());
+            pool.put("minimumIdle", hikari.getMinimumIdle());
+            pool.put("connectionTimeoutMs", hikari.getConnectionTimeout());
+            pool.put("maxLifetimeMs", hikari.getMaxLifetime());
+            pool.put("dataSourceProperties", hikari.getDataSourceProperties().keySet());
+            result.put("pool", pool);
+            Object maxConnections = result.get("postgresql") instanceof Map<?, ?> pg
+                    ? pg.get("max_connections")
+                    : null;
+            if (maxConnections != null
+                    && hikari.getMaximumPoolSize() > Integer.parseInt(maxConnections.toString())) {
+                warnings.add("接続プールの最大数 " + hikari.getMaximumPoolSize() + " がmax_connections "
+                        + maxConnections + " を超えています");
+            }
+        }
+
+        Map<String, String> hibernate = new LinkedHashMap<>();
+        for (String name : HIBERNATE_SETTINGS) {
+            hibernate.put(name, environment.getProperty("spring.jpa.properties." + name, "(既定)"));
+        }
+        result.put("hibernate", hibernate);
+        result.put("insertBatching", insertBatching());
+        String batchSize = environment.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size");
+        if (batchSize == null || Integer.parseInt(batchSize) <= 1) {
+            warnings.add("hibernate.jdbc.batch_size が未設定のため、UPDATEとSEQUENCE採番のエンティティのINSERTが"
+                    + "バッチ化されません");
+        }
+        if (!inMemory && environment.getProperty("spring.jpa.show-sql", Boolean.class, false)) {
+            warnings.add("spring.jpa.show-sql が有効です（全SQLを標準出力に書くため書き込みスループットが低下します）");
+        }
+        result.put("warnings", warnings);
+        return result;
+    }
+
+    /**
+     * エンティティごとのINSERTのバッチ化の可否（IDENTITY採番はbatch_sizeに関わらず1行ずつINSERTされる）
+     */
+    private Map<String, Object> insertBatching() {
+        TreeSet<String> batched = new TreeSet<>();
+        TreeSet<String> identity = new TreeSet<>();
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel()
+                .forEachEntityDescriptor(persister -> {
+                    String name = persister.getMappedClass().getSimpleName();
+                    if (persister.getGenerator() != null && persister.getGenerator().generatedOnExecution()) {
+                        identity.add(name);
+                    } else {
+                        batched.add(name);
+                    }
+                });
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("batched", batched);
+        result.put("notBatchedIdentity", identity);
+        return result;
+    }
+
+    private static Map<String, String> settings(Connection connection, String sql) throws Exception {
+        Map<String, String> settings = new LinkedHashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+                ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                settings.put(rs.getString(1), rs.getString(2));
+            }
+        }
+        return settings;
+    }
+}
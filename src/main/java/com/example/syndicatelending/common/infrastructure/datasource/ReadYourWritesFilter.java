@@ -0,0 +1,96 @@
+package com.example.syndicatelending.common.infrastructure.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * 更新直後の読み取りをプライマリへ寄せる（read-your-writes）。
+ * <p>
+ * GET/HEAD/OPTIONS以外の要求を受けたら、一定時間有効なCookieを返す。
+ * Cookieが有効な間の要求は、読み取り専用トランザクションでもプライマリを使う。
+ * </p>
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "db-primary-until";
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private final int stickySeconds;
+
+    public ReadYourWritesFilter(int stickySeconds) {
+        this.stickySeconds = stickySeconds;
+    }
+
+    /**
+     * 現在の要求がプライマリでの読み取りを必要とするか
+     */
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+
+    /**
+     * 要求スレッド以外（並行読み取りのプールなど）で、要求時に取得した {@link #isPrimaryRequired()} を引き継いで実行する
+     */
+    public static <T> T callWithPrimaryRequired(boolean primaryRequired, Supplier<T> action) {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(primaryRequired);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            } else {
+                PRIMARY_REQUIRED.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean write = !isReadMethod(request.getMethod());
+        if (write) {
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now + stickySeconds * 1000L));
+            cookie.setMaxAge(stickySeconds);
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        }
+        PRIMARY_REQUIRED.set(write || stickyUntil(request) > now);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PRIMARY_REQUIRED.remove();
+        }
+    }
+
+    private static boolean isReadMethod(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+
+    private static long stickyUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
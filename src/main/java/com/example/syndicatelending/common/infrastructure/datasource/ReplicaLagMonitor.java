@@ -0,0 +1,85 @@
+package com.example.syndicatelending.common.infrastructure.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * レプリカの遅延（秒）を定期的に計測し、許容値以内かを判定する。
+ * <p>
+ * 遅延はlag-queryの結果（1行1列の秒数）で取得する。PostgreSQLなら例:
+ * {@code select coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)}。
+ * lag-query未設定時は常に許容値以内とみなす（同期レプリケーションや検証用の同一DB）。
+ * 計測に失敗した場合、または前回の計測が古すぎる場合は許容値超過として扱い、プライマリへ寄せる。
+ * </p>
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final double maxStalenessSeconds;
+    private final long probeIntervalMillis;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile double lastLagSeconds;
+    private volatile long lastProbeAt;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, double maxStalenessSeconds, long probeIntervalMillis) {
+        this.replica = replica;
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.maxStalenessSeconds = maxStalenessSeconds;
+        this.probeIntervalMillis = probeIntervalMillis;
+        if (this.lagQuery == null) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::probe, 0, probeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isWithinTolerance() {
+        if (lagQuery == null) {
+            return true;
+        }
+        // 計測が3周期以上止まっている場合は遅延を保証できない
+        boolean fresh = System.currentTimeMillis() - lastProbeAt <= probeIntervalMillis * 3;
+        return fresh && lastLagSeconds <= maxStalenessSeconds;
+    }
+
+    public double getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+
+    void probe() {
+        try (Connection connection = replica.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (rs.next()) {
+                lastLagSeconds = rs.getDouble(1);
+                lastProbeAt = System.currentTimeMillis();
+            }
+        } catch (Exception ex) {
+            log.warn("Failed to probe replica lag: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
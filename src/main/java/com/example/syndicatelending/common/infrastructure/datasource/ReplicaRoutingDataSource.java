@@ -0,0 +1,62 @@
+package com.example.syndicatelending.common.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 読み取り専用トランザクションをレプリカへ、それ以外をプライマリへ振り分けるDataSource。
+ * <p>
+ * 次のいずれかに当たる場合は読み取り専用でもプライマリを使う。
+ * <ul>
+ * <li>直前に更新したクライアントからの要求（{@link ReadYourWritesFilter}）</li>
+ * <li>レプリカの遅延が許容値を超えている、または遅延を確認できない（{@link ReplicaLagMonitor}）</li>
+ * </ul>
+ * トランザクション開始後に接続を取得させるため、LazyConnectionDataSourceProxy越しに使うこと。
+ * </p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReadYourWritesFilter.isPrimaryRequired()
+                && lagMonitor.isWithinTolerance()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+
+    /**
+     * 接続プール（プライマリ・レプリカ）
+     */
+    public List<HikariDataSource> getPools() {
+        return List.of(primary, replica);
+    }
+
+    @Override
+    public void close() {
+        lagMonitor.close();
+        replica.close();
+        primary.close();
+    }
+}
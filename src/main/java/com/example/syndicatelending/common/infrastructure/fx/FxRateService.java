@@ -0,0 +1,135 @@
+package com.example.syndicatelending.common.infrastructure.fx;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.repository.FxRateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 為替レートの参照と通貨換算。
+ * <p>
+ * fx_rateテーブルと、任意のCSVファイル（app.fx.rates-file、{@code base,quote,yyyy-MM-dd,rate} 形式）から
+ * {@link FxRateTable} を構築して保持する。ファイルのレートはDBの同じペア・日付より優先する。
+ * 参照はロックなしで現在の表を読み、再読み込み時は表全体を差し替える（再読み込みどうしは直列に行い、古い表で上書きしない）。
+ * </p>
+ */
+@Component
+public class FxRateService {
+
+    private static final Logger log = LoggerFactory.getLogger(FxRateService.class);
+
+    private final FxRateRepository fxRateRepository;
+    private final String ratesFile;
+    private final String pivotCurrency;
+    private final int maxStaleDays;
+    private volatile FxRateTable table = FxRateTable.empty();
+
+    public FxRateService(FxRateRepository fxRateRepository,
+            @Value("${app.fx.rates-file:}") String ratesFile,
+            @Value("${app.fx.pivot-currency:USD}") String pivotCurrency,
+            @Value("${app.fx.max-stale-days:7}") int maxStaleDays) {
+        this.fxRateRepository = fxRateRepository;
+        this.ratesFile = ratesFile;
+        this.pivotCurrency = pivotCurrency;
+        this.maxStaleDays = maxStaleDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            reload();
+        } catch (Exception ex) {
+            log.warn("為替レートの読み込みに失敗しました: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * DBとファイルからレート表を再構築する。
+     * 同時に呼ばれた場合、先に読み込んだ表が後から差し替えられないよう、構築から差し替えまでを直列に行う。
+     */
+    public synchronized FxRateTable reload() throws IOException {
+        FxRateTable.Builder builder = FxRateTable.builder();
+        for (FxRateRepository.RateRow row : fxRateRepository.findAllRateRows()) {
+            builder.add(row.getBaseCurrency(), row.getQuoteCurrency(), row.getRateDate(), row.getRate().doubleValue());
+        }
+        if (ratesFile != null && !ratesFile.isBlank()) {
+            loadFile(builder, Path.of(ratesFile));
+        }
+        FxRateTable rebuilt = builder.build(pivotCurrency, maxStaleDays);
+        table = rebuilt;
+        log.info("為替レートを読み込みました: 通貨 {}、レート {} 件", rebuilt.getCurrencies().size(),
+                rebuilt.getQuoteCount());
+        return rebuilt;
+    }
+
+    public FxRateTable getTable() {
+        return table;
+    }
+
+    /**
+     * 1 from = 戻り値 to となるレート。
+     *
+     * @throws BusinessRuleViolationException レートがない場合
+     */
+    public BigDecimal rate(String from, String to, LocalDate date) {
+        double rate = table.rate(from, to, date);
+        if (Double.isNaN(rate)) {
+            throw new BusinessRuleViolationException("為替レートがありません: " + from + "/" + to + " (" + date + ")");
+        }
+        return BigDecimal.valueOf(rate);
+    }
+
+    /**
+     * 通貨付きの金額を to に換算する。
+     */
+    public Money convert(Money money, String to, LocalDate date) {
+        if (money.getCurrency() == null) {
+            throw new IllegalArgumentException("Money without currency cannot be converted: " + money);
+        }
+        String from = money.getCurrency().getCurrencyCode();
+        BigDecimal amount = money.getAmount().multiply(rate(from, to, date));
+        return Money.of(amount.setScale(2, RoundingMode.HALF_UP), to);
+    }
+
+    /**
+     * 通貨別の換算係数（{@link FxRateTable#factors}）。
+     */
+    public double[] factors(List<String> currencies, String target, LocalDate date) {
+        return table.factors(currencies, target, date);
+    }
+
+    private static void loadFile(FxRateTable.Builder builder, Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#") || line.toLowerCase().startsWith("base")) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                if (columns.length != 4) {
+                    throw new IOException(file + ":" + lineNumber + ": expected base,quote,date,rate");
+                }
+                builder.add(columns[0], columns[1], LocalDate.parse(columns[2].trim()),
+                        Double.parseDouble(columns[3].trim()));
+            }
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.syndicatelending.common.infrastructure.fx;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 日付別の為替レートを保持する不変のインメモリ表。
+ * <p>
+ * 通貨を辞書符号化し、通貨ペア（from × 通貨数 + to）ごとにエポック日で引ける密な配列を持つ。
+ * 欠けた日（休日等）は直前のレートで埋め、最終日より後は maxStaleDays 日まで最終レートを使う。
+ * 直接のレートがないペアは逆数で埋め、それもなければ基軸通貨経由のクロスレートで求める（いずれも配列参照のみ）。
+ * レートはdoubleで保持する（有効桁は約15桁で、集計・報告用の換算には十分）。
+ * </p>
+ */
+public final class FxRateTable {
+
+    private static final FxRateTable EMPTY = new Builder().build(null, 0);
+
+    private final Map<String, Integer> currencyIndex;
+    private final List<String> currencies;
+    private final int currencyCount;
+    private final long[] firstDay;
+    private final double[][] rates;
+    private final int pivot;
+    private final int maxStaleDays;
+    private final int quoteCount;
+
+    private FxRateTable(Map<String, Integer> currencyIndex, long[] firstDay, double[][] rates, int pivot,
+            int maxStaleDays, int quoteCount) {
+        this.currencyIndex = currencyIndex;
+        this.currencies = new ArrayList<>(currencyIndex.keySet());
+        this.currencyCount = currencyIndex.size();
+        this.firstDay = firstDay;
+        this.rates = rates;
+        this.pivot = pivot;
+        this.maxStaleDays = maxStaleDays;
+        this.quoteCount = quoteCount;
+    }
+
+    public static FxRateTable empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 1 from = 戻り値 to となるレート（該当なしはNaN）。
+     */
+    public double rate(String from, String to, LocalDate date) {
+        int f = indexOf(from);
+        int t = indexOf(to);
+        if (f < 0 || t < 0) {
+            return from != null && normalize(from).equals(normalize(to)) ? 1.0 : Double.NaN;
+        }
+        return rate(f, t, date.toEpochDay());
+    }
+
+    /**
+     * 符号化済みの通貨で引く（大量の換算で通貨の辞書引きを省く場合）。
+     */
+    public double rate(int from, int to, long epochDay) {
+        if (from == to) {
+            return 1.0;
+        }
+        double direct = lookup(from * currencyCount + to, epochDay);
+        if (!Double.isNaN(direct) || pivot < 0 || from == pivot || to == pivot) {
+            return direct;
+        }
+        return lookup(from * currencyCount + pivot, epochDay) * lookup(pivot * currencyCount + to, epochDay);
+    }
+
+    /**
+     * 通貨の一覧それぞれについて target へのレートを返す（該当なしはNaN）。
+     * 通貨別に合計済みの金額へ掛けるための、集計1回につき1度だけ求める換算係数。
+     */
+    public double[] factors(List<String> from, String target, LocalDate date) {
+        double[] result = new double[from.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = rate(from.get(i), target, date);
+        }
+        return result;
+    }
+
+    /**
+     * 通貨コードの符号（未登録は-1）
+     */
+    public int indexOf(String currency) {
+        if (currency == null) {
+            return -1;
+        }
+        Integer index = currencyIndex.get(currency);
+        if (index == null) {
+            index = currencyIndex.get(normalize(currency));
+        }
+        return index == null ? -1 : index;
+    }
+
+    public List<String> getCurrencies() {
+        return currencies;
+    }
+
+    /**
+     * 登録されたレート（直接の提示値）の件数
+     */
+    public int getQuoteCount() {
+        return quoteCount;
+    }
+
+    private double lookup(int pair, long epochDay) {
+        double[] series = rates[pair];
+        if (series == null) {
+            return Double.NaN;
+        }
+        long offset = epochDay - firstDay[pair];
+        if (offset < 0) {
+            return Double.NaN;
+        }
+        if (offset >= series.length) {
+            return offset - series.length < maxStaleDays ? series[series.length - 1] : Double.NaN;
+        }
+        return series[(int) offset];
+    }
+
+    static String normalize(String currency) {
+        return currency == null ? "" : currency.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * レート表の構築。同じペア・日付のレートは後から追加したものが優先される。
+     */
+    public static final class Builder {
+        private final Map<String, Integer> currencyIndex = new LinkedHashMap<>();
+        private final Map<Long, TreeMap<Long, Double>> quotes = new HashMap<>();
+        private int quoteCount;
+
+        private Builder() {
+        }
+
+        /**
+         * 1 base = rate quote（date時点）を追加する。
+         */
+        public Builder add(String base, String quote, LocalDate date, double rate) {
+            if (!(rate > 0) || Double.isInfinite(rate)) {
+                throw new IllegalArgumentException("Invalid FX rate " + base + "/" + quote + ": " + rate);
+            }
+            int b = currency(base);
+            int q = currency(quote);
+            if (b == q) {
+                throw new IllegalArgumentException("FX rate requires two different currencies: " + base);
+            }
+            if (quotes.computeIfAbsent(pairKey(b, q), k -> new TreeMap<>()).put(date.toEpochDay(), rate) == null) {
+                quoteCount++;
+            }
+            return this;
+        }
+
+        /**
+         * @param pivotCurrency クロスレートの基軸通貨（nullはクロスレートを求めない）
+         * @param maxStaleDays  最終日より後に最終レートを使い続ける日数
+         */
+        public FxRateTable build(String pivotCurrency, int maxStaleDays) {
+            int n = currencyIndex.size();
+            Map<Long, TreeMap<Long, Double>> series = new HashMap<>();
+            quotes.forEach((key, points) -> series.computeIfAbsent(key, k -> new TreeMap<>()).putAll(points));
+            // 逆方向は直接の提示値がない日のみ逆数で埋める
+            quotes.forEach((key, points) -> {
+                TreeMap<Long, Double> inverse = series.computeIfAbsent(pairKey(to(key), from(key)),
+                        k -> new TreeMap<>());
+                points.forEach((day, rate) -> inverse.putIfAbsent(day, 1.0 / rate));
+            });
+
+            long[] firstDay = new long[n * n];
+            double[][] rates = new double[n * n][];
+            series.forEach((key, points) -> {
+                int pair = from(key) * n + to(key);
+                long first = points.firstKey();
+                double[] dense = new double[Math.toIntExact(points.lastKey() - first + 1)];
+                double last = Double.NaN;
+                for (int i = 0; i < dense.length; i++) {
+                    Double rate = points.get(first + i);
+                    last = rate != null ? rate : last;
+                    dense[i] = last;
+                }
+                firstDay[pair] = first;
+                rates[pair] = dense;
+            });
+            Integer pivot = pivotCurrency == null ? null : currencyIndex.get(normalize(pivotCurrency));
+            return new FxRateTable(new LinkedHashMap<>(currencyIndex), firstDay, rates, pivot == null ? -1 : pivot,
+                    maxStaleDays, quoteCount);
+        }
+
+        private int currency(String code) {
+            String normalized = normalize(code);
+            if (normalized.length() != 3) {
+                throw new IllegalArgumentException("Invalid currency code: " + code);
+            }
+            return currencyIndex.computeIfAbsent(normalized, c -> currencyIndex.size());
+        }
+
+        private static long pairKey(int from, int to) {
+            return ((long) from << 32) | to;
+        }
+
+        private static int from(long key) {
+            return (int) (key >>> 32);
+        }
+
+        private static int to(long key) {
+            return (int) key;
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package com.example.syndicatelending.common.infrastructure.importer;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV（1行目がヘッダー、RFC 4180の引用符）またはNDJSON（1行1オブジェクト）のファイルを1レコードずつ読む。
+ * <p>
+ * ファイル全体を読み込まず、保持するのは読み込みバッファと1レコード分のみ。
+ * 各レコードの直後のバイト位置（{@link #position()}）から読み直せるため、ジョブのチェックポイントに使える。
+ * 形式の誤り（列数の不一致、不正なJSON、長すぎるレコード）は例外にせず、{@link Record#getError()} で返す。
+ * </p>
+ */
+public final class RecordReader implements Closeable {
+
+    /**
+     * ファイル形式
+     */
+    public enum Format {
+        CSV, NDJSON;
+
+        /**
+         * 指定がなければ拡張子（.ndjson / .jsonl はNDJSON、それ以外はCSV）で決める。
+         */
+        public static Format of(String name, String fileName) {
+            if (name == null || name.isBlank()) {
+                String lower = fileName.toLowerCase(Locale.ROOT);
+                return lower.endsWith(".ndjson") || lower.endsWith(".jsonl") ? NDJSON : CSV;
+            }
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new BusinessRuleViolationException("formatはcsvまたはndjsonで指定してください: " + name);
+            }
+        }
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private final int maxRecordBytes;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int bufferPosition;
+    private int bufferLimit;
+    private byte[] record;
+    private List<String> header;
+    private long position;
+    private long line;
+
+    private RecordReader(FileChannel channel, Format format, ObjectMapper objectMapper, int maxRecordBytes) {
+        this.channel = channel;
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.maxRecordBytes = maxRecordBytes;
+        this.record = new byte[Math.min(1024, maxRecordBytes)];
+    }
+
+    /**
+     * ファイルを開く。CSVはヘッダーを読んでから、offset（前回の {@link #position()}）以降を読む。
+     *
+     * @param line offsetまでの物理行数（前回の {@link #line()}）
+     */
+    public static RecordReader open(Path file, Format format, long offset, long line, ObjectMapper objectMapper,
+            int maxRecordBytes) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        RecordReader reader = new RecordReader(channel, format, objectMapper, maxRecordBytes);
+        try {
+            reader.skipByteOrderMark();
+            if (format == Format.CSV) {
+                int length = reader.readRecord();
+                if (length < 0) {
+                    throw new BusinessRuleViolationException("CSVにヘッダー行がありません");
+                }
+                List<String> names = new ArrayList<>();
+                for (String name : parseCsv(reader.decode(length))) {
+                    names.add(normalize(name));
+                }
+                reader.header = Collections.unmodifiableList(names);
+            }
+            if (offset > reader.position) {
+                channel.position(offset);
+                reader.bufferPosition = 0;
+                reader.bufferLimit = 0;
+                reader.position = offset;
+                reader.line = line;
+            }
+            return reader;
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * 次のレコード。空行は読み飛ばし、終端ではnull。
+     */
+    public Record next() throws IOException {
+        while (true) {
+            long startLine = line + 1;
+            int length = readRecord();
+            if (length == -1) {
+                return null;
+            }
+            if (length == -2) {
+                return Record.error(startLine, "", "レコードが長すぎます（上限" + maxRecordBytes + "バイト）");
+            }
+            String raw = decode(length);
+            if (raw.isBlank()) {
+                continue;
+            }
+            return format == Format.CSV ? toCsvRecord(startLine, raw) : toJsonRecord(startLine, raw);
+        }
+    }
+
+    /**
+     * 直前に返したレコードの直後のバイト位置
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * 直前に返したレコードまでの物理行数
+     */
+    public long line() {
+        return line;
+    }
+
+    /**
+     * CSVのヘッダー（正規化済みの項目名）。NDJSONでは空。
+     */
+    public List<String> header() {
+        return header == null ? List.of() : header;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * 項目名の比較用の正規化（大文字小文字・"_"・"-"・空白を無視: company_name → companyname）
+     */
+    public static String normalize(String name) {
+        StringBuilder normalized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '_' && c != '-' && !Character.isWhitespace(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    private Record toCsvRecord(long startLine, String raw) {
+        List<String> fields;
+        try {
+            fields = parseCsv(raw);
+        } catch (IllegalArgumentException ex) {
+            return Record.error(startLine, raw, ex.getMessage());
+        }
+        if (fields.size() != header.size()) {
+            return Record.error(startLine, raw,
+                    "列数が一致しません（ヘッダー" + header.size() + "列、この行" + fields.size() + "列）");
+        }
+        Map<String, String> values = new HashMap<>(header.size() * 2);
+        for (int i = 0; i < fields.size(); i++) {
+            values.put(header.get(i), fields.get(i));
+        }
+        return new Record(startLine, raw, values, null);
+    }
+
+    private Record toJsonRecord(long startLine, String raw) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(raw);
+        } catch (JsonProcessingException ex) {
+            return Record.error(startLine, raw, "JSONとして読めません: " + ex.getOriginalMessage());
+        }
+        if (node == null || !node.isObject()) {
+            return Record.error(startLine, raw, "JSONオブジェクトではありません");
+        }
+        Map<String, String> values = new HashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext();) {
+            Map.Entry<String, JsonNode> field = it.next();
+            JsonNode value = field.getValue();
+            if (value.isContainerNode()) {
+                return Record.error(startLine, raw, field.getKey() + "に配列・オブジェクトは指定できません");
+            }
+            values.put(normalize(field.getKey()), value.isNull() ? null
+                    : value.isBigDecimal() ? value.decimalValue().toPlainString() : value.asText());
+        }
+        return new Record(startLine, raw, values, null);
+    }
+
+    /**
+     * 1レコード分のバイト列をrecordに読む。CSVでは引用符内の改行をレコードの区切りとしない
+     * （UTF-8では '"' と '\n' が他の文字のバイトに現れないため、バイト単位で判定できる）。
+     *
+     * @return 長さ（末尾の改行を除く）。終端は-1、上限超過は-2（レコードの終わりまで読み飛ばす）
+     */
+    private int readRecord() throws IOException {
+        int length = 0;
+        boolean quoted = false;
+        boolean overflow = false;
+        boolean any = false;
+        int b;
+        while ((b = read()) != -1) {
+            any = true;
+            position++;
+            if (b == '\n') {
+                line++;
+                if (!quoted) {
+                    break;
+                }
+            }
+            if (b == '"' && format == Format.CSV) {
+                quoted = !quoted;
+            }
+            if (overflow) {
+                continue;
+            }
+            if (length == maxRecordBytes) {
+                overflow = true;
+                continue;
+            }
+            if (length == record.length) {
+                record = Arrays.copyOf(record, Math.min(record.length * 2, maxRecordBytes));
+            }
+            record[length++] = (byte) b;
+        }
+        if (!any) {
+            return -1;
+        }
+        if (b == -1 && length > 0) {
+            // 末尾に改行のない最終行
+            line++;
+        }
+        if (overflow) {
+            return -2;
+        }
+        if (length > 0 && record[length - 1] == '\r') {
+            length--;
+        }
+        return length;
+    }
+
+    private String decode(int length) {
+        return new String(record, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private int read() throws IOException {
+        if (bufferPosition == bufferLimit) {
+            int n = channel.read(ByteBuffer.wrap(buffer));
+            if (n <= 0) {
+                return -1;
+            }
+            bufferPosition = 0;
+            bufferLimit = n;
+        }
+        return buffer[bufferPosition++] & 0xFF;
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        read();
+        if (bufferLimit >= 3 && (buffer[0] & 0xFF) == 0xEF && (buffer[1] & 0xFF) == 0xBB
+                && (buffer[2] & 0xFF) == 0xBF) {
+            bufferPosition = 3;
+            position = 3;
+        } else {
+            bufferPosition = 0;
+        }
+    }
+
+    /**
+     * 1レコード分のCSVを項目に分ける（"" は引用符1文字、引用符の外の前後の空白は除く）。
+     */
+    static List<String> parseCsv(String raw) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < raw.length() && raw.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == ',') {
+                fields.add(wasQuoted ? field.toString() : field.toString().trim());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '"' && field.toString().isBlank()) {
+                field.setLength(0);
+                quoted = true;
+                wasQuoted = true;
+            } else if (wasQuoted && !Character.isWhitespace(c)) {
+                throw new IllegalArgumentException("引用符の後に文字があります（" + (fields.size() + 1) + "列目）");
+            } else if (!wasQuoted) {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("引用符が閉じていません");
+        }
+        fields.add(wasQuoted ? field.toString() : field.toString().trim());
+        return fields;
+    }
+
+    /**
+     * 読み込んだ1レコード（行番号は開始行、1始まり）
+     */
+    public static final class Record {
+        private final long line;
+        private final String raw;
+        private final Map<String, String> values;
+        private final String error;
+
+        private Record(long line, String raw, Map<String, String> values, String error) {
+            this.line = line;
+            this.raw = raw;
+            this.values = values;
+            this.error = error;
+        }
+
+        static Record error(long line, String raw, String error) {
+            return new Record(line, raw, Map.of(), error);
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getRaw() {
+            return raw;
+        }
+
+        /**
+         * 項目の値（項目名は {@link #normalize} で比較する。空文字はnull）
+         */
+        public String get(String name) {
+            String value = values.get(normalize(name));
+            return value == null || value.isEmpty() ? null : value;
+        }
+
+        /**
+         * 形式の誤り（正常ならnull）
+         */
+        public String getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.syndicatelending.common.infrastructure.job;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 実行中のジョブからJobRunnerへの窓口（パラメータ、チェックポイント、キャンセル確認）。
+ */
+public class JobContext {
+
+    private final JobRunner runner;
+    private final Long jobId;
+    private final String tenantId;
+    private final Parameters parameters;
+    private final String initialCheckpoint;
+    private final long initialProcessedItems;
+    private volatile boolean stopped;
+
+    JobContext(JobRunner runner, Long jobId, String tenantId, Parameters parameters, String initialCheckpoint,
+            long initialProcessedItems) {
+        this.runner = runner;
+        this.jobId = jobId;
+        this.tenantId = tenantId;
+        this.parameters = parameters;
+        this.initialCheckpoint = initialCheckpoint;
+        this.initialProcessedItems = initialProcessedItems;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public Parameters getParameters() {
+        return parameters;
+    }
+
+    /**
+     * 前回実行時に記録された再開位置（初回はnull）
+     */
+    public String getCheckpoint() {
+        return initialCheckpoint;
+    }
+
+    /**
+     * 前回実行時までの処理件数（初回は0）
+     */
+    public long getProcessedItems() {
+        return initialProcessedItems;
+    }
+
+    /**
+     * 再開位置と進捗を記録する。
+     */
+    public void checkpoint(String checkpoint, long processedItems, Long totalItems) {
+        runner.checkpoint(jobId, checkpoint, processedItems, totalItems);
+    }
+
+    /**
+     * キャンセル要求（またはシャットダウン）があればtrue。trueを受け取った処理は速やかに戻ること。
+     */
+    public boolean isCancelRequested() {
+        if (runner.isCancelRequested(jobId)) {
+            stopped = true;
+        }
+        return stopped;
+    }
+
+    /**
+     * 処理が中断要求を受け取ったか（完了とキャンセルの判定用）
+     */
+    boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * ジョブパラメータ（JSONオブジェクト）の読み取り
+     */
+    public static class Parameters {
+        private final JsonNode node;
+
+        Parameters(JsonNode node) {
+            this.node = node;
+        }
+
+        static Parameters parse(ObjectMapper objectMapper, String json) {
+            try {
+                return new Parameters(json == null || json.isBlank() ? objectMapper.createObjectNode()
+                        : objectMapper.readTree(json));
+            } catch (Exception ex) {
+                throw new BusinessRuleViolationException("parametersが不正なJSONです: " + ex.getMessage());
+            }
+        }
+
+        public String getString(String name, String defaultValue) {
+            JsonNode value = node.get(name);
+            return value == null || value.isNull() ? defaultValue : value.asText();
+        }
+
+        public LocalDate getDate(String name, LocalDate defaultValue) {
+            String value = getString(name, null);
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                return LocalDate.parse(value);
+            } catch (DateTimeParseException ex) {
+                throw new BusinessRuleViolationException(name + "はyyyy-MM-dd形式で指定してください");
+            }
+        }
+
+        public int getInt(String name, int defaultValue) {
+            JsonNode value = node.get(name);
+            return value == null || value.isNull() ? defaultValue : value.asInt(defaultValue);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.syndicatelending.common.infrastructure.job;
+
+/**
+ * バッチジョブ種別ごとの処理。
+ * <p>
+ * 実装は一定件数ごとに {@link JobContext#checkpoint} で再開位置を記録し、
+ * {@link JobContext#isCancelRequested()} を確認して中断できるようにする。
+ * 再起動後は最後のチェックポイントから再実行されるため、チェックポイント以降の処理は冪等にすること。
+ * </p>
+ */
+public interface JobHandler {
+
+    /**
+     * ジョブ種別（投入APIの type に対応）
+     */
+    String getType();
+
+    /**
+     * 投入時にパラメータを検証する。不正な場合はBusinessRuleViolationExceptionを投げる。
+     */
+    default void validate(JobContext.Parameters parameters) {
+    }
+
+    /**
+     * ジョブを実行する。戻り値は結果メッセージ（出力ファイルのパス等）。
+     */
+    String execute(JobContext context) throws Exception;
+}
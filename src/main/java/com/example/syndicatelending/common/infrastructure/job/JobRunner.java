@@ -0,0 +1,260 @@
+package com.example.syndicatelending.common.infrastructure.job;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.application.exception.CapacityExceededException;
+import com.example.syndicatelending.entity.BatchJob;
+import com.example.syndicatelending.entity.JobStatus;
+import com.example.syndicatelending.repository.BatchJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * バッチジョブの投入・実行・キャンセル・再開を担う。
+ * <p>
+ * リクエストスレッド（Tomcat）とは別の固定サイズのスレッドプールで実行し、
+ * 待ち行列が満杯、またはテナントの投入中ジョブ数が上限に達した場合は受け付けない（HTTP 429）。
+ * ジョブの状態はbatch_jobに保存し、起動時に実行中だったジョブを最後のチェックポイントから再開する。
+ * </p>
+ */
+@Component
+public class JobRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(JobRunner.class);
+    private static final int MAX_MESSAGE_LENGTH = 2000;
+    private static final int MAX_PARAMETERS_LENGTH = 4000;
+
+    private final BatchJobRepository batchJobRepository;
+    private final ObjectMapper objectMapper;
+    private final Map<String, JobHandler> handlers = new HashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final int maxPerTenant;
+
+    // テナントごとの待機中＋実行中ジョブ数
+    private final Map<String, AtomicInteger> inFlightByTenant = new ConcurrentHashMap<>();
+    // スレッドプールへ投入済みのジョブ（二重投入防止）
+    private final Set<Long> dispatched = ConcurrentHashMap.newKeySet();
+    private final Set<Long> cancelRequested = ConcurrentHashMap.newKeySet();
+    private volatile boolean shuttingDown;
+
+    public JobRunner(BatchJobRepository batchJobRepository, ObjectMapper objectMapper, List<JobHandler> handlerList,
+            @Value("${app.jobs.pool-size:2}") int poolSize,
+            @Value("${app.jobs.queue-capacity:50}") int queueCapacity,
+            @Value("${app.jobs.max-per-tenant:2}") int maxPerTenant) {
+        this.batchJobRepository = batchJobRepository;
+        this.objectMapper = objectMapper;
+        for (JobHandler handler : handlerList) {
+            handlers.put(handler.getType(), handler);
+        }
+        this.maxPerTenant = maxPerTenant;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "batch-job-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * ジョブを投入する。
+     *
+     * @throws BusinessRuleViolationException 未知のジョブ種別・不正なパラメータ
+     * @throws CapacityExceededException      待ち行列が満杯、またはテナントの上限超過
+     */
+    public BatchJob submit(String type, String tenantId, String parameters) {
+        JobHandler handler = handlers.get(type);
+        if (handler == null) {
+            throw new BusinessRuleViolationException("Unknown job type: " + type + " (available: " + handlers.keySet() + ")");
+        }
+        if (parameters != null && parameters.length() > MAX_PARAMETERS_LENGTH) {
+            throw new BusinessRuleViolationException("parametersは" + MAX_PARAMETERS_LENGTH + "文字以内で指定してください");
+        }
+        handler.validate(JobContext.Parameters.parse(objectMapper, parameters));
+        if (!acquireTenantSlot(tenantId)) {
+            throw new CapacityExceededException("Too many active jobs for tenant: " + tenantId);
+        }
+        synchronized (this) {
+            BatchJob job;
+            try {
+                job = batchJobRepository.save(new BatchJob(type, tenantId, parameters));
+            } catch (RuntimeException ex) {
+                releaseTenantSlot(tenantId);
+                throw ex;
+            }
+            try {
+                dispatch(job.getId(), tenantId);
+            } catch (RejectedExecutionException ex) {
+                batchJobRepository.deleteById(job.getId());
+                throw new CapacityExceededException("Job queue is full");
+            }
+            return job;
+        }
+    }
+
+    /**
+     * キャンセルを要求する。未実行なら即座にCANCELLED、実行中なら次のチェックポイントで停止する。
+     */
+    public void cancel(BatchJob job) {
+        if (job.getStatus().isFinished()) {
+            throw new BusinessRuleViolationException("Job already finished: " + job.getStatus());
+        }
+        cancelRequested.add(job.getId());
+        if (batchJobRepository.cancelIfQueued(job.getId(), LocalDateTime.now()) == 0) {
+            batchJobRepository.requestCancel(job.getId(), LocalDateTime.now());
+        }
+    }
+
+    public Set<String> getJobTypes() {
+        return handlers.keySet();
+    }
+
+    /**
+     * 起動時に、実行中のまま停止したジョブを待機状態に戻して再投入する。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resume() {
+        int requeued = batchJobRepository.updateStatusAll(JobStatus.RUNNING, JobStatus.QUEUED, LocalDateTime.now());
+        if (requeued > 0) {
+            log.info("Resuming {} interrupted batch jobs from their last checkpoint", requeued);
+        }
+        dispatchPending();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 実行中のジョブはRUNNINGのまま残し、次回起動時にチェックポイントから再開する
+        shuttingDown = true;
+        executor.shutdownNow();
+    }
+
+    void checkpoint(Long jobId, String checkpoint, long processedItems, Long totalItems) {
+        batchJobRepository.updateProgress(jobId, checkpoint, processedItems, totalItems, LocalDateTime.now());
+    }
+
+    boolean isCancelRequested(Long jobId) {
+        return shuttingDown || cancelRequested.contains(jobId);
+    }
+
+    /**
+     * 待機中のジョブを、待ち行列とテナント上限の空きの範囲で投入する。
+     */
+    private synchronized void dispatchPending() {
+        if (shuttingDown) {
+            return;
+        }
+        int capacity = executor.getQueue().remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+        List<BatchJob> queued = batchJobRepository.findByStatusOrderByIdAsc(JobStatus.QUEUED,
+                PageRequest.of(0, capacity + dispatched.size()));
+        for (BatchJob job : queued) {
+            if (dispatched.contains(job.getId())) {
+                continue;
+            }
+            if (Boolean.TRUE.equals(job.getCancelRequested())) {
+                batchJobRepository.cancelIfQueued(job.getId(), LocalDateTime.now());
+                continue;
+            }
+            if (!acquireTenantSlot(job.getTenantId())) {
+                continue;
+            }
+            try {
+                dispatch(job.getId(), job.getTenantId());
+            } catch (RejectedExecutionException ex) {
+                return;
+            }
+        }
+    }
+
+    // 呼び出し側でテナントの枠を確保済みであること
+    private void dispatch(Long jobId, String tenantId) {
+        dispatched.add(jobId);
+        try {
+            executor.execute(() -> run(jobId, tenantId));
+        } catch (RejectedExecutionException ex) {
+            dispatched.remove(jobId);
+            releaseTenantSlot(tenantId);
+            throw ex;
+        }
+    }
+
+    private void run(Long jobId, String tenantId) {
+        try {
+            // 投入後にキャンセルされたジョブは実行しない
+            if (batchJobRepository.markRunning(jobId, LocalDateTime.now()) == 0) {
+                return;
+            }
+            BatchJob job = batchJobRepository.findById(jobId).orElseThrow();
+            JobHandler handler = handlers.get(job.getJobType());
+            if (handler == null) {
+                finish(jobId, JobStatus.FAILED, "Unknown job type: " + job.getJobType());
+                return;
+            }
+            if (Boolean.TRUE.equals(job.getCancelRequested())) {
+                cancelRequested.add(jobId);
+            }
+            JobContext context = new JobContext(this, jobId, tenantId,
+                    JobContext.Parameters.parse(objectMapper, job.getParameters()), job.getCheckpoint(),
+                    job.getProcessedItems() == null ? 0 : job.getProcessedItems());
+            String message = handler.execute(context);
+            if (!shuttingDown) {
+                finish(jobId, context.isStopped() ? JobStatus.CANCELLED : JobStatus.SUCCEEDED, message);
+            }
+        } catch (Exception ex) {
+            if (!shuttingDown) {
+                log.warn("Batch job {} failed", jobId, ex);
+                finish(jobId, cancelRequested.contains(jobId) ? JobStatus.CANCELLED : JobStatus.FAILED,
+                        ex.getClass().getSimpleName() + ": " + ex.getMessage());
+            }
+        } finally {
+            dispatched.remove(jobId);
+            cancelRequested.remove(jobId);
+            releaseTenantSlot(tenantId);
+            dispatchPending();
+        }
+    }
+
+    private void finish(Long jobId, JobStatus status, String message) {
+        if (message != null && message.length() > MAX_MESSAGE_LENGTH) {
+            message = message.substring(0, MAX_MESSAGE_LENGTH);
+        }
+        batchJobRepository.markFinished(jobId, status, message, LocalDateTime.now());
+    }
+
+    private boolean acquireTenantSlot(String tenantId) {
+        AtomicInteger inFlight = inFlightByTenant.computeIfAbsent(tenantId, t -> new AtomicInteger());
+        if (inFlight.incrementAndGet() > maxPerTenant) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private void releaseTenantSlot(String tenantId) {
+        AtomicInteger inFlight = inFlightByTenant.get(tenantId);
+        if (inFlight != null) {
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.example.syndicatelending.common.infrastructure.merge;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.application.exception.UpdateConflictException;
+import com.example.syndicatelending.common.infrastructure.metrics.DomainMetrics;
+import com.example.syndicatelending.entity.EntityRevision;
+import com.example.syndicatelending.repository.EntityRevisionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.StaleStateException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 楽観ロック（@Version）の更新で、同時編集を可能な範囲で自動解決する。
+ * <p>
+ * 1回の更新を1トランザクションで行い、現在の状態を読んでから保存する。リクエストのversionが現在と異なる場合は、
+ * そのバージョンの内容（基点）・リクエスト・現在の内容を項目単位で比べる3-wayマージを行い、
+ * 変更した項目が重ならなければ現在のバージョンに対してマージ結果を保存する。同じ項目を別の値に変えていれば
+ * {@link UpdateConflictException}（409、項目ごとの差分付き）とする。基点の内容が残っていない場合は、
+ * 現在と異なる項目をすべて競合として扱う。
+ * 読んでから保存するまでの間に他の更新が入った場合（保存時の楽観ロック例外）は、ロールバックして
+ * 待ち時間を倍にしながら app.merge.max-attempts 回まで読み直してやり直す。
+ * 基点には、各更新の前にentity_revisionへ記録した上書き前の内容を使う。更新より先に別トランザクションで
+ * 記録するため、あるバージョンを上書きした更新が確定していれば、そのバージョンの内容は必ず残っている
+ * （このクラスを通らない更新で進んだバージョンは記録されない）。
+ * </p>
+ */
+@Component
+public class ConcurrentUpdateMerger {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrentUpdateMerger.class);
+    private static final int MAX_SNAPSHOT_LENGTH = 20000;
+    private static final String VERSION = "version";
+
+    private final EntityRevisionRepository revisionRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader snapshotReader;
+    private final DomainMetrics domainMetrics;
+    private final TransactionTemplate transaction;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final int historyDepth;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ConcurrentUpdateMerger(EntityRevisionRepository revisionRepository, ObjectMapper objectMapper,
+            DomainMetrics domainMetrics, PlatformTransactionManager transactionManager,
+            @Value("${app.merge.max-attempts:3}") int maxAttempts,
+            @Value("${app.merge.backoff-ms:20}") long backoffMillis,
+            @Value("${app.merge.history-depth:50}") int historyDepth) {
+        this.revisionRepository = revisionRepository;
+        // 既定のノード生成はBigDecimalの末尾の0を落とす（5000000 → 5E+6）ため、マージ結果の値を保つ
+        this.objectMapper = objectMapper.copy().configure(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES, false);
+        // 保存したスナップショットの小数もdoubleにせず読む（1.0E7 と 10000000.00 を別の値と見なさないため）
+        this.snapshotReader = this.objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.domainMetrics = domainMetrics;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.historyDepth = historyDepth;
+    }
+
+    /**
+     * 更新する。
+     *
+     * @param clientVersion クライアントが編集の元にしたバージョン（リクエストのversion、またはIf-Matchのバージョン）
+     * @throws UpdateConflictException        自動で解決できない競合、または再試行の上限
+     * @throws BusinessRuleViolationException versionの指定がない
+     */
+    public <E, R> E update(Long id, R request, Long clientVersion, MergeableUpdate<E, R> update) {
+        if (clientVersion == null) {
+            throw new BusinessRuleViolationException("versionは必須です");
+        }
+        for (int attempt = 1;; attempt++) {
+            recordCurrent(id, update);
+            Attempt<E> result;
+            try {
+                result = transaction.execute(status -> attempt(id, request, clientVersion, update));
+            } catch (RuntimeException ex) {
+                if (!isOptimisticLockFailure(ex)) {
+                    throw ex;
+                }
+                if (attempt >= maxAttempts) {
+                    domainMetrics.recordUpdateConflict(update.entityType, "exhausted");
+                    throw new UpdateConflictException(update.entityType + " " + id
+                            + " is being modified concurrently; retry later", null, Map.of());
+                }
+                domainMetrics.recordUpdateRetry(update.entityType);
+                backoff(attempt);
+                continue;
+            }
+            if (result.merged) {
+                domainMetrics.recordUpdateConflict(update.entityType, "merged");
+            }
+            return result.entity;
+        }
+    }
+
+    private <E, R> Attempt<E> attempt(Long id, R request, Long clientVersion, MergeableUpdate<E, R> update) {
+        E current = update.load.apply(id);
+        Long currentVersion = update.version.apply(current);
+        JsonNode currentState = objectMapper.valueToTree(update.toRequest.apply(current));
+        R effective = request;
+        boolean merged = false;
+        if (!clientVersion.equals(currentVersion)) {
+            effective = merge(update.entityType, id, clientVersion, request, currentState, currentVersion);
+            merged = true;
+        }
+        E saved = update.apply.apply(current, effective, currentVersion);
+        // 競合をこのトランザクション内で検出し、保存後のバージョンを確定させる
+        entityManager.flush();
+        return new Attempt<>(saved, merged);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> R merge(String entityType, Long id, Long baseVersion, R request, JsonNode current,
+            Long currentVersion) {
+        JsonNode mine = objectMapper.valueToTree(request);
+        JsonNode base = revisionRepository.findByEntityTypeAndEntityIdAndVersion(entityType, id, baseVersion)
+                .map(revision -> readTree(revision.getSnapshot()))
+                .orElse(null);
+        Set<String> fields = new LinkedHashSet<>();
+        mine.fieldNames().forEachRemaining(fields::add);
+        current.fieldNames().forEachRemaining(fields::add);
+        fields.remove(VERSION);
+
+        ObjectNode merged = objectMapper.createObjectNode();
+        Map<String, Object> conflicts = new LinkedHashMap<>();
+        for (String field : fields) {
+            JsonNode yours = value(mine, field);
+            JsonNode theirs = value(current, field);
+            JsonNode original = base == null ? null : value(base, field);
+            if (same(yours, theirs)) {
+                merged.set(field, yours);
+            } else if (original == null || (!same(yours, original) && !same(theirs, original))) {
+                Map<String, Object> diff = new LinkedHashMap<>();
+                diff.put("base", original);
+                diff.put("yours", yours);
+                diff.put("current", theirs);
+                conflicts.put(field, diff);
+            } else {
+                merged.set(field, same(yours, original) ? theirs : yours);
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            domainMetrics.recordUpdateConflict(entityType, "rejected");
+            throw new UpdateConflictException(entityType + " " + id + " was modified since version " + baseVersion
+                    + (base == null ? " (base version unknown)" : ""), currentVersion, conflicts);
+        }
+        merged.put(VERSION, currentVersion);
+        try {
+            return (R) objectMapper.treeToValue(merged, request.getClass());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Merged " + entityType + " request is not valid: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * 現在の内容を、これから上書きし得るバージョンの基点として記録する。
+     * 更新のトランザクション内で別トランザクションを開くと接続を2本使うため、更新の前に短いトランザクションで行う。
+     * 同じバージョンを同時に記録した場合は一意制約で片方を捨てる（内容は同じ）。
+     */
+    private <E, R> void recordCurrent(Long id, MergeableUpdate<E, R> update) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                E current = update.load.apply(id);
+                Long version = update.version.apply(current);
+                if (version == null
+                        || revisionRepository.existsByEntityTypeAndEntityIdAndVersion(update.entityType, id, version)) {
+                    return;
+                }
+                String snapshot = objectMapper.valueToTree(update.toRequest.apply(current)).toString();
+                if (snapshot.length() > MAX_SNAPSHOT_LENGTH) {
+                    log.debug("{} {} v{} の内容を記録しません（{}文字）", update.entityType, id, version,
+                            snapshot.length());
+                    return;
+                }
+                revisionRepository.save(new EntityRevision(update.entityType, id, version, snapshot));
+                if (historyDepth > 0 && version % historyDepth == 0) {
+                    revisionRepository.deleteOlderThan(update.entityType, id, version - historyDepth);
+                }
+            });
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("{} {} の内容は記録済みです: {}", update.entityType, id, ex.getMessage());
+        } catch (RuntimeException ex) {
+            // 存在しない場合などは続く更新で同じ例外になる。記録できなくても競合が保守的に409になるだけ
+            log.debug("{} {} の内容を記録できません: {}", update.entityType, id, ex.getMessage());
+        }
+    }
+
+    private void backoff(int attempt) {
+        long delay = backoffMillis * (1L << Math.min(attempt - 1, 10))
+                + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UpdateConflictException("Interrupted while retrying a concurrent update", null, Map.of());
+        }
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return snapshotReader.readTree(json);
+        } catch (JsonProcessingException ex) {
+            log.warn("entity_revisionの内容を読めません: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    static boolean isOptimisticLockFailure(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof OptimisticLockingFailureException || t instanceof OptimisticLockException
+                    || t instanceof StaleStateException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static JsonNode value(JsonNode object, String field) {
+        JsonNode value = object.get(field);
+        return value == null ? NullNode.getInstance() : value;
+    }
+
+    /**
+     * 数値の桁数（5000000 と 5000000.00）と配列の順序（メンバー・SharePieの並び）を無視して比べる。
+     */
+    static boolean same(JsonNode a, JsonNode b) {
+        return canonical(a).equals(canonical(b));
+    }
+
+    private static JsonNode canonical(JsonNode node) {
+        if (node == null || node.isMissingNode()) {
+            return NullNode.getInstance();
+        }
+        if (node.isNumber()) {
+            return DecimalNode.valueOf(node.decimalValue().stripTrailingZeros());
+        }
+        if (node.isArray()) {
+            List<JsonNode> items = new ArrayList<>();
+            node.forEach(item -> items.add(canonical(item)));
+            items.sort(Comparator.comparing(JsonNode::toString));
+            ArrayNode sorted = JsonNodeFactory.instance.arrayNode();
+            items.forEach(sorted::add);
+            return sorted;
+        }
+        if (node.isObject()) {
+            Map<String, JsonNode> fields = new TreeMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext();) {
+                Map.Entry<String, JsonNode> field = it.next();
+                fields.put(field.getKey(), canonical(field.getValue()));
+            }
+            ObjectNode sorted = JsonNodeFactory.instance.objectNode();
+            fields.forEach(sorted::set);
+            return sorted;
+        }
+        return node;
+    }
+
+    private static final class Attempt<E> {
+        final E entity;
+        final boolean merged;
+
+        Attempt(E entity, boolean merged) {
+            this.entity = entity;
+            this.merged = merged;
+        }
+    }
+}
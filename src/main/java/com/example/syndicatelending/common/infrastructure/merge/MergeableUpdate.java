@@ -0,0 +1,42 @@
+package com.example.syndicatelending.common.infrastructure.merge;
+
+import java.util.function.Function;
+
+/**
+ * {@link ConcurrentUpdateMerger} で扱う更新の定義。
+ *
+ * @param <E> エンティティ
+ * @param <R> 更新リクエスト（項目名がマージ・差分の単位になる。versionは比較しない）
+ */
+public final class MergeableUpdate<E, R> {
+
+    /**
+     * リクエストの内容を、指定バージョンを期待して保存する。
+     */
+    @FunctionalInterface
+    public interface Apply<E, R> {
+        E apply(E current, R request, Long version);
+    }
+
+    final String entityType;
+    final Function<Long, E> load;
+    final Function<E, Long> version;
+    final Function<E, R> toRequest;
+    final Apply<E, R> apply;
+
+    /**
+     * @param entityType エンティティ種別（記録・メトリクスのキー）
+     * @param load       IDで現在のエンティティを読む（存在しなければ例外）
+     * @param version    エンティティのバージョン
+     * @param toRequest  エンティティを更新リクエストの形にする（マージの比較対象）
+     * @param apply      保存処理（検証を含む）
+     */
+    public MergeableUpdate(String entityType, Function<Long, E> load, Function<E, Long> version,
+            Function<E, R> toRequest, Apply<E, R> apply) {
+        this.entityType = entityType;
+        this.load = load;
+        this.version = version;
+        this.toRequest = toRequest;
+        this.apply = apply;
+    }
+}
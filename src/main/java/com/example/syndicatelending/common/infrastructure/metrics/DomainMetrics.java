@@ -0,0 +1,138 @@
+package com.example.syndicatelending.common.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 業務上のホットパス（ファシリティ作成・ドローダウン・楽観ロック競合）のメトリクス。
+ * <p>
+ * ファシリティ作成は全体の所要時間（結果別）に加え、検証・保存・投資額生成の工程別に計測する。
+ * タグの値はリクエスト由来の文字列をそのまま使わず、通貨コード以外は "OTHER" にまとめて系列数を抑える。
+ * </p>
+ */
+@Component
+public class DomainMetrics {
+
+    public static final String STAGE_VALIDATION = "validation";
+    public static final String STAGE_PERSISTENCE = "persistence";
+    public static final String STAGE_INVESTMENTS = "investments";
+
+    private static final Pattern CURRENCY_CODE = Pattern.compile("[A-Z]{3}");
+
+    private final MeterRegistry registry;
+    private final DistributionSummary sharePieSize;
+
+    public DomainMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.sharePieSize = DistributionSummary.builder("facility.share_pie.size")
+                .description("ファシリティあたりのSharePie（出資者）数")
+                .serviceLevelObjectives(1, 2, 3, 5, 10, 20, 50, 100)
+                .register(registry);
+    }
+
+    /**
+     * 計測を開始する。
+     */
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * ファシリティ作成の工程（STAGE_*）の所要時間を記録する。
+     */
+    public void recordFacilityCreateStage(String stage, Timer.Sample sample) {
+        sample.stop(Timer.builder("facility.create.stage")
+                .description("ファシリティ作成の工程別所要時間")
+                .tag("stage", stage)
+                .register(registry));
+    }
+
+    /**
+     * ファシリティ作成全体の所要時間を記録する。
+     *
+     * @param outcome success / invalid / not_found / error
+     */
+    public void recordFacilityCreate(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder("facility.create")
+                .description("ファシリティ作成の所要時間")
+                .tag("outcome", outcome)
+                .register(registry));
+    }
+
+    /**
+     * SharePie数を記録する（作成・更新時）。
+     */
+    public void recordSharePieSize(int size) {
+        sharePieSize.record(size);
+    }
+
+    /**
+     * ドローダウンの実行件数と金額を通貨別に記録する。
+     */
+    public void recordDrawdown(String currency, BigDecimal amount) {
+        String tag = currencyTag(currency);
+        Counter.builder("drawdown.created")
+                .description("実行されたドローダウン件数")
+                .tag("currency", tag)
+                .register(registry)
+                .increment();
+        if (amount != null) {
+            DistributionSummary.builder("drawdown.amount")
+                    .description("ドローダウン金額")
+                    .tag("currency", tag)
+                    .register(registry)
+                    .record(amount.doubleValue());
+        }
+    }
+
+    /**
+     * 楽観ロックの競合をエンティティ別に記録する。
+     */
+    public void recordOptimisticLockFailure(String entity) {
+        Counter.builder("optimistic.lock.failures")
+                .description("楽観ロック（@Version）の競合件数")
+                .tag("entity", entity)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 古いバージョンからの更新（同時編集）の解決結果をエンティティ別に記録する。
+     *
+     * @param resolution merged（項目が重ならず自動マージ） / rejected（409） / exhausted（再試行の上限）
+     */
+    public void recordUpdateConflict(String entity, String resolution) {
+        Counter.builder("entity.update.conflicts")
+                .description("古いバージョンからの更新の件数（解決結果別）")
+                .tag("entity", entity)
+                .tag("resolution", resolution)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 保存時の楽観ロック競合による再試行をエンティティ別に記録する。
+     */
+    public void recordUpdateRetry(String entity) {
+        Counter.builder("entity.update.retries")
+                .description("同時更新の競合による更新の再試行回数")
+                .tag("entity", entity)
+                .register(registry)
+                .increment();
+    }
+
+    static String currencyTag(String currency) {
+        if (currency == null) {
+            return "OTHER";
+        }
+        String code = currency.trim().toUpperCase(Locale.ROOT);
+        return CURRENCY_CODE.matcher(code).matches() ? code : "OTHER";
+    }
+}
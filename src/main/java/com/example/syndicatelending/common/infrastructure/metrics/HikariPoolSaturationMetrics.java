@@ -0,0 +1,64 @@
+package com.example.syndicatelending.common.infrastructure.metrics;
+
+import com.example.syndicatelending.common.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 接続プールの飽和度 {@code hikaricp.connections.saturation}（(使用中 + 待機中) / 最大数）。
+ * <p>
+ * 1を超えると接続待ちが発生している。Actuator標準の hikaricp.* はBeanとして登録されたプールのみが対象のため、
+ * レプリカ構成（プライマリ・レプリカのプールはBeanではない）でもここで両方のプールを計測する。
+ * </p>
+ */
+@Component
+public class HikariPoolSaturationMetrics implements MeterBinder {
+
+    private final DataSource dataSource;
+
+    public HikariPoolSaturationMetrics(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (HikariDataSource pool : pools()) {
+            Gauge.builder("hikaricp.connections.saturation", pool, HikariPoolSaturationMetrics::saturation)
+                    .description("(使用中 + 接続待ち) / 最大接続数")
+                    .tag("pool", String.valueOf(pool.getPoolName()))
+                    .register(registry);
+        }
+    }
+
+    private List<HikariDataSource> pools() {
+        List<HikariDataSource> pools = new ArrayList<>();
+        try {
+            if (dataSource.isWrapperFor(ReplicaRoutingDataSource.class)) {
+                pools.addAll(dataSource.unwrap(ReplicaRoutingDataSource.class).getPools());
+            } else if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                pools.add(dataSource.unwrap(HikariDataSource.class));
+            }
+        } catch (SQLException ex) {
+            // Hikari以外のDataSourceは対象外
+        }
+        return pools;
+    }
+
+    private static double saturation(HikariDataSource pool) {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        if (mxBean == null || pool.getMaximumPoolSize() <= 0) {
+            return Double.NaN;
+        }
+        return (double) (mxBean.getActiveConnections() + mxBean.getThreadsAwaitingConnection())
+                / pool.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.syndicatelending.common.infrastructure.metrics;
+
+import jakarta.persistence.OptimisticLockException;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.annotation.Aspect;
+import org.hibernate.StaleObjectStateException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 楽観ロックの競合をエンティティ別に数える。
+ * <p>
+ * コントローラーは例外を捕捉して応答に変換するため、リポジトリ呼び出しの例外を直接観測する。
+ * {@code @Transactional} なコントローラーのコミット時（flush時）の競合はコントローラーの外に出るため、
+ * トランザクションより外側で観測できるよう最優先の順序にしている。
+ * </p>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OptimisticLockMetricsAspect {
+
+    private final DomainMetrics domainMetrics;
+
+    public OptimisticLockMetricsAspect(DomainMetrics domainMetrics) {
+        this.domainMetrics = domainMetrics;
+    }
+
+    @AfterThrowing(pointcut = "execution(* org.springframework.data.repository.Repository+.*(..))"
+            + " || @within(org.springframework.web.bind.annotation.RestController)", throwing = "ex")
+    public void onException(JoinPoint joinPoint, Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof OptimisticLockingFailureException || t instanceof OptimisticLockException
+                    || t instanceof StaleObjectStateException) {
+                domainMetrics.recordOptimisticLockFailure(entityName(ex, joinPoint));
+                return;
+            }
+        }
+    }
+
+    private static String entityName(Throwable ex, JoinPoint joinPoint) {
+        String name = null;
+        for (Throwable t = ex; t != null && name == null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof ObjectOptimisticLockingFailureException e) {
+                name = e.getPersistentClassName();
+            } else if (t instanceof StaleObjectStateException e) {
+                name = e.getEntityName();
+            } else if (t instanceof OptimisticLockException e && e.getEntity() != null) {
+                name = e.getEntity().getClass().getName();
+            }
+        }
+        if (name == null) {
+            // 例外に型情報がない場合は保存対象の引数から推定する
+            Object[] args = joinPoint.getArgs();
+            name = args.length > 0 && args[0] != null && !(args[0] instanceof Iterable)
+                    && !(args[0] instanceof Number) ? args[0].getClass().getName() : "unknown";
+        }
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+}
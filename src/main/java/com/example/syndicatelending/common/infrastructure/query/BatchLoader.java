@@ -0,0 +1,68 @@
+package com.example.syndicatelending.common.infrastructure.query;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 1リクエスト内で使うバッチ読み込み（DataLoader）。
+ * <p>
+ * 未取得のキーだけをまとめて1回の問い合わせで読み、結果をリクエストの間保持する
+ * （同じ投資家が複数の経路から参照されても再取得しない）。存在しないキーも「なし」として記憶する。
+ * スレッドセーフではない（リクエスト処理スレッド内でのみ使う）。
+ * </p>
+ */
+public final class BatchLoader<K, V> {
+
+    private final Function<Collection<K>, Map<K, V>> batchFunction;
+    private final Map<K, V> loaded = new HashMap<>();
+    private int batches;
+
+    public BatchLoader(Function<Collection<K>, Map<K, V>> batchFunction) {
+        this.batchFunction = batchFunction;
+    }
+
+    /**
+     * キーに対応する値（存在しないキーは含まない）。
+     */
+    public Map<K, V> loadMany(Collection<K> keys) {
+        Set<K> missing = new LinkedHashSet<>();
+        for (K key : keys) {
+            if (key != null && !loaded.containsKey(key)) {
+                missing.add(key);
+            }
+        }
+        if (!missing.isEmpty()) {
+            batches++;
+            Map<K, V> fetched = batchFunction.apply(missing);
+            for (K key : missing) {
+                loaded.put(key, fetched.get(key));
+            }
+        }
+        Map<K, V> result = new HashMap<>();
+        for (K key : keys) {
+            V value = key == null ? null : loaded.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 他の経路で取得済みの値を登録する（未登録のキーのみ）。
+     */
+    public void prime(K key, V value) {
+        loaded.putIfAbsent(key, value);
+    }
+
+    /**
+     * 問い合わせを行った回数
+     */
+    public int getBatches() {
+        return batches;
+    }
+}
@@ -0,0 +1,427 @@
+package com.example.syndicatelending.common.infrastructure.query;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.entity.Borrower;
+import com.example.syndicatelending.entity.Drawdown;
+import com.example.syndicatelending.entity.Facility;
+import com.example.syndicatelending.entity.Investor;
+import com.example.syndicatelending.entity.SharePie;
+import com.example.syndicatelending.entity.Syndicate;
+import com.example.syndicatelending.repository.BorrowerRepository;
+import com.example.syndicatelending.repository.DrawdownRepository;
+import com.example.syndicatelending.repository.FacilityRepository;
+import com.example.syndicatelending.repository.InvestorRepository;
+import com.example.syndicatelending.repository.SharePieRepository;
+import com.example.syndicatelending.repository.SyndicateRepository;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * GraphQL風クエリの実行（{@code POST /api/v1/query}）。
+ * <p>
+ * 関連は階層ごとにまとめて解決する。ある階層の全エンティティについて外部キーを集め、
+ * 関連先の型ごとの {@link BatchLoader} で {@code findAllById}（一対多は {@code ...In} 問い合わせ）を1回だけ発行するため、
+ * 問い合わせ回数は件数ではなく選択の形（関連の数）で決まる。読み込んだエンティティはリクエストの間保持し、
+ * 別の経路で同じエンティティを参照しても再取得しない。読み込み件数の上限は問い合わせの前に確認する
+ * （IDで読むときは読むIDの数、一対多は残りの上限+1件までに制限して読んだ件数）。
+ * スカラー項目はJacksonのプロパティ定義から求める（REST APIの応答と同じ名前・形式。コレクションは関連としてのみ選択できる）。
+ * 呼び出し側は読み取り専用トランザクション内で実行すること。
+ * </p>
+ */
+@Component
+public class EntityQueryExecutor {
+
+    private final Map<String, Type<?>> roots = new LinkedHashMap<>();
+    private final int maxDepth;
+    private final int maxFields;
+    private final int maxIds;
+    private final int maxEntities;
+
+    public EntityQueryExecutor(ObjectMapper objectMapper, FacilityRepository facilityRepository,
+            SharePieRepository sharePieRepository, SyndicateRepository syndicateRepository,
+            InvestorRepository investorRepository, BorrowerRepository borrowerRepository,
+            DrawdownRepository drawdownRepository,
+            @Value("${app.query.max-depth:6}") int maxDepth,
+            @Value("${app.query.max-fields:200}") int maxFields,
+            @Value("${app.query.max-ids:100}") int maxIds,
+            @Value("${app.query.max-entities:10000}") int maxEntities) {
+        this.maxDepth = maxDepth;
+        this.maxFields = maxFields;
+        this.maxIds = maxIds;
+        this.maxEntities = maxEntities;
+
+        Type<Facility> facility = new Type<>("facility", Facility.class, Facility::getId, facilityRepository);
+        Type<SharePie> sharePie = new Type<>("sharePie", SharePie.class, SharePie::getId, sharePieRepository);
+        Type<Syndicate> syndicate = new Type<>("syndicate", Syndicate.class, Syndicate::getId, syndicateRepository);
+        Type<Investor> investor = new Type<>("investor", Investor.class, Investor::getId, investorRepository);
+        Type<Borrower> borrower = new Type<>("borrower", Borrower.class, Borrower::getId, borrowerRepository);
+        Type<Drawdown> drawdown = new Type<>("drawdown", Drawdown.class, Drawdown::getId, drawdownRepository);
+
+        facility.toOne("syndicate", syndicate, Facility::getSyndicateId);
+        // SharePie.facilityは遅延ロードのプロキシだが、IDの参照では初期化されない
+        facility.toMany("sharePies", sharePie, sharePieRepository::findByFacilityIds, p -> p.getFacility().getId());
+        facility.toMany("drawdowns", drawdown, drawdownRepository::findByFacilityIdIn, Drawdown::getFacilityId);
+        sharePie.toOne("investor", investor, SharePie::getInvestorId);
+        syndicate.toOne("borrower", borrower, Syndicate::getBorrowerId);
+        syndicate.toOne("leadBank", investor, Syndicate::getLeadBankId);
+        syndicate.toManyByIds("members", investor, ids -> {
+            Map<Long, List<Long>> members = new HashMap<>();
+            for (SyndicateRepository.MemberRow row : syndicateRepository.findMemberRowsBySyndicateIds(ids)) {
+                members.computeIfAbsent(row.getSyndicateId(), k -> new ArrayList<>()).add(row.getInvestorId());
+            }
+            return members;
+        });
+        syndicate.toMany("facilities", facility, facilityRepository::findBySyndicateIdIn, Facility::getSyndicateId);
+        drawdown.toOne("facility", facility, Drawdown::getFacilityId);
+        drawdown.toOne("borrower", borrower, Drawdown::getBorrowerId);
+
+        roots.put("facilities", facility);
+        roots.put("sharePies", sharePie);
+        roots.put("syndicates", syndicate);
+        roots.put("investors", investor);
+        roots.put("borrowers", borrower);
+        roots.put("drawdowns", drawdown);
+        for (Type<?> type : roots.values()) {
+            type.initScalars(objectMapper);
+        }
+    }
+
+    /**
+     * クエリを実行し、ルート名ごとの結果（IDの指定順。存在しないIDは含めない）と問い合わせ回数を返す。
+     *
+     * @throws BusinessRuleViolationException 構文誤り・未知の項目・上限超過
+     */
+    public Map<String, Object> execute(String query) {
+        List<Selection> selections = QueryParser.parse(query, maxDepth, maxFields);
+        Context context = new Context();
+        Map<String, Object> data = new LinkedHashMap<>();
+        for (Selection root : selections) {
+            Type<?> type = roots.get(root.getName());
+            if (type == null) {
+                throw new BusinessRuleViolationException(
+                        "Unknown query root: " + root.getName() + " (available: " + roots.keySet() + ")");
+            }
+            if (root.isLeaf()) {
+                throw new BusinessRuleViolationException(root.getName() + " requires a selection");
+            }
+            data.put(root.getName(), executeRoot(type, root, context));
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("data", data);
+        result.put("extensions", Map.of("queries", context.queryCounts()));
+        return result;
+    }
+
+    private <E> List<Map<String, Object>> executeRoot(Type<E> type, Selection root, Context context) {
+        List<Long> ids = root.getArguments().get("ids");
+        if (ids == null || ids.isEmpty() || root.getArguments().size() != 1) {
+            throw new BusinessRuleViolationException(root.getName() + " requires an ids argument, e.g. "
+                    + root.getName() + "(ids: [1, 2])");
+        }
+        if (ids.size() > maxIds) {
+            throw new BusinessRuleViolationException("Too many ids for " + root.getName() + " (max " + maxIds + ")");
+        }
+        Map<Long, E> loaded = context.loader(type).loadMany(ids);
+        List<E> entities = new ArrayList<>();
+        for (Long id : ids) {
+            E entity = loaded.get(id);
+            if (entity != null) {
+                entities.add(entity);
+            }
+        }
+        return render(type, entities, root.getChildren(), context);
+    }
+
+    /**
+     * 同じ階層のエンティティ群について、選択された項目を出力する（関連は階層ごとに1回で解決して再帰する）。
+     */
+    private <E> List<Map<String, Object>> render(Type<E> type, List<E> entities, List<Selection> fields,
+            Context context) {
+        context.count(entities.size());
+        List<Map<String, Object>> rows = new ArrayList<>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            rows.add(new LinkedHashMap<>());
+        }
+        for (Selection field : fields) {
+            Relation<E, ?> relation = type.relations.get(field.getName());
+            if (relation != null) {
+                if (field.isLeaf()) {
+                    throw new BusinessRuleViolationException(
+                            type.name + "." + field.getName() + " is a relation and requires a selection");
+                }
+                renderRelation(relation, entities, field, rows, context);
+                continue;
+            }
+            AnnotatedMember scalar = type.scalars.get(field.getName());
+            if (scalar == null) {
+                throw new BusinessRuleViolationException("Unknown field " + type.name + "." + field.getName()
+                        + " (available: " + type.fieldNames() + ")");
+            }
+            if (!field.isLeaf()) {
+                throw new BusinessRuleViolationException(type.name + "." + field.getName() + " has no sub-fields");
+            }
+            for (int i = 0; i < entities.size(); i++) {
+                rows.get(i).put(field.getName(), scalar.getValue(entities.get(i)));
+            }
+        }
+        return rows;
+    }
+
+    private <E, T> void renderRelation(Relation<E, T> relation, List<E> parents, Selection field,
+            List<Map<String, Object>> rows, Context context) {
+        List<Object> resolved = relation.resolve(parents, context);
+        // 同じ階層で複数の親から参照されるエンティティは1度だけ出力して共有する
+        Map<T, Integer> index = new IdentityHashMap<>();
+        List<T> distinct = new ArrayList<>();
+        for (Object value : resolved) {
+            for (T child : relation.children(value)) {
+                if (index.putIfAbsent(child, distinct.size()) == null) {
+                    distinct.add(child);
+                }
+            }
+        }
+        List<Map<String, Object>> rendered = render(relation.target, distinct, field.getChildren(), context);
+        for (int i = 0; i < parents.size(); i++) {
+            Object value = resolved.get(i);
+            if (relation.many) {
+                List<Map<String, Object>> list = new ArrayList<>();
+                for (T child : relation.children(value)) {
+                    list.add(rendered.get(index.get(child)));
+                }
+                rows.get(i).put(field.getName(), list);
+            } else {
+                rows.get(i).put(field.getName(), value == null ? null : rendered.get(index.get(value)));
+            }
+        }
+    }
+
+    /**
+     * 1リクエスト分の状態（型・関連ごとのBatchLoaderと読み込み件数・出力件数）。
+     */
+    private final class Context {
+        private final Map<String, BatchLoader<Long, ?>> loaders = new LinkedHashMap<>();
+        private int loaded;
+        private int entities;
+
+        @SuppressWarnings("unchecked")
+        <V> BatchLoader<Long, V> loader(String key, Function<Collection<Long>, Map<Long, V>> batchFunction) {
+            return (BatchLoader<Long, V>) loaders.computeIfAbsent(key, k -> new BatchLoader<>(batchFunction));
+        }
+
+        <E> BatchLoader<Long, E> loader(Type<E> type) {
+            return loader(type.name, ids -> {
+                reserve(ids.size());
+                return type.findAllById(ids);
+            });
+        }
+
+        /**
+         * これから読む（または読んだ）件数を読み込み件数に加え、上限を超えたら打ち切る。
+         */
+        void reserve(int size) {
+            loaded += size;
+            if (loaded > maxEntities) {
+                throw tooLarge();
+            }
+        }
+
+        /**
+         * 件数の分からない読み込み用のページ（残りの上限+1件。超えたことを {@link #reserve} で検出できる）。
+         */
+        Pageable remaining() {
+            return PageRequest.of(0, Math.max(maxEntities - loaded, 0) + 1);
+        }
+
+        void count(int size) {
+            entities += size;
+            if (entities > maxEntities) {
+                throw tooLarge();
+            }
+        }
+
+        private BusinessRuleViolationException tooLarge() {
+            return new BusinessRuleViolationException(
+                    "Query result is too large (max " + maxEntities + " entities); narrow the ids or selection");
+        }
+
+        Map<String, Integer> queryCounts() {
+            Map<String, Integer> counts = new TreeMap<>();
+            loaders.forEach((key, loader) -> {
+                if (loader.getBatches() > 0) {
+                    counts.put(key, loader.getBatches());
+                }
+            });
+            return counts;
+        }
+    }
+
+    /**
+     * 問い合わせ可能なエンティティ型。
+     */
+    private final class Type<E> {
+        private final String name;
+        private final Class<E> entityClass;
+        private final Function<E, Long> id;
+        private final JpaRepository<E, Long> repository;
+        private final Map<String, Relation<E, ?>> relations = new LinkedHashMap<>();
+        private Map<String, AnnotatedMember> scalars = Map.of();
+
+        Type(String name, Class<E> entityClass, Function<E, Long> id, JpaRepository<E, Long> repository) {
+            this.name = name;
+            this.entityClass = entityClass;
+            this.id = id;
+            this.repository = repository;
+        }
+
+        Map<Long, E> findAllById(Collection<Long> ids) {
+            Map<Long, E> result = new HashMap<>();
+            for (E entity : repository.findAllById(ids)) {
+                result.put(id.apply(entity), entity);
+            }
+            return result;
+        }
+
+        /**
+         * 多対一: 外部キーを集めて関連先の型のローダーで読む。
+         */
+        <T> void toOne(String field, Type<T> target, Function<E, Long> foreignKey) {
+            relations.put(field, new Relation<>(target, false) {
+                @Override
+                List<Object> resolve(List<E> parents, Context context) {
+                    List<Long> keys = parents.stream().map(foreignKey).toList();
+                    Map<Long, T> loaded = context.loader(target).loadMany(keys);
+                    List<Object> result = new ArrayList<>(parents.size());
+                    for (Long key : keys) {
+                        result.add(key == null ? null : loaded.get(key));
+                    }
+                    return result;
+                }
+            });
+        }
+
+        /**
+         * 一対多: 親のIDでまとめて読み、親ごとに振り分ける（読んだ子は関連先の型のローダーにも登録する）。
+         * 子の件数は読むまで分からないため、残りの上限を超える分は読まずに打ち切る。
+         */
+        <T> void toMany(String field, Type<T> target,
+                BiFunction<Collection<Long>, Pageable, List<T>> findByParentIds,
+                Function<T, Long> parentKey) {
+            String key = name + "." + field;
+            relations.put(field, new Relation<>(target, true) {
+                @Override
+                List<Object> resolve(List<E> parents, Context context) {
+                    BatchLoader<Long, T> targets = context.loader(target);
+                    BatchLoader<Long, List<T>> groups = context.loader(key, parentIds -> {
+                        Map<Long, List<T>> grouped = new HashMap<>();
+                        parentIds.forEach(parentId -> grouped.put(parentId, new ArrayList<>()));
+                        List<T> children = findByParentIds.apply(parentIds, context.remaining());
+                        context.reserve(children.size());
+                        for (T child : children) {
+                            grouped.get(parentKey.apply(child)).add(child);
+                            targets.prime(target.id.apply(child), child);
+                        }
+                        return grouped;
+                    });
+                    List<Long> keys = parents.stream().map(id).toList();
+                    Map<Long, List<T>> loaded = groups.loadMany(keys);
+                    List<Object> result = new ArrayList<>(parents.size());
+                    for (Long parentId : keys) {
+                        result.add(loaded.getOrDefault(parentId, List.of()));
+                    }
+                    return result;
+                }
+            });
+        }
+
+        /**
+         * 一対多（IDの集合で保持する関連）: 親ごとのIDをまとめて読み、関連先の型のローダーで読む。
+         */
+        <T> void toManyByIds(String field, Type<T> target,
+                Function<Collection<Long>, Map<Long, List<Long>>> findIdsByParentIds) {
+            String key = name + "." + field;
+            relations.put(field, new Relation<>(target, true) {
+                @Override
+                List<Object> resolve(List<E> parents, Context context) {
+                    List<Long> keys = parents.stream().map(id).toList();
+                    Map<Long, List<Long>> ids = context.loader(key, findIdsByParentIds).loadMany(keys);
+                    Map<Long, T> loaded = context.loader(target)
+                            .loadMany(ids.values().stream().flatMap(List::stream).distinct().toList());
+                    List<Object> result = new ArrayList<>(parents.size());
+                    for (Long parentId : keys) {
+                        List<T> children = new ArrayList<>();
+                        for (Long childId : ids.getOrDefault(parentId, List.of())) {
+                            T child = loaded.get(childId);
+                            if (child != null) {
+                                children.add(child);
+                            }
+                        }
+                        result.add(children);
+                    }
+                    return result;
+                }
+            });
+        }
+
+        void initScalars(ObjectMapper mapper) {
+            BeanDescription description = mapper.getSerializationConfig().introspect(mapper.constructType(entityClass));
+            Map<String, AnnotatedMember> result = new LinkedHashMap<>();
+            for (BeanPropertyDefinition property : description.findProperties()) {
+                AnnotatedMember accessor = property.getAccessor();
+                if (accessor == null || relations.containsKey(property.getName())
+                        || Collection.class.isAssignableFrom(accessor.getRawType())
+                        || Map.class.isAssignableFrom(accessor.getRawType())) {
+                    continue;
+                }
+                result.put(property.getName(), accessor);
+            }
+            scalars = result;
+        }
+
+        List<String> fieldNames() {
+            List<String> names = new ArrayList<>(scalars.keySet());
+            names.addAll(relations.keySet());
+            return names;
+        }
+    }
+
+    /**
+     * 関連の解決（親と同じ順序で、多対一はエンティティまたはnull、一対多はListを返す）。
+     */
+    private abstract static class Relation<E, T> {
+        final EntityQueryExecutor.Type<T> target;
+        final boolean many;
+
+        Relation(EntityQueryExecutor.Type<T> target, boolean many) {
+            this.target = target;
+            this.many = many;
+        }
+
+        abstract List<Object> resolve(List<E> parents, EntityQueryExecutor.Context context);
+
+        @SuppressWarnings("unchecked")
+        List<T> children(Object value) {
+            if (value == null) {
+                return List.of();
+            }
+            return many ? (List<T>) value : List.of((T) value);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.syndicatelending.common.infrastructure.query;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GraphQL風の選択文字列の解析。
+ * <p>
+ * 例: {@code facilities(ids: [1, 2]) { id commitment sharePies { share investor { name } } }}。
+ * 全体を {@code query { ... }} または {@code { ... }} で囲んでもよい。カンマは空白と同じ扱い。
+ * 引数の値は整数または整数の配列のみ。解析時に入れ子の深さと項目数の上限を検査する。
+ * </p>
+ */
+public final class QueryParser {
+
+    private final String text;
+    private final int maxDepth;
+    private final int maxFields;
+    private int position;
+    private int fields;
+
+    private QueryParser(String text, int maxDepth, int maxFields) {
+        this.text = text;
+        this.maxDepth = maxDepth;
+        this.maxFields = maxFields;
+    }
+
+    /**
+     * ルートの選択一覧を返す。
+     *
+     * @throws BusinessRuleViolationException 構文誤り・上限超過
+     */
+    public static List<Selection> parse(String text, int maxDepth, int maxFields) {
+        if (text == null || text.isBlank()) {
+            throw new BusinessRuleViolationException("query is required");
+        }
+        QueryParser parser = new QueryParser(text, maxDepth, maxFields);
+        List<Selection> roots;
+        if (parser.peekName("query")) {
+            parser.name();
+            roots = parser.selectionSet(1);
+        } else if (parser.peek() == '{') {
+            roots = parser.selectionSet(1);
+        } else {
+            roots = new ArrayList<>();
+            while (parser.peek() != 0) {
+                roots.add(parser.field(1));
+            }
+        }
+        if (parser.peek() != 0) {
+            throw parser.error("unexpected '" + parser.peek() + "'");
+        }
+        return roots;
+    }
+
+    private List<Selection> selectionSet(int depth) {
+        expect('{');
+        List<Selection> selections = new ArrayList<>();
+        while (peek() != '}') {
+            if (peek() == 0) {
+                throw error("missing '}'");
+            }
+            selections.add(field(depth));
+        }
+        expect('}');
+        if (selections.isEmpty()) {
+            throw error("empty selection");
+        }
+        return selections;
+    }
+
+    private Selection field(int depth) {
+        if (depth > maxDepth) {
+            throw new BusinessRuleViolationException("Query is nested too deeply (max depth " + maxDepth + ")");
+        }
+        if (++fields > maxFields) {
+            throw new BusinessRuleViolationException("Query selects too many fields (max " + maxFields + ")");
+        }
+        String name = name();
+        Map<String, List<Long>> arguments = Map.of();
+        if (peek() == '(') {
+            arguments = arguments();
+        }
+        List<Selection> children = peek() == '{' ? selectionSet(depth + 1) : List.of();
+        return new Selection(name, arguments, children);
+    }
+
+    private Map<String, List<Long>> arguments() {
+        expect('(');
+        Map<String, List<Long>> arguments = new LinkedHashMap<>();
+        while (peek() != ')') {
+            String name = name();
+            expect(':');
+            List<Long> values = new ArrayList<>();
+            if (peek() == '[') {
+                expect('[');
+                while (peek() != ']') {
+                    values.add(number());
+                }
+                expect(']');
+            } else {
+                values.add(number());
+            }
+            arguments.put(name, values);
+        }
+        expect(')');
+        return arguments;
+    }
+
+    private String name() {
+        char c = peek();
+        if (!Character.isLetter(c) && c != '_') {
+            throw error("name expected");
+        }
+        int start = position;
+        while (position < text.length()
+                && (Character.isLetterOrDigit(text.charAt(position)) || text.charAt(position) == '_')) {
+            position++;
+        }
+        return text.substring(start, position);
+    }
+
+    private long number() {
+        char c = peek();
+        int start = position;
+        if (c == '-') {
+            position++;
+        }
+        while (position < text.length() && Character.isDigit(text.charAt(position))) {
+            position++;
+        }
+        try {
+            return Long.parseLong(text.substring(start, position));
+        } catch (NumberFormatException ex) {
+            position = start;
+            throw error("integer expected");
+        }
+    }
+
+    private boolean peekName(String name) {
+        peek();
+        return text.startsWith(name, position) && (position + name.length() == text.length()
+                || !Character.isLetterOrDigit(text.charAt(position + name.length())));
+    }
+
+    /**
+     * 空白・カンマを読み飛ばして次の文字を返す（終端は0）。
+     */
+    private char peek() {
+        while (position < text.length()
+                && (Character.isWhitespace(text.charAt(position)) || text.charAt(position) == ',')) {
+            position++;
+        }
+        return position < text.length() ? text.charAt(position) : 0;
+    }
+
+    private void expect(char expected) {
+        if (peek() != expected) {
+            throw error("'" + expected + "' expected");
+        }
+        position++;
+    }
+
+    private BusinessRuleViolationException error(String message) {
+        return new BusinessRuleViolationException("Query syntax error at " + position + ": " + message);
+    }
+}
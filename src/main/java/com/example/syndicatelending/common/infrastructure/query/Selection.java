@@ -0,0 +1,36 @@
+package com.example.syndicatelending.common.infrastructure.query;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * クエリの選択項目（項目名・引数・子の選択）。子がなければスカラー項目、あれば関連。
+ */
+public final class Selection {
+
+    private final String name;
+    private final Map<String, List<Long>> arguments;
+    private final List<Selection> children;
+
+    Selection(String name, Map<String, List<Long>> arguments, List<Selection> children) {
+        this.name = name;
+        this.arguments = arguments;
+        this.children = children;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<String, List<Long>> getArguments() {
+        return arguments;
+    }
+
+    public List<Selection> getChildren() {
+        return children;
+    }
+
+    public boolean isLeaf() {
+        return children.isEmpty();
+    }
+}
@@ -0,0 +1,307 @@
+package com.example.syndicatelending.common.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 参加者（企業・借り手・投資家）名のインメモリ前方一致インデックス。
+ * <p>
+ * 正規化（NFKC・小文字化）した名前を単語トークンに分割し、種別ごとにトークン → 参加者のソート済みマップで保持する。
+ * {@code LIKE '%x%'} による全件走査の代わりに、前方一致の範囲走査のみで候補を引き当てて順位付けする。
+ * 完全一致・名前全体の前方一致を先に引き当てるため、正規化した名前全体 → 参加者のソート済みマップも保持する。
+ * PartyControllerの登録・更新・削除時に同期し、起動時にDBから一括構築する。
+ * </p>
+ */
+@Component
+public class PartySearchIndex {
+
+    /**
+     * 参加者種別
+     */
+    public enum PartyType {
+        COMPANY, BORROWER, INVESTOR
+    }
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::getScore).reversed()
+            .thenComparingInt(h -> h.getName().length())
+            .thenComparing(Hit::getType)
+            .thenComparing(Hit::getId);
+
+    private final Map<PartyType, Shard> shards = new EnumMap<>(PartyType.class);
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxCandidates;
+    private final int maxScanned;
+
+    public PartySearchIndex(@Value("${app.search.max-candidates:200}") int maxCandidates,
+            @Value("${app.search.max-scanned:5000}") int maxScanned) {
+        this.maxCandidates = maxCandidates;
+        this.maxScanned = maxScanned;
+        for (PartyType type : PartyType.values()) {
+            shards.put(type, new Shard());
+        }
+    }
+
+    /**
+     * 参加者を登録または名前を更新する。
+     */
+    public void put(PartyType type, Long id, String name) {
+        if (id == null) {
+            return;
+        }
+        Key key = new Key(type, id);
+        Entry previous = entries.get(key);
+        if (previous != null) {
+            if (previous.name.equals(name)) {
+                return;
+            }
+            unlink(previous);
+        }
+        if (name == null || name.isBlank()) {
+            entries.remove(key);
+            return;
+        }
+        Entry entry = new Entry(type, id, name);
+        entries.put(key, entry);
+        Shard shard = shards.get(type);
+        for (String token : entry.tokens) {
+            shard.tokens.computeIfAbsent(token, t -> ConcurrentHashMap.newKeySet()).add(entry);
+        }
+        shard.names.computeIfAbsent(entry.normalizedName, n -> ConcurrentHashMap.newKeySet()).add(entry);
+    }
+
+    /**
+     * 参加者をインデックスから削除する。
+     */
+    public void remove(PartyType type, Long id) {
+        Entry entry = entries.remove(new Key(type, id));
+        if (entry != null) {
+            unlink(entry);
+        }
+    }
+
+    /**
+     * 全件を破棄する（再構築用）。
+     */
+    public void clear() {
+        entries.clear();
+        for (Shard shard : shards.values()) {
+            shard.tokens.clear();
+            shard.names.clear();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 前方一致検索。クエリの全ての語が、名前のいずれかの語の前方に一致する参加者を順位付けして返す。
+     *
+     * @param query 検索文字列
+     * @param types 対象種別（null・空なら全種別）
+     * @param limit 最大件数
+     */
+    public List<Hit> search(String query, Collection<PartyType> types, int limit) {
+        String normalizedQuery = normalize(query);
+        List<String> terms = tokenize(normalizedQuery);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String[] wordStarts = terms.stream().map(t -> " " + t).toArray(String[]::new);
+        // 最も長い語で範囲走査すると候補が最小になる
+        String driver = terms.stream().max(Comparator.comparingInt(String::length)).get();
+        Set<PartyType> targets = types == null || types.isEmpty() ? shards.keySet() : new HashSet<>(types);
+
+        // 走査件数の上限（p99の上限を保証）は対象種別で等分し、種別ごとに名前全体の前方一致
+        // （完全一致・前方一致で高順位）を先に、語の前方一致を後に走査する。走査済みの候補は数えない。
+        // 走査した候補のうち順位の高いものだけを上限件数まで保持する
+        int capacity = Math.min(limit, maxCandidates);
+        int maxScannedPerType = Math.max(maxScanned / targets.size(), 1);
+        PriorityQueue<Hit> top = new PriorityQueue<>(capacity + 1, RANKING.reversed());
+        Set<Entry> seen = new HashSet<>();
+        for (PartyType type : targets) {
+            Shard shard = shards.get(type);
+            int scanned = 0;
+            scan: for (ConcurrentNavigableMap<String, Set<Entry>> range : List.of(
+                    prefixRange(shard.names, normalizedQuery), prefixRange(shard.tokens, driver))) {
+                for (Set<Entry> bucket : range.values()) {
+                    for (Entry entry : bucket) {
+                        if (!seen.add(entry)) {
+                            continue;
+                        }
+                        if (++scanned > maxScannedPerType) {
+                            break scan;
+                        }
+                        int score = score(entry, normalizedQuery, wordStarts);
+                        if (score > 0) {
+                            top.add(new Hit(entry.type, entry.id, entry.name, score));
+                            if (top.size() > capacity) {
+                                top.poll();
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    private static ConcurrentNavigableMap<String, Set<Entry>> prefixRange(
+            ConcurrentSkipListMap<String, Set<Entry>> map, String prefix) {
+        return map.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void unlink(Entry entry) {
+        Shard shard = shards.get(entry.type);
+        for (String token : entry.tokens) {
+            shard.tokens.computeIfPresent(token, (t, bucket) -> {
+                bucket.remove(entry);
+                return bucket.isEmpty() ? null : bucket;
+            });
+        }
+        shard.names.computeIfPresent(entry.normalizedName, (n, bucket) -> {
+            bucket.remove(entry);
+            return bucket.isEmpty() ? null : bucket;
+        });
+    }
+
+    private static int score(Entry entry, String normalizedQuery, String[] wordStarts) {
+        // 語の集合ではなく連結済み文字列1本で判定し、候補ごとの参照先を減らす
+        for (String wordStart : wordStarts) {
+            if (!entry.searchable.contains(wordStart)) {
+                return 0;
+            }
+        }
+        if (entry.normalizedName.equals(normalizedQuery)) {
+            return 100;
+        }
+        if (entry.normalizedName.startsWith(normalizedQuery)) {
+            return 80;
+        }
+        return 60;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    static List<String> tokenize(String normalized) {
+        List<String> result = new ArrayList<>();
+        for (String part : normalized.split("[\\s\\p{Punct}　、。・]+")) {
+            if (!part.isEmpty()) {
+                result.add(part);
+            }
+        }
+        return result;
+    }
+
+    private static final class Key {
+        private final PartyType type;
+        private final long id;
+
+        Key(PartyType type, long id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key other = (Key) o;
+            return type == other.type && id == other.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return type.hashCode() * 31 + Long.hashCode(id);
+        }
+    }
+
+    /**
+     * 1種別分のインデックス（語 → 参加者、名前全体 → 参加者）
+     */
+    private static final class Shard {
+        private final ConcurrentSkipListMap<String, Set<Entry>> tokens = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<String, Set<Entry>> names = new ConcurrentSkipListMap<>();
+    }
+
+    private static final class Entry {
+        private final PartyType type;
+        private final Long id;
+        private final String name;
+        private final String normalizedName;
+        private final Set<String> tokens;
+        // " 語1 語2 ..." 形式。クエリ語の前に空白を付けてcontainsすると語頭一致になる
+        private final String searchable;
+
+        Entry(PartyType type, Long id, String name) {
+            this.type = type;
+            this.id = id;
+            this.name = name;
+            this.normalizedName = normalize(name);
+            List<String> words = tokenize(normalizedName);
+            this.searchable = " " + String.join(" ", words);
+            this.tokens = new LinkedHashSet<>(words);
+            // 区切りのない名前（日本語名など）にも名前全体の前方一致で当たるようにする
+            this.tokens.add(normalizedName);
+        }
+    }
+
+    /**
+     * 検索結果
+     */
+    public static final class Hit {
+        private final PartyType type;
+        private final Long id;
+        private final String name;
+        private final int score;
+
+        Hit(PartyType type, Long id, String name, int score) {
+            this.type = type;
+            this.id = id;
+            this.name = name;
+            this.score = score;
+        }
+
+        public PartyType getType() {
+            return type;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.syndicatelending.common.infrastructure.search;
+
+import com.example.syndicatelending.common.infrastructure.search.PartySearchIndex.PartyType;
+import com.example.syndicatelending.dto.BorrowerSummary;
+import com.example.syndicatelending.dto.CompanySummary;
+import com.example.syndicatelending.dto.InvestorSummary;
+import com.example.syndicatelending.repository.BorrowerRepository;
+import com.example.syndicatelending.repository.CompanyRepository;
+import com.example.syndicatelending.repository.InvestorRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * 起動時にDBの全参加者を{@link PartySearchIndex}へ読み込む。
+ * 一覧用プロジェクションをページ単位で読むため、エンティティは生成しない。
+ */
+@Component
+public class PartySearchIndexLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(PartySearchIndexLoader.class);
+
+    private final PartySearchIndex partySearchIndex;
+    private final CompanyRepository companyRepository;
+    private final BorrowerRepository borrowerRepository;
+    private final InvestorRepository investorRepository;
+    private final int pageSize;
+
+    public PartySearchIndexLoader(PartySearchIndex partySearchIndex, CompanyRepository companyRepository,
+            BorrowerRepository borrowerRepository, InvestorRepository investorRepository,
+            @Value("${app.search.load-page-size:5000}") int pageSize) {
+        this.partySearchIndex = partySearchIndex;
+        this.companyRepository = companyRepository;
+        this.borrowerRepository = borrowerRepository;
+        this.investorRepository = investorRepository;
+        this.pageSize = pageSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        partySearchIndex.clear();
+        Pageable pageable = PageRequest.of(0, pageSize, Sort.by("id"));
+        Page<CompanySummary> companies;
+        do {
+            companies = companyRepository.findAllProjectedBy(pageable);
+            companies.forEach(c -> partySearchIndex.put(PartyType.COMPANY, c.getId(), c.getCompanyName()));
+            pageable = companies.nextPageable();
+        } while (companies.hasNext());
+
+        pageable = PageRequest.of(0, pageSize, Sort.by("id"));
+        Page<BorrowerSummary> borrowers;
+        do {
+            borrowers = borrowerRepository.findAllProjectedBy(pageable);
+            borrowers.forEach(b -> partySearchIndex.put(PartyType.BORROWER, b.getId(), b.getName()));
+            pageable = borrowers.nextPageable();
+        } while (borrowers.hasNext());
+
+        pageable = PageRequest.of(0, pageSize, Sort.by("id"));
+        Page<InvestorSummary> investors;
+        do {
+            investors = investorRepository.findAllProjectedBy(pageable);
+            investors.forEach(i -> partySearchIndex.put(PartyType.INVESTOR, i.getId(), i.getName()));
+            pageable = investors.nextPageable();
+        } while (investors.hasNext());
+
+        log.info("Party search index loaded: {} parties in {} ms", partySearchIndex.size(),
+                System.currentTimeMillis() - started);
+    }
+}
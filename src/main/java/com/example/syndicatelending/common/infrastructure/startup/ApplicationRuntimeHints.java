@@ -0,0 +1,62 @@
+package com.example.syndicatelending.common.infrastructure.startup;
+
+import jakarta.persistence.AttributeConverter;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spring AOT処理（spring-boot:process-aot・ネイティブイメージ）向けの実行時ヒント。
+ * <p>
+ * コントローラは {@code ResponseEntity<?>} を返すため、応答のエンティティ・DTO・値オブジェクトはメソッドの型から辿れない。
+ * これらをJacksonのバインディング用にまとめて登録し、JPAのAttributeConverterとDB固有のマイグレーションも登録する。
+ * </p>
+ */
+public class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String BASE_PACKAGE = "com.example.syndicatelending";
+
+    private static final List<String> BINDING_PACKAGES = List.of(BASE_PACKAGE + ".entity", BASE_PACKAGE + ".dto",
+            BASE_PACKAGE + ".common.domain.model");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        List<Class<?>> types = new ArrayList<>();
+        for (String basePackage : BINDING_PACKAGES) {
+            types.addAll(scan(basePackage, classLoader));
+        }
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                types.toArray(new Class<?>[0]));
+        for (Class<?> type : types) {
+            if (AttributeConverter.class.isAssignableFrom(type)) {
+                hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            }
+        }
+        // classpath:db/migration はSpring Bootが登録済み。DB固有のマイグレーション（db/vendor/{vendor}）を追加する
+        hints.resources().registerPattern("db/vendor/*/*.sql");
+    }
+
+    private static List<Class<?>> scan(String basePackage, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                // 一覧用プロジェクションのインターフェースも含める
+                return beanDefinition.getMetadata().isIndependent();
+            }
+        };
+        scanner.addIncludeFilter((reader, factory) -> true);
+        List<Class<?>> types = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+            types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+        return types;
+    }
+}
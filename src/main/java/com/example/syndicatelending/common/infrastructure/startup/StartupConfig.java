@@ -0,0 +1,29 @@
+package com.example.syndicatelending.common.infrastructure.startup;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import javax.sql.DataSource;
+
+/**
+ * 起動に関する設定（fast-startupプロファイルの遅延初期化、AOT処理向けの実行時ヒント）。
+ */
+@Configuration
+@ImportRuntimeHints(ApplicationRuntimeHints.class)
+public class StartupConfig {
+
+    /**
+     * 遅延初期化（spring.main.lazy-initialization=true）の対象外とするBean。
+     * 永続化基盤（接続プール・マイグレーション・EntityManagerFactory）は初回リクエストで構築すると
+     * その応答が秒単位で遅れるため、遅延初期化時も起動時に生成する。
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter persistenceInfrastructureExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, FlywayMigrationInitializer.class,
+                EntityManagerFactory.class);
+    }
+}
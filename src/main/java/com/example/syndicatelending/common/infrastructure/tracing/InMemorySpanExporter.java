@@ -0,0 +1,78 @@
+package com.example.syndicatelending.common.infrastructure.tracing;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 直近のスパンをメモリに保持するエクスポーター（上限を超えた古いスパンから捨てる）。
+ * 遅いトレースの一覧と、トレース内の全スパンを {@code /api/v1/traces} から参照する。
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final int maxSpans;
+    private final Deque<SpanData> spans = new ArrayDeque<>();
+
+    public InMemorySpanExporter(int maxSpans) {
+        this.maxSpans = maxSpans;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> batch) {
+        for (SpanData span : batch) {
+            if (spans.size() >= maxSpans) {
+                spans.pollFirst();
+            }
+            spans.addLast(span);
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        spans.clear();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * ルートスパン（リクエスト単位）を所要時間の長い順に返す。
+     */
+    public List<Map<String, Object>> slowestTraces(double minDurationMillis, int limit) {
+        List<SpanData> roots = new ArrayList<>();
+        for (SpanData span : snapshot()) {
+            if (SpanRecords.isRoot(span) && SpanRecords.durationMillis(span) >= minDurationMillis) {
+                roots.add(span);
+            }
+        }
+        roots.sort(Comparator.comparingDouble(SpanRecords::durationMillis).reversed());
+        return roots.stream().limit(limit).map(SpanRecords::toMap).toList();
+    }
+
+    /**
+     * トレース内の全スパンを開始順に返す（保持期間を過ぎたものは含まない）。
+     */
+    public List<Map<String, Object>> trace(String traceId) {
+        return snapshot().stream()
+                .filter(span -> span.getTraceId().equals(traceId))
+                .sorted(Comparator.comparingLong(SpanData::getStartEpochNanos))
+                .map(SpanRecords::toMap)
+                .toList();
+    }
+
+    private synchronized List<SpanData> snapshot() {
+        return new ArrayList<>(spans);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.syndicatelending.common.infrastructure.tracing;
+
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * エクスポートするスパンの表現（ファイル出力・インメモリ参照で共通）。
+ */
+final class SpanRecords {
+
+    private SpanRecords() {
+    }
+
+    static Map<String, Object> toMap(SpanData span) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("traceId", span.getTraceId());
+        record.put("spanId", span.getSpanId());
+        record.put("parentSpanId", SpanId.isValid(span.getParentSpanId()) ? span.getParentSpanId() : null);
+        record.put("name", span.getName());
+        record.put("start", Instant.ofEpochSecond(0, span.getStartEpochNanos()).toString());
+        record.put("durationMs", durationMillis(span));
+        record.put("status", span.getStatus().getStatusCode().name());
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+        record.put("attributes", attributes);
+        return record;
+    }
+
+    static double durationMillis(SpanData span) {
+        return (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000_000.0;
+    }
+
+    static boolean isRoot(SpanData span) {
+        return !SpanId.isValid(span.getParentSpanId()) || span.getParentSpanContext().isRemote();
+    }
+}
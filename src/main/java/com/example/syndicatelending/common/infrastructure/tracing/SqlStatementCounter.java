@@ -0,0 +1,47 @@
+package com.example.syndicatelending.common.infrastructure.tracing;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Hibernateが発行するSQLをスパン単位で数えるStatementInspector。
+ * <p>
+ * スパンの開始ごとに {@link #open()} でカウンタを積み、SQLの準備時に積まれている全カウンタを加算する。
+ * 親スパン（コントローラー）の件数は子スパン（リポジトリ）の件数を含む。
+ * JDBCバッチは準備1回につき1件と数える。カウンタはスレッドごとに持つため、別スレッドでのSQLは数えない。
+ * </p>
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<Deque<int[]>> frames = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public String inspect(String sql) {
+        Deque<int[]> stack = frames.get();
+        for (int[] count : stack) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * 計数を開始する（スパンの開始時）。
+     */
+    public void open() {
+        frames.get().push(new int[1]);
+    }
+
+    /**
+     * 計数を終了し、{@link #open()} 以降に準備されたSQLの件数を返す。
+     */
+    public int close() {
+        Deque<int[]> stack = frames.get();
+        int count = stack.isEmpty() ? 0 : stack.pop()[0];
+        if (stack.isEmpty()) {
+            frames.remove();
+        }
+        return count;
+    }
+}
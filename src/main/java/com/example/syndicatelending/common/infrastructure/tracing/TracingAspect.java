@@ -0,0 +1,88 @@
+package com.example.syndicatelending.common.infrastructure.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.repository.Repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * コントローラー・Validator・リポジトリの各メソッド呼び出しをスパンにする。
+ * <p>
+ * スパン名は {@code クラス名.メソッド名}（リポジトリは {@code FacilityRepository.save} のようにインターフェース名）、
+ * 属性 {@code layer} に層、{@code db.statement.count} にスパン内で準備したSQLの件数を記録する。
+ * {@code @Transactional} なコントローラーのコミット時のSQLも含めるため、トランザクションより外側で適用する。
+ * Validator・リポジトリはトレースの内側（リクエスト処理中）でのみスパンにする。
+ * トレーシング無効時はBean自体を登録しない（{@link TracingConfig}）。
+ * </p>
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TracingAspect {
+
+    private final Tracer tracer;
+    private final SqlStatementCounter statementCounter;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public TracingAspect(Tracer tracer, SqlStatementCounter statementCounter) {
+        this.tracer = tracer;
+        this.statementCounter = statementCounter;
+    }
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController)")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "controller", joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    @Around("execution(* com.example.syndicatelending.domain.*Validator.*(..))")
+    public Object traceValidator(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (tracer.currentSpan() == null) {
+            return joinPoint.proceed();
+        }
+        return trace(joinPoint, "validator", joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        // ジョブのポーリング等、リクエスト外の呼び出しは単独のトレースにしない
+        if (tracer.currentSpan() == null) {
+            return joinPoint.proceed();
+        }
+        return trace(joinPoint, "repository",
+                repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(), type -> repositoryName(joinPoint)));
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String layer, String owner) throws Throwable {
+        Span span = tracer.nextSpan().name(owner + "." + joinPoint.getSignature().getName()).tag("layer", layer);
+        try (Tracer.SpanInScope scope = tracer.withSpan(span.start())) {
+            statementCounter.open();
+            try {
+                return joinPoint.proceed();
+            } catch (Throwable ex) {
+                span.error(ex);
+                throw ex;
+            } finally {
+                span.tag("db.statement.count", statementCounter.close());
+            }
+        } finally {
+            span.end();
+        }
+    }
+
+    private static String repositoryName(ProceedingJoinPoint joinPoint) {
+        // リポジトリはプロキシのため、継承したメソッド（save等）の宣言型ではなく業務側のインターフェース名を使う
+        for (Class<?> type : AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis())) {
+            if (Repository.class.isAssignableFrom(type) && !type.getName().startsWith("org.springframework.")) {
+                return type.getSimpleName();
+            }
+        }
+        return joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+}
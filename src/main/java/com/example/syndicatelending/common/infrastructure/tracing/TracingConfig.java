@@ -0,0 +1,55 @@
+package com.example.syndicatelending.common.infrastructure.tracing;
+
+import io.micrometer.tracing.Tracer;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * トレーシングの構成（management.tracing.enabled=true のときのみ有効）。
+ * <p>
+ * スパンの生成とサンプリングはMicrometer Tracing（OpenTelemetryブリッジ）に任せ、
+ * サンプリング率は management.tracing.sampling.probability で指定する。
+ * 出力先は app.tracing.exporter で選ぶ（memory: 直近 app.tracing.memory.max-spans 件を保持、
+ * file: app.tracing.file にNDJSONで追記）。無効時はアスペクト・StatementInspectorとも登録しない。
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "management.tracing.enabled", havingValue = "true")
+public class TracingConfig {
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    @Bean
+    public TracingAspect tracingAspect(Tracer tracer, SqlStatementCounter sqlStatementCounter) {
+        return new TracingAspect(tracer, sqlStatementCounter);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.tracing.exporter", havingValue = "memory", matchIfMissing = true)
+    public InMemorySpanExporter inMemorySpanExporter(
+            @Value("${app.tracing.memory.max-spans:10000}") int maxSpans) {
+        return new InMemorySpanExporter(maxSpans);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.tracing.exporter", havingValue = "file")
+    public FileSpanExporter fileSpanExporter(
+            @Value("${app.tracing.file:./logs/spans.ndjson}") String file) throws IOException {
+        return new FileSpanExporter(Path.of(file));
+    }
+}
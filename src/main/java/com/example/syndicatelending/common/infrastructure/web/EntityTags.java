@@ -0,0 +1,95 @@
+package com.example.syndicatelending.common.infrastructure.web;
+
+import com.example.syndicatelending.common.application.exception.UpdateConflictException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * エンティティの {@code @Version} から算出する強いETag。
+ * <p>
+ * ETagは {@code "種別-ID-バージョン"} 形式で、応答本文をシリアライズせずに決まる。
+ * GETの {@code If-None-Match} はバージョン列のみの問い合わせで304を返し、
+ * PUTの {@code If-Match} はリクエスト本文の {@code version} の代わりに楽観ロックの基準として使う。
+ * </p>
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    /**
+     * 強いETagを生成する。
+     */
+    public static String of(String type, Long id, Long version) {
+        return "\"" + type + "-" + id + "-" + version + "\"";
+    }
+
+    /**
+     * If-None-Match の判定（弱い比較: W/ 付きのタグも一致とみなす）。
+     */
+    public static boolean matchesIfNoneMatch(String header, String etag) {
+        return matches(header, etag, true);
+    }
+
+    /**
+     * If-Match の判定（強い比較: W/ 付きのタグは一致しない）。
+     */
+    public static boolean matchesIfMatch(String header, String etag) {
+        return matches(header, etag, false);
+    }
+
+    /**
+     * 304 Not Modified（本文なし、ETagのみ）
+     */
+    public static ResponseEntity<?> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    /**
+     * 412 Precondition Failed（現在のETagを付けて返す）
+     */
+    public static ResponseEntity<?> preconditionFailed(String etag) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(etag)
+                .body("Precondition failed: current ETag is " + etag);
+    }
+
+    /**
+     * 409 Conflict（同時更新を自動で解決できなかった。項目ごとの差分と、分かる場合は現在のETagを付けて返す）
+     */
+    public static ResponseEntity<?> conflict(String type, Long id, UpdateConflictException ex) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("message", ex.getMessage());
+        body.put("currentVersion", ex.getCurrentVersion());
+        body.put("conflicts", ex.getConflicts());
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CONFLICT);
+        if (ex.getCurrentVersion() != null) {
+            response.eTag(of(type, id, ex.getCurrentVersion()));
+        }
+        return response.body(body);
+    }
+
+    private static boolean matches(String header, String etag, boolean weak) {
+        if (header == null || header.isBlank()) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                if (!weak) {
+                    continue;
+                }
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.syndicatelending.common.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@code fields=} クエリパラメータによる出力項目の選択。
+ * <p>
+ * {@link com.fasterxml.jackson.annotation.JsonFilter}({@value #FILTER_ID}) が付与された型について、
+ * シリアライズ時に指定項目のみを書き出す（全項目を書き出してから削る方式ではない）。
+ * </p>
+ */
+public final class FieldSelection {
+
+    public static final String FILTER_ID = "fieldSelection";
+
+    private FieldSelection() {
+    }
+
+    /**
+     * fieldsが指定されていればフィルタ付きのMappingJacksonValueで包み、未指定ならbodyをそのまま返す。
+     */
+    public static Object apply(Object body, String fields) {
+        Set<String> selected = parse(fields);
+        if (selected.isEmpty()) {
+            return body;
+        }
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(selected)));
+        return value;
+    }
+
+    /**
+     * カンマ区切りの項目名を解析する。
+     */
+    public static Set<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(f -> !f.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.syndicatelending.common.infrastructure.web;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * アプリケーション共通のJackson設定。
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * fields未指定時は{@link FieldSelection#FILTER_ID}フィルタを無効（全項目出力）とする。
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+
+    /**
+     * Money・Percentageの高速な（デ）シリアライザ（Module BeanはSpring Bootが全てのObjectMapperに登録する）。
+     */
+    @Bean
+    public Module moneyJacksonModule() {
+        return new MoneyJacksonModule();
+    }
+
+    /**
+     * {@code Accept: application/x-jackson-smile} で応答するコンバータ。
+     * JSONと同じ設定（モジュール・フィルタ）のObjectMapperを使う。
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.web.binary-formats.enabled", matchIfMissing = true)
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * {@code Accept: application/cbor} で応答するコンバータ。
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.web.binary-formats.enabled", matchIfMissing = true)
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
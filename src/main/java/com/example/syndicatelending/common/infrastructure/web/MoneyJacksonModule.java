@@ -0,0 +1,128 @@
+package com.example.syndicatelending.common.infrastructure.web;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadCapability;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Money・PercentageのJackson（デ）シリアライザ。
+ * <p>
+ * {@code @JsonValue}/{@code @JsonCreator} の経路（リフレクション呼び出し + BigDecimalの文字列化・構文解析）を避け、
+ * テキスト形式ではunscaled値の桁を直接書き出し、数値トークンの文字列を直接unscaled値に読み込む。
+ * Smile・CBORなどのバイナリ形式ではBigDecimalのままネイティブの10進数型で書く。
+ * 出力される表記は従来（BigDecimal#toString、スケール固定）と同じ。
+ * </p>
+ */
+public class MoneyJacksonModule extends SimpleModule {
+
+    public MoneyJacksonModule() {
+        super("MoneyJacksonModule");
+        addSerializer(Money.class, new ScaledSerializer<>(Money.class) {
+            @Override
+            BigDecimal decimal(Money value) {
+                return value.getAmount();
+            }
+        });
+        addSerializer(Percentage.class, new ScaledSerializer<>(Percentage.class) {
+            @Override
+            BigDecimal decimal(Percentage value) {
+                return value.getValue();
+            }
+        });
+        addDeserializer(Money.class, new ScaledDeserializer<>(Money.class) {
+            @Override
+            Money create(BigDecimal value) {
+                return Money.of(value);
+            }
+        });
+        addDeserializer(Percentage.class, new ScaledDeserializer<>(Percentage.class) {
+            @Override
+            Percentage create(BigDecimal value) {
+                return Percentage.of(value);
+            }
+        });
+    }
+
+    private abstract static class ScaledSerializer<T> extends StdScalarSerializer<T> {
+
+        private static final ThreadLocal<char[]> BUFFER = ThreadLocal
+                .withInitial(() -> new char[ScaledDecimals.MAX_CHARS]);
+
+        ScaledSerializer(Class<T> type) {
+            super(type);
+        }
+
+        abstract BigDecimal decimal(T value);
+
+        @Override
+        public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            BigDecimal decimal = decimal(value);
+            if (gen.canWriteFormattedNumbers() && decimal.scale() >= 0 && decimal.precision() <= 18) {
+                char[] buffer = BUFFER.get();
+                int length = ScaledDecimals.write(decimal.unscaledValue().longValue(), decimal.scale(), buffer);
+                gen.writeNumber(buffer, 0, length);
+            } else {
+                gen.writeNumber(decimal);
+            }
+        }
+    }
+
+    private abstract static class ScaledDeserializer<T> extends StdScalarDeserializer<T> {
+
+        ScaledDeserializer(Class<T> type) {
+            super(type);
+        }
+
+        abstract T create(BigDecimal value);
+
+        @Override
+        public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.VALUE_NUMBER_INT && p.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                return create(BigDecimal.valueOf(p.getLongValue()));
+            }
+            if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+                // テキスト形式のみ（バイナリ形式は10進数をネイティブに保持しており、文字列化すると遅くなる）
+                if (!p.getReadCapabilities().isEnabled(StreamReadCapability.EXACT_FLOATS)) {
+                    BigDecimal parsed = ScaledDecimals.parse(p.getTextCharacters(), p.getTextOffset(),
+                            p.getTextLength());
+                    if (parsed != null) {
+                        return create(parsed);
+                    }
+                }
+                return create(p.getDecimalValue());
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                String text = p.getText().trim();
+                try {
+                    return create(new BigDecimal(text));
+                } catch (NumberFormatException ex) {
+                    return handleWeirdString(ctxt, text);
+                }
+            }
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            @SuppressWarnings("unchecked")
+            T unexpected = (T) ctxt.handleUnexpectedToken(handledType(), p);
+            return unexpected;
+        }
+
+        private T handleWeirdString(DeserializationContext ctxt, String text) throws IOException {
+            @SuppressWarnings("unchecked")
+            T value = (T) ctxt.handleWeirdStringValue(handledType(), text, "not a valid decimal number");
+            return value;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.syndicatelending.common.infrastructure.web;
+
+import java.math.BigDecimal;
+
+/**
+ * 固定スケールの10進数（Money: 2桁、Percentage: 4桁）を、BigDecimalの文字列化・構文解析を経ずに読み書きする。
+ * 桁数が18以下（unscaled値がlongに収まる）の場合のみ扱い、それ以外は呼び出し側がBigDecimalの経路に戻す。
+ */
+final class ScaledDecimals {
+
+    /** 符号・小数点・先頭の"0."を含む最大文字数 */
+    static final int MAX_CHARS = 22;
+
+    private static final int MAX_DIGITS = 18;
+
+    private ScaledDecimals() {
+    }
+
+    /**
+     * unscaled値とスケールから "-123.45" 形式の文字列をbufの先頭に書き、文字数を返す。
+     * BigDecimal#toPlainString と同じ表記になる。
+     */
+    static int write(long unscaled, int scale, char[] buf) {
+        boolean negative = unscaled < 0;
+        long remaining = negative ? -unscaled : unscaled;
+        // 末尾から詰めてから先頭へ寄せる
+        int pos = MAX_CHARS;
+        int digits = 0;
+        do {
+            if (digits == scale && scale > 0) {
+                buf[--pos] = '.';
+            }
+            buf[--pos] = (char) ('0' + (remaining % 10));
+            remaining /= 10;
+            digits++;
+        } while (remaining != 0 || digits <= scale);
+        if (negative) {
+            buf[--pos] = '-';
+        }
+        int length = MAX_CHARS - pos;
+        System.arraycopy(buf, pos, buf, 0, length);
+        return length;
+    }
+
+    /**
+     * JSONの数値トークンの文字列を解析する。指数表記や19桁以上の場合はnullを返す。
+     */
+    static BigDecimal parse(char[] chars, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; i < end; i++) {
+            char c = chars[i];
+            if (c == '.' && scale < 0) {
+                scale = 0;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                return null;
+            }
+            if (digits > 0 || c != '0') {
+                if (++digits > MAX_DIGITS) {
+                    return null;
+                }
+            }
+            unscaled = unscaled * 10 + (c - '0');
+            if (scale >= 0) {
+                scale++;
+            }
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+}
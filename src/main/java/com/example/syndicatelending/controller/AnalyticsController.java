@@ -0,0 +1,62 @@
+package com.example.syndicatelending.controller;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.infrastructure.analytics.LoanBookSnapshot;
+import com.example.syndicatelending.entity.CreditRating;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
+
+/**
+ * ダッシュボード向けのポートフォリオ集計API。
+ * エンティティを都度読み込まず、列指向スナップショット（LoanBookSnapshot）上で集計する（DBからの取り込みはバックグラウンドで行う）。
+ * {@code reportingCurrency} を指定すると通貨別の合計を {@code asOf}（省略時は当日）のレートで換算した合計も返す。
+ */
+@RestController
+@RequestMapping("/api/v1/analytics")
+public class AnalyticsController {
+    @Autowired
+    private LoanBookSnapshot loanBookSnapshot;
+
+    @GetMapping("/portfolio")
+    public ResponseEntity<?> getPortfolio(@RequestParam(required = false) String currency,
+            @RequestParam(required = false) CreditRating rating,
+            @RequestParam(required = false) Long facilityId,
+            @RequestParam(required = false) String reportingCurrency,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        try {
+            return ResponseEntity.ok(loanBookSnapshot.aggregatePortfolio(currency, rating, facilityId,
+                    reportingCurrency, asOf));
+        } catch (BusinessRuleViolationException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    @GetMapping("/investors/{investorId}/exposure")
+    public ResponseEntity<?> getInvestorExposure(@PathVariable Long investorId,
+            @RequestParam(required = false) String reportingCurrency,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        try {
+            return ResponseEntity.ok(loanBookSnapshot.aggregateInvestorExposure(investorId, reportingCurrency,
+                    asOf));
+        } catch (BusinessRuleViolationException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    @PostMapping("/snapshot/rebuild")
+    public ResponseEntity<?> rebuildSnapshot() {
+        try {
+            loanBookSnapshot.rebuild();
+            return ResponseEntity.noContent().build();
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+}
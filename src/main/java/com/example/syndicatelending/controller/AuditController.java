@@ -0,0 +1,68 @@
+package com.example.syndicatelending.controller;
+
+import com.example.syndicatelending.common.infrastructure.audit.AuditLog;
+import com.example.syndicatelending.common.infrastructure.audit.AuditLogReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 監査ログの参照API（app.audit.enabled=true でないときは404）。
+ * {@code GET /} は時刻範囲・エンティティで絞り込んだ変更履歴、{@code GET /verify} はハッシュ連鎖の検証結果を返す。
+ * 停止中のログは audit_log.sh（{@link AuditLogReader}）で読める。
+ */
+@RestController
+@RequestMapping("/api/v1/audit")
+public class AuditController {
+    private static final int MAX_LIMIT = 10000;
+
+    @Autowired(required = false)
+    private AuditLog auditLog;
+
+    @GetMapping
+    public ResponseEntity<?> getRecords(@RequestParam(required = false) String from,
+            @RequestParam(required = false) String to, @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) Long entityId, @RequestParam(defaultValue = "100") int limit) {
+        if (auditLog == null) {
+            return ResponseEntity.status(404).body("Audit log is not enabled");
+        }
+        try {
+            AuditLogReader.Query query = new AuditLogReader.Query().from(AuditLogReader.parseTime(from))
+                    .to(AuditLogReader.parseTime(to)).entityType(entityType).entityId(entityId)
+                    .limit(Math.max(1, Math.min(limit, MAX_LIMIT))).maxSequence(auditLog.getLastSequence());
+            AuditLogReader.Result result = AuditLogReader.scan(auditLog.getDirectory(), query);
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("records", result.getRecords());
+            body.put("truncated", result.isTruncated());
+            body.put("problem", result.getProblem());
+            return ResponseEntity.ok(body);
+        } catch (DateTimeParseException ex) {
+            return ResponseEntity.badRequest().body("Invalid time: " + ex.getParsedString());
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    @GetMapping("/verify")
+    public ResponseEntity<?> verify() {
+        if (auditLog == null) {
+            return ResponseEntity.status(404).body("Audit log is not enabled");
+        }
+        try {
+            AuditLogReader.Result result = AuditLogReader.scan(auditLog.getDirectory(),
+                    new AuditLogReader.Query().verify(true).limit(0).maxSequence(auditLog.getLastSequence()));
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("valid", result.getProblem() == null);
+            body.put("records", result.getScanned());
+            body.put("lastSequence", result.getLastSequence());
+            body.put("problem", result.getProblem());
+            return ResponseEntity.ok(body);
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+}
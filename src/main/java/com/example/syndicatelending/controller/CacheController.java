@@ -0,0 +1,34 @@
+package com.example.syndicatelending.controller;
+
+import com.example.syndicatelending.common.infrastructure.cache.FacilityCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * アプリケーション内キャッシュの統計・無効化API。
+ * {@code POST /facilities/{id}/evict} は他ノードからの無効化通知の受信口で、自ノードのエントリのみを破棄する。
+ */
+@RestController
+@RequestMapping("/api/v1/cache")
+public class CacheController {
+    @Autowired
+    private FacilityCache facilityCache;
+
+    @GetMapping("/facilities/stats")
+    public ResponseEntity<?> getFacilityCacheStats() {
+        return ResponseEntity.ok(facilityCache.stats());
+    }
+
+    @PostMapping("/facilities/{id}/evict")
+    public ResponseEntity<?> evictFacility(@PathVariable Long id) {
+        facilityCache.evictLocal(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/facilities")
+    public ResponseEntity<?> clearFacilityCache() {
+        facilityCache.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -7,11 +7,16 @@ import com.example.syndicatelending.repository.DrawdownRepository;
 import com.example.syndicatelending.repository.LoanRepository;
 import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.common.infrastructure.metrics.DomainMetrics;
+import com.example.syndicatelending.common.infrastructure.web.FieldSelection;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -21,6 +26,8 @@ public class DrawdownController {
     private DrawdownRepository drawdownRepository;
     @Autowired
     private LoanRepository loanRepository;
+    @Autowired
+    private DomainMetrics domainMetrics;
 
     @PostMapping
     public ResponseEntity<?> createDrawdown(@RequestBody CreateDrawdownRequest request) {
@@ -46,6 +53,7 @@ public class DrawdownController {
             drawdown.setTransactionDate(request.getDrawdownDate());
             drawdown.setAmount(Money.of(request.getAmount()));
             Drawdown savedDrawdown = drawdownRepository.save(drawdown);
+            domainMetrics.recordDrawdown(request.getCurrency(), request.getAmount());
             return ResponseEntity.status(201).body(savedDrawdown);
         } catch (Exception ex) {
             return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
@@ -53,16 +61,18 @@ public class DrawdownController {
     }
 
     @GetMapping
-    public ResponseEntity<?> getAllDrawdowns(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getAllDrawdowns(Pageable pageable, @RequestParam(required = false) String fields) {
         try {
             Page<Drawdown> drawdowns = drawdownRepository.findAll(pageable);
-            return ResponseEntity.ok(drawdowns);
+            return ResponseEntity.ok(FieldSelection.apply(drawdowns, fields));
         } catch (Exception ex) {
             return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
         }
     }
 
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<?> getDrawdownById(@PathVariable Long id) {
         try {
             Drawdown drawdown = drawdownRepository.findById(id)
@@ -76,9 +86,18 @@ public class DrawdownController {
     }
 
     @GetMapping("/facility/{facilityId}")
-    public ResponseEntity<?> getDrawdownsByFacilityId(@PathVariable Long facilityId) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getDrawdownsByFacilityId(@PathVariable Long facilityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
         try {
-            List<Drawdown> drawdowns = drawdownRepository.findByFacilityId(facilityId);
+            if ((from == null) != (to == null) || (from != null && from.isAfter(to))) {
+                return ResponseEntity.badRequest().body("fromとtoは両方指定し、from <= to としてください");
+            }
+            // 期間を指定すると、パーティション表では対象期間のパーティションのみ走査する
+            List<Drawdown> drawdowns = from == null ? drawdownRepository.findByFacilityId(facilityId)
+                    : drawdownRepository.findByFacilityIdAndTransactionDateBetweenOrderByTransactionDateAsc(
+                            facilityId, from, to);
             return ResponseEntity.ok(drawdowns);
         } catch (Exception ex) {
             return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
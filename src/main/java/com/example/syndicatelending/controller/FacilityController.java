@@ -7,27 +7,56 @@ import com.example.syndicatelending.dto.UpdateFacilityRequest;
 import com.example.syndicatelending.entity.Facility;
 import com.example.syndicatelending.entity.SharePie;
 import com.example.syndicatelending.entity.FacilityInvestment;
+import com.example.syndicatelending.entity.Borrower;
+import com.example.syndicatelending.entity.Drawdown;
+import com.example.syndicatelending.entity.Investor;
 import com.example.syndicatelending.repository.FacilityRepository;
 import com.example.syndicatelending.repository.SharePieRepository;
 import com.example.syndicatelending.repository.FacilityInvestmentRepository;
 import com.example.syndicatelending.domain.FacilityValidator;
 import com.example.syndicatelending.repository.SyndicateRepository;
+import com.example.syndicatelending.repository.DrawdownRepository;
+import com.example.syndicatelending.repository.BorrowerRepository;
+import com.example.syndicatelending.repository.InvestorRepository;
 import com.example.syndicatelending.entity.Syndicate;
 import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
 import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.application.exception.UpdateConflictException;
 import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.infrastructure.analytics.LoanBookSnapshot;
+import com.example.syndicatelending.common.infrastructure.cache.FacilityCache;
+import com.example.syndicatelending.common.infrastructure.concurrent.ParallelReader;
+import com.example.syndicatelending.common.infrastructure.merge.ConcurrentUpdateMerger;
+import com.example.syndicatelending.common.infrastructure.merge.MergeableUpdate;
+import com.example.syndicatelending.common.infrastructure.metrics.DomainMetrics;
+import com.example.syndicatelending.common.infrastructure.web.EntityTags;
+import com.example.syndicatelending.common.infrastructure.web.FieldSelection;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 @RestController
 @RequestMapping("/api/v1/facilities")
 public class FacilityController {
+    private static final String ETAG_TYPE = "facility";
+    private static final String TIMED_OUT = "timed out";
+
     @Autowired
     private FacilityRepository facilityRepository;
     @Autowired
@@ -38,9 +67,27 @@ public class FacilityController {
     private FacilityValidator facilityValidator;
     @Autowired
     private SyndicateRepository syndicateRepository;
+    @Autowired
+    private LoanBookSnapshot loanBookSnapshot;
+    @Autowired
+    private FacilityCache facilityCache;
+    @Autowired
+    private DomainMetrics domainMetrics;
+    @Autowired
+    private ParallelReader parallelReader;
+    @Autowired
+    private DrawdownRepository drawdownRepository;
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+    @Autowired
+    private InvestorRepository investorRepository;
+    @Autowired
+    private ConcurrentUpdateMerger concurrentUpdateMerger;
 
     @PostMapping
     public ResponseEntity<?> createFacility(@RequestBody CreateFacilityRequest request) {
+        Timer.Sample total = domainMetrics.start();
+        String outcome = "error";
         try {
             Facility facility = new Facility(
                     request.getSyndicateId(),
@@ -58,8 +105,13 @@ public class FacilityController {
                 sharePies.add(entity);
             }
             facility.setSharePies(sharePies);
+            Timer.Sample stage = domainMetrics.start();
             facilityValidator.validateCreateFacilityRequest(request);
+            domainMetrics.recordFacilityCreateStage(DomainMetrics.STAGE_VALIDATION, stage);
+            stage = domainMetrics.start();
             Facility savedFacility = facilityRepository.save(facility);
+            domainMetrics.recordFacilityCreateStage(DomainMetrics.STAGE_PERSISTENCE, stage);
+            stage = domainMetrics.start();
             List<FacilityInvestment> investments = new ArrayList<>();
             Money commitment = savedFacility.getCommitment();
             Syndicate syndicate = syndicateRepository.findById(savedFacility.getSyndicateId())
@@ -77,32 +129,53 @@ public class FacilityController {
                 investments.add(investment);
             }
             facilityInvestmentRepository.saveAll(investments);
+            domainMetrics.recordFacilityCreateStage(DomainMetrics.STAGE_INVESTMENTS, stage);
+            domainMetrics.recordSharePieSize(sharePies.size());
+            outcome = "success";
             return ResponseEntity.ok(savedFacility);
         } catch (BusinessRuleViolationException ex) {
+            outcome = "invalid";
             return ResponseEntity.badRequest().body(ex.getMessage());
         } catch (ResourceNotFoundException ex) {
+            outcome = "not_found";
             return ResponseEntity.status(404).body(ex.getMessage());
         } catch (Exception ex) {
             return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        } finally {
+            domainMetrics.recordFacilityCreate(total, outcome);
         }
     }
 
     @GetMapping
-    public ResponseEntity<?> getAllFacilities(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getAllFacilities(Pageable pageable, @RequestParam(required = false) String fields) {
         try {
             Page<Facility> facilities = facilityRepository.findAll(pageable);
-            return ResponseEntity.ok(facilities);
+            return ResponseEntity.ok(FieldSelection.apply(facilities, fields));
         } catch (Exception ex) {
             return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
         }
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getFacilityById(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getFacilityById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            Facility facility = facilityRepository.findById(id)
-                    .orElseThrow(() -> new ResourceNotFoundException("Facility not found with id: " + id));
-            return ResponseEntity.ok(facility);
+            if (ifNoneMatch != null) {
+                // 変更がなければバージョン列のみの問い合わせで応答する
+                Long version = facilityRepository.findVersionById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("Facility not found with id: " + id));
+                String etag = EntityTags.of(ETAG_TYPE, id, version);
+                if (EntityTags.matchesIfNoneMatch(ifNoneMatch, etag)) {
+                    return EntityTags.notModified(etag);
+                }
+            }
+            Facility facility = facilityCache.get(id);
+            if (facility == null) {
+                throw new ResourceNotFoundException("Facility not found with id: " + id);
+            }
+            return ResponseEntity.ok().eTag(EntityTags.of(ETAG_TYPE, id, facility.getVersion())).body(facility);
         } catch (ResourceNotFoundException ex) {
             return ResponseEntity.status(404).body(ex.getMessage());
         } catch (Exception ex) {
@@ -110,60 +183,178 @@ public class FacilityController {
         }
     }
 
-    @PutMapping("/{id}")
-    public ResponseEntity<?> updateFacility(@PathVariable Long id, @RequestBody UpdateFacilityRequest request) {
+    /**
+     * ダッシュボード向けの複合参照。Facility（SharePie含む）・ドローダウン・シンジケート・借り手・投資家を並行に取得し、
+     * 1つの文書で返す（応答時間は各取得の合計ではなく、Facility→シンジケート→借り手の連鎖の長さになる）。
+     * Facility以外の取得が失敗・タイムアウトした場合はその項目をnullとし、errorsに理由を入れて返す。
+     */
+    @GetMapping("/{id}/overview")
+    public ResponseEntity<?> getFacilityOverview(@PathVariable Long id) {
         try {
-            Facility existingFacility = facilityRepository.findById(id)
-                    .orElseThrow(() -> new ResourceNotFoundException("Facility not found with id: " + id));
-            facilityValidator.validateUpdateFacilityRequest(request, id);
-            Facility entityToSave = new Facility();
-            entityToSave.setId(id);
-            entityToSave.setVersion(request.getVersion());
-            entityToSave.setSyndicateId(request.getSyndicateId());
-            entityToSave.setCommitment(request.getCommitment());
-            entityToSave.setCurrency(request.getCurrency());
-            entityToSave.setStartDate(request.getStartDate());
-            entityToSave.setEndDate(request.getEndDate());
-            entityToSave.setInterestTerms(request.getInterestTerms());
-            entityToSave.setCreatedAt(existingFacility.getCreatedAt());
-            existingFacility.getSharePies().clear();
-            sharePieRepository.deleteByFacility_Id(id);
-            List<SharePie> newSharePies = new ArrayList<>();
-            for (UpdateFacilityRequest.SharePieRequest pie : request.getSharePies()) {
-                SharePie entity = new SharePie();
-                entity.setInvestorId(pie.getInvestorId());
-                entity.setShare(pie.getShare());
-                entity.setFacility(entityToSave);
-                newSharePies.add(entity);
+            ParallelReader.Batch reads = parallelReader.begin();
+            CompletableFuture<Facility> facility = reads.read(() -> facilityCache.get(id));
+            CompletableFuture<List<Drawdown>> drawdowns = reads.read(() -> drawdownRepository.findByFacilityId(id));
+            CompletableFuture<Syndicate> syndicate = facility.thenCompose(f -> f == null
+                    ? CompletableFuture.completedFuture(null)
+                    : reads.read(() -> syndicateRepository.findById(f.getSyndicateId()).map(s -> {
+                        // トランザクション外でシリアライズするため、メンバー一覧をここで読み込んでおく
+                        Hibernate.initialize(s.getMemberInvestorIds());
+                        return s;
+                    }).orElse(null)));
+            CompletableFuture<Borrower> borrower = syndicate.thenCompose(s -> s == null || s.getBorrowerId() == null
+                    ? CompletableFuture.completedFuture(null)
+                    : reads.read(() -> borrowerRepository.findById(s.getBorrowerId()).orElse(null)));
+            CompletableFuture<List<Investor>> investors = facility.thenCompose(f -> f == null
+                    ? CompletableFuture.completedFuture(List.of())
+                    : reads.read(() -> investorRepository.findAllById(
+                            f.getSharePies().stream().map(SharePie::getInvestorId).distinct().toList())));
+
+            Map<String, String> errors = new LinkedHashMap<>();
+            Facility found = (Facility) section("facility", facility, errors);
+            if (TIMED_OUT.equals(errors.get("facility"))) {
+                return ResponseEntity.status(504).body("Facility read timed out: " + id);
             }
-            entityToSave.setSharePies(newSharePies);
-            Facility savedFacility = facilityRepository.save(entityToSave);
-            facilityInvestmentRepository.deleteByFacilityId(id);
-            List<FacilityInvestment> newInvestments = new ArrayList<>();
-            Money newCommitment = savedFacility.getCommitment();
-            Syndicate syndicate = syndicateRepository.findById(savedFacility.getSyndicateId())
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                            "Syndicate not found with id: " + savedFacility.getSyndicateId()));
-            Long borrowerId = syndicate.getBorrowerId();
-            for (SharePie pie : savedFacility.getSharePies()) {
-                FacilityInvestment investment = new FacilityInvestment();
-                investment.setFacilityId(savedFacility.getId());
-                investment.setInvestorId(pie.getInvestorId());
-                investment.setBorrowerId(borrowerId);
-                investment.setAmount(newCommitment.multiply(pie.getShare().getValue()));
-                investment.setTransactionType("FACILITY_INVESTMENT");
-                investment.setTransactionDate(LocalDate.now());
-                newInvestments.add(investment);
+            if (errors.containsKey("facility")) {
+                return ResponseEntity.status(500).body("Internal error: " + errors.get("facility"));
             }
-            facilityInvestmentRepository.saveAll(newInvestments);
-            return ResponseEntity.ok(savedFacility);
+            if (found == null) {
+                throw new ResourceNotFoundException("Facility not found with id: " + id);
+            }
+            Map<String, Object> overview = new LinkedHashMap<>();
+            overview.put("facility", found);
+            overview.put("drawdowns", section("drawdowns", drawdowns, errors));
+            overview.put("syndicate", section("syndicate", syndicate, errors));
+            overview.put("borrower", section("borrower", borrower, errors));
+            overview.put("investors", section("investors", investors, errors));
+            if (!errors.isEmpty()) {
+                overview.put("errors", errors);
+            }
+            return ResponseEntity.ok(overview);
+        } catch (ResourceNotFoundException ex) {
+            return ResponseEntity.status(404).body(ex.getMessage());
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * 取得結果を待つ。失敗・タイムアウトはnullとし、理由をerrorsに入れる（依存元の失敗は同じ理由になる）。
+     */
+    private static Object section(String name, CompletableFuture<?> future, Map<String, String> errors) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException ex) {
+            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+            if (cause instanceof TimeoutException) {
+                errors.put(name, TIMED_OUT);
+            } else if (cause instanceof RejectedExecutionException) {
+                errors.put(name, "rejected (too many concurrent reads)");
+            } else {
+                errors.put(name, String.valueOf(cause.getMessage()));
+            }
+            return null;
+        }
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<?> updateFacility(@PathVariable Long id, @RequestBody UpdateFacilityRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            if (ifMatch != null) {
+                Long version = facilityRepository.findVersionById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("Facility not found with id: " + id));
+                String current = EntityTags.of(ETAG_TYPE, id, version);
+                if (!EntityTags.matchesIfMatch(ifMatch, current)) {
+                    return EntityTags.preconditionFailed(current);
+                }
+                // If-Matchが一致した場合は本文のversionの代わりに現在のバージョンを使う
+                request.setVersion(version);
+            }
+            Facility savedFacility = concurrentUpdateMerger.update(id, request, request.getVersion(),
+                    new MergeableUpdate<>(ETAG_TYPE,
+                            facilityId -> facilityRepository.findById(facilityId).orElseThrow(
+                                    () -> new ResourceNotFoundException("Facility not found with id: " + facilityId)),
+                            Facility::getVersion, this::toUpdateRequest, this::applyUpdate));
+            return ResponseEntity.ok().eTag(EntityTags.of(ETAG_TYPE, id, savedFacility.getVersion()))
+                    .body(savedFacility);
+        } catch (UpdateConflictException ex) {
+            return EntityTags.conflict(ETAG_TYPE, id, ex);
         } catch (BusinessRuleViolationException ex) {
             return ResponseEntity.badRequest().body(ex.getMessage());
         } catch (ResourceNotFoundException ex) {
             return ResponseEntity.status(404).body(ex.getMessage());
         } catch (Exception ex) {
             return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        } finally {
+            // 途中で失敗した場合も一部が書き込まれている可能性があるため、結果によらず破棄する
+            facilityCache.evict(id);
+        }
+    }
+
+    /**
+     * 現在のファシリティを更新リクエストの形にする（同時更新のマージの比較対象）。
+     */
+    private UpdateFacilityRequest toUpdateRequest(Facility facility) {
+        List<UpdateFacilityRequest.SharePieRequest> sharePies = new ArrayList<>();
+        for (SharePie pie : facility.getSharePies()) {
+            UpdateFacilityRequest.SharePieRequest request = new UpdateFacilityRequest.SharePieRequest();
+            request.setInvestorId(pie.getInvestorId());
+            request.setShare(pie.getShare());
+            sharePies.add(request);
+        }
+        return new UpdateFacilityRequest(facility.getSyndicateId(), facility.getCommitment(), facility.getCurrency(),
+                facility.getStartDate(), facility.getEndDate(), facility.getInterestTerms(), sharePies,
+                facility.getVersion());
+    }
+
+    /**
+     * ファシリティを置き換え、SharePieと投資額を作り直す。
+     */
+    private Facility applyUpdate(Facility existingFacility, UpdateFacilityRequest request, Long version) {
+        Long id = existingFacility.getId();
+        facilityValidator.validateUpdateFacilityRequest(request, id);
+        Facility entityToSave = new Facility();
+        entityToSave.setId(id);
+        entityToSave.setVersion(version);
+        entityToSave.setSyndicateId(request.getSyndicateId());
+        entityToSave.setCommitment(request.getCommitment());
+        entityToSave.setCurrency(request.getCurrency());
+        entityToSave.setStartDate(request.getStartDate());
+        entityToSave.setEndDate(request.getEndDate());
+        entityToSave.setInterestTerms(request.getInterestTerms());
+        entityToSave.setCreatedAt(existingFacility.getCreatedAt());
+        existingFacility.getSharePies().clear();
+        sharePieRepository.deleteByFacility_Id(id);
+        List<SharePie> newSharePies = new ArrayList<>();
+        for (UpdateFacilityRequest.SharePieRequest pie : request.getSharePies()) {
+            SharePie entity = new SharePie();
+            entity.setInvestorId(pie.getInvestorId());
+            entity.setShare(pie.getShare());
+            entity.setFacility(entityToSave);
+            newSharePies.add(entity);
+        }
+        entityToSave.setSharePies(newSharePies);
+        Facility savedFacility = facilityRepository.save(entityToSave);
+        facilityInvestmentRepository.deleteByFacilityId(id);
+        List<FacilityInvestment> newInvestments = new ArrayList<>();
+        Money newCommitment = savedFacility.getCommitment();
+        Syndicate syndicate = syndicateRepository.findById(savedFacility.getSyndicateId())
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Syndicate not found with id: " + savedFacility.getSyndicateId()));
+        Long borrowerId = syndicate.getBorrowerId();
+        for (SharePie pie : savedFacility.getSharePies()) {
+            FacilityInvestment investment = new FacilityInvestment();
+            investment.setFacilityId(savedFacility.getId());
+            investment.setInvestorId(pie.getInvestorId());
+            investment.setBorrowerId(borrowerId);
+            investment.setAmount(newCommitment.multiply(pie.getShare().getValue()));
+            investment.setTransactionType("FACILITY_INVESTMENT");
+            investment.setTransactionDate(LocalDate.now());
+            newInvestments.add(investment);
         }
+        facilityInvestmentRepository.saveAll(newInvestments);
+        domainMetrics.recordSharePieSize(newSharePies.size());
+        return savedFacility;
     }
 
     @DeleteMapping("/{id}")
@@ -173,6 +364,8 @@ public class FacilityController {
                 throw new ResourceNotFoundException("Facility not found with id: " + id);
             }
             facilityRepository.deleteById(id);
+            facilityCache.evict(id);
+            loanBookSnapshot.removeFacility(id);
             return ResponseEntity.noContent().build();
         } catch (ResourceNotFoundException ex) {
             return ResponseEntity.status(404).body(ex.getMessage());
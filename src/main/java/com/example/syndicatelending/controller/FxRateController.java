@@ -0,0 +1,128 @@
+package com.example.syndicatelending.controller;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.infrastructure.fx.FxRateService;
+import com.example.syndicatelending.common.infrastructure.fx.FxRateTable;
+import com.example.syndicatelending.dto.FxRateRequest;
+import com.example.syndicatelending.entity.FxRate;
+import com.example.syndicatelending.repository.FxRateRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 為替レートの登録・参照と通貨換算API。
+ * 登録後はメモリ上のレート表を再構築する（参照・換算・分析APIの報告通貨換算はメモリ上の表のみを使う）。
+ */
+@RestController
+@RequestMapping("/api/v1/fx")
+public class FxRateController {
+    @Autowired
+    private FxRateRepository fxRateRepository;
+    @Autowired
+    private FxRateService fxRateService;
+
+    /**
+     * レートの一括登録（同じペア・日付は上書き）
+     */
+    @PostMapping("/rates")
+    public ResponseEntity<?> saveRates(@RequestBody List<FxRateRequest> requests) {
+        try {
+            List<FxRate> rates = new ArrayList<>();
+            for (FxRateRequest request : requests) {
+                if (request.getBaseCurrency() == null || request.getQuoteCurrency() == null
+                        || request.getRateDate() == null || request.getRate() == null
+                        || request.getRate().signum() <= 0) {
+                    throw new BusinessRuleViolationException(
+                            "baseCurrency, quoteCurrency, rateDate and a positive rate are required");
+                }
+                String base = request.getBaseCurrency().trim().toUpperCase(Locale.ROOT);
+                String quote = request.getQuoteCurrency().trim().toUpperCase(Locale.ROOT);
+                if (base.length() != 3 || quote.length() != 3 || base.equals(quote)) {
+                    throw new BusinessRuleViolationException("Invalid currency pair: " + base + "/" + quote);
+                }
+                FxRate rate = fxRateRepository
+                        .findByBaseCurrencyAndQuoteCurrencyAndRateDate(base, quote, request.getRateDate())
+                        .orElseGet(() -> new FxRate(base, quote, request.getRateDate(), request.getRate()));
+                rate.setRate(request.getRate());
+                rates.add(rate);
+            }
+            fxRateRepository.saveAll(rates);
+            return ResponseEntity.ok(summary(fxRateService.reload()));
+        } catch (BusinessRuleViolationException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * DB・ファイルからレート表を再読み込みする
+     */
+    @PostMapping("/rates/reload")
+    public ResponseEntity<?> reloadRates() {
+        try {
+            return ResponseEntity.ok(summary(fxRateService.reload()));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * 1 base = rate quote（date省略時は当日。直接のレートがなければ逆数・基軸通貨経由で求める）
+     */
+    @GetMapping("/rates")
+    public ResponseEntity<?> getRate(@RequestParam String base, @RequestParam String quote,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        try {
+            LocalDate rateDate = date != null ? date : LocalDate.now();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("base", base);
+            result.put("quote", quote);
+            result.put("date", rateDate);
+            result.put("rate", fxRateService.rate(base, quote, rateDate));
+            return ResponseEntity.ok(result);
+        } catch (BusinessRuleViolationException ex) {
+            return ResponseEntity.status(404).body(ex.getMessage());
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    @GetMapping("/convert")
+    public ResponseEntity<?> convert(@RequestParam BigDecimal amount, @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        try {
+            LocalDate rateDate = date != null ? date : LocalDate.now();
+            Money converted = fxRateService.convert(Money.of(amount, from), to, rateDate);
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("amount", converted.getAmount());
+            result.put("currency", converted.getCurrency().getCurrencyCode());
+            result.put("date", rateDate);
+            return ResponseEntity.ok(result);
+        } catch (BusinessRuleViolationException ex) {
+            return ResponseEntity.status(404).body(ex.getMessage());
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    private static Map<String, Object> summary(FxRateTable table) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("currencies", table.getCurrencies());
+        result.put("quotes", table.getQuoteCount());
+        return result;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.syndicatelending.controller;
+
+import com.example.syndicatelending.common.infrastructure.web.FieldSelection;
+import com.example.syndicatelending.repository.InvestorRepository;
+import com.example.syndicatelending.repository.SyndicateRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 投資家起点のシンジケート参照API
+ */
+@RestController
+@RequestMapping("/api/v1/investors")
+public class InvestorSyndicateController {
+    @Autowired
+    private SyndicateRepository syndicateRepository;
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @GetMapping("/{id}/syndicates")
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getSyndicatesByInvestor(@PathVariable Long id, Pageable pageable,
+            @RequestParam(required = false) String fields) {
+        try {
+            if (!investorRepository.existsById(id)) {
+                return ResponseEntity.status(404).body("Investor not found with ID: " + id);
+            }
+            return ResponseEntity.ok(
+                    FieldSelection.apply(syndicateRepository.findSummariesByMemberInvestorId(id, pageable), fields));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.syndicatelending.controller;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.application.exception.CapacityExceededException;
+import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
+import com.example.syndicatelending.common.infrastructure.job.JobRunner;
+import com.example.syndicatelending.dto.SubmitJobRequest;
+import com.example.syndicatelending.entity.BatchJob;
+import com.example.syndicatelending.entity.JobStatus;
+import com.example.syndicatelending.repository.BatchJobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+/**
+ * 非同期バッチジョブ（経過利息計上、エクスポート等）の投入・状態確認・キャンセルAPI。
+ * ジョブはテナント（X-Tenant-Idヘッダー、省略時は default）単位で管理する。
+ */
+@RestController
+@RequestMapping("/api/v1/jobs")
+public class JobController {
+    private static final String TENANT_HEADER = "X-Tenant-Id";
+    private static final String DEFAULT_TENANT = "default";
+
+    @Autowired
+    private JobRunner jobRunner;
+    @Autowired
+    private BatchJobRepository batchJobRepository;
+
+    @PostMapping
+    public ResponseEntity<?> submitJob(@RequestHeader(value = TENANT_HEADER, defaultValue = DEFAULT_TENANT) String tenantId,
+            @RequestBody SubmitJobRequest request) {
+        try {
+            String parameters = request.getParameters() == null ? null : request.getParameters().toString();
+            BatchJob job = jobRunner.submit(request.getType(), tenantId, parameters);
+            return ResponseEntity.accepted().location(URI.create("/api/v1/jobs/" + job.getId())).body(job);
+        } catch (BusinessRuleViolationException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
+        } catch (CapacityExceededException ex) {
+            return ResponseEntity.status(429).header("Retry-After", "30").body(ex.getMessage());
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getJob(@RequestHeader(value = TENANT_HEADER, defaultValue = DEFAULT_TENANT) String tenantId,
+            @PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(findJob(id, tenantId));
+        } catch (ResourceNotFoundException ex) {
+            return ResponseEntity.status(404).body(ex.getMessage());
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<?> getJobs(@RequestHeader(value = TENANT_HEADER, defaultValue = DEFAULT_TENANT) String tenantId,
+            @RequestParam(required = false) JobStatus status, Pageable pageable) {
+        try {
+            return ResponseEntity.ok(status == null ? batchJobRepository.findByTenantId(tenantId, pageable)
+                    : batchJobRepository.findByTenantIdAndStatus(tenantId, status, pageable));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    @GetMapping("/types")
+    public ResponseEntity<?> getJobTypes() {
+        return ResponseEntity.ok(jobRunner.getJobTypes());
+    }
+
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<?> cancelJob(@RequestHeader(value = TENANT_HEADER, defaultValue = DEFAULT_TENANT) String tenantId,
+            @PathVariable Long id) {
+        try {
+            jobRunner.cancel(findJob(id, tenantId));
+            return ResponseEntity.accepted().body(findJob(id, tenantId));
+        } catch (ResourceNotFoundException ex) {
+            return ResponseEntity.status(404).body(ex.getMessage());
+        } catch (BusinessRuleViolationException ex) {
+            return ResponseEntity.status(409).body(ex.getMessage());
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    private BatchJob findJob(Long id, String tenantId) {
+        return batchJobRepository.findByIdAndTenantId(id, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with ID: " + id));
+    }
+}
@@ -3,18 +3,49 @@ package com.example.syndicatelending.controller;
 import com.example.syndicatelending.repository.CompanyRepository;
 import com.example.syndicatelending.repository.BorrowerRepository;
 import com.example.syndicatelending.repository.InvestorRepository;
+import com.example.syndicatelending.repository.BatchJobRepository;
+import com.example.syndicatelending.domain.PartyImportJobHandler;
 import com.example.syndicatelending.dto.*;
 import com.example.syndicatelending.entity.*;
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.application.exception.CapacityExceededException;
+import com.example.syndicatelending.common.application.exception.UpdateConflictException;
+import com.example.syndicatelending.common.infrastructure.audit.AuditEventListener;
+import com.example.syndicatelending.common.infrastructure.importer.RecordReader;
+import com.example.syndicatelending.common.infrastructure.job.JobRunner;
+import com.example.syndicatelending.common.infrastructure.merge.ConcurrentUpdateMerger;
+import com.example.syndicatelending.common.infrastructure.merge.MergeableUpdate;
+import com.example.syndicatelending.common.infrastructure.search.PartySearchIndex;
+import com.example.syndicatelending.common.infrastructure.search.PartySearchIndex.PartyType;
+import com.example.syndicatelending.common.infrastructure.web.EntityTags;
+import com.example.syndicatelending.common.infrastructure.web.FieldSelection;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/v1/parties")
 @Tag(name = "Party Management")
 public class PartyController {
+    private static final String TENANT_HEADER = "X-Tenant-Id";
+    private static final String DEFAULT_TENANT = "default";
 
     @Autowired
     private CompanyRepository companyRepository;
@@ -25,6 +56,104 @@ public class PartyController {
     @Autowired
     private InvestorRepository investorRepository;
 
+    @Autowired
+    private PartySearchIndex partySearchIndex;
+
+    @Autowired
+    private ConcurrentUpdateMerger concurrentUpdateMerger;
+
+    @Autowired
+    private PartyImportJobHandler partyImportJobHandler;
+
+    @Autowired
+    private JobRunner jobRunner;
+
+    @Autowired
+    private BatchJobRepository batchJobRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // --- Search endpoints ---
+    @GetMapping("/search")
+    public ResponseEntity<?> searchParties(@RequestParam String q,
+            @RequestParam(required = false) Set<PartyType> types,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(partySearchIndex.search(q, types, Math.min(limit, 100)));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    // --- Bulk import endpoints ---
+    /**
+     * リクエスト本文（CSVまたはNDJSON）をファイルに保存し、一括登録ジョブ（{@link PartyImportJobHandler}）を投入する。
+     * 進捗は /api/v1/jobs/{id}、不正な行は /api/v1/parties/import/{id}/errors で確認する。
+     */
+    @PostMapping("/import")
+    public ResponseEntity<?> importParties(
+            @RequestHeader(value = TENANT_HEADER, defaultValue = DEFAULT_TENANT) String tenantId,
+            @RequestParam PartyType type, @RequestParam(required = false) String format,
+            HttpServletRequest request) {
+        String file = null;
+        try {
+            RecordReader.Format fileFormat = format != null ? RecordReader.Format.of(format, "")
+                    : request.getContentType() != null && request.getContentType().contains("ndjson")
+                            ? RecordReader.Format.NDJSON : RecordReader.Format.CSV;
+            file = partyImportJobHandler.store(request.getInputStream(), fileFormat);
+            Map<String, Object> parameters = new LinkedHashMap<>();
+            parameters.put("partyType", type.name());
+            parameters.put("file", file);
+            parameters.put("format", fileFormat.name());
+            parameters.put("deleteOnSuccess", true);
+            parameters.put("principal", AuditEventListener.currentPrincipal());
+            BatchJob job = jobRunner.submit(PartyImportJobHandler.TYPE, tenantId,
+                    objectMapper.writeValueAsString(parameters));
+            return ResponseEntity.accepted().location(URI.create("/api/v1/jobs/" + job.getId())).body(job);
+        } catch (BusinessRuleViolationException ex) {
+            deleteUpload(file);
+            return ResponseEntity.badRequest().body(ex.getMessage());
+        } catch (CapacityExceededException ex) {
+            deleteUpload(file);
+            return ResponseEntity.status(429).header("Retry-After", "30").body(ex.getMessage());
+        } catch (Exception ex) {
+            deleteUpload(file);
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    @GetMapping("/import/{jobId}/errors")
+    public ResponseEntity<?> getImportErrors(
+            @RequestHeader(value = TENANT_HEADER, defaultValue = DEFAULT_TENANT) String tenantId,
+            @PathVariable Long jobId) {
+        try {
+            BatchJob job = batchJobRepository.findByIdAndTenantId(jobId, tenantId)
+                    .filter(j -> PartyImportJobHandler.TYPE.equals(j.getJobType()))
+                    .orElseThrow(() -> new RuntimeException("Import job not found with ID: " + jobId));
+            Path report = partyImportJobHandler.errorReport(job.getId());
+            if (!Files.exists(report)) {
+                throw new RuntimeException("Error report not found for job: " + jobId);
+            }
+            return ResponseEntity.ok().contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                    .body(new FileSystemResource(report));
+        } catch (RuntimeException ex) {
+            return ResponseEntity.status(404).body(ex.getMessage());
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    private void deleteUpload(String file) {
+        if (file != null) {
+            try {
+                partyImportJobHandler.delete(file);
+            } catch (Exception ignored) {
+                // 削除できなくても応答は変えない
+            }
+        }
+    }
+
     // --- Company endpoints ---
     @PostMapping("/companies")
     public ResponseEntity<?> createCompany(@RequestBody CreateCompanyRequest request) {
@@ -36,6 +165,7 @@ public class PartyController {
                     request.getAddress(),
                     request.getCountry());
             Company saved = companyRepository.save(company);
+            partySearchIndex.put(PartyType.COMPANY, saved.getId(), saved.getCompanyName());
             return ResponseEntity.status(201).body(saved);
         } catch (Exception ex) {
             return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
@@ -43,11 +173,18 @@ public class PartyController {
     }
 
     @GetMapping("/companies/{id}")
-    public ResponseEntity<?> getCompany(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getCompany(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
+            ResponseEntity<?> notModified = checkNotModified("company", id, ifNoneMatch,
+                    companyRepository::findVersionById);
+            if (notModified != null) {
+                return notModified;
+            }
             Company company = companyRepository.findById(id)
                     .orElseThrow(() -> new RuntimeException("Company not found with ID: " + id));
-            return ResponseEntity.ok(company);
+            return ResponseEntity.ok().eTag(EntityTags.of("company", id, company.getVersion())).body(company);
         } catch (RuntimeException ex) {
             return ResponseEntity.status(404).body(ex.getMessage());
         } catch (Exception ex) {
@@ -56,30 +193,50 @@ public class PartyController {
     }
 
     @GetMapping("/companies")
-    public ResponseEntity<?> getAllCompanies(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getAllCompanies(Pageable pageable, @RequestParam(required = false) String fields) {
+        try {
+            return ResponseEntity.ok(FieldSelection.apply(companyRepository.findAll(pageable), fields));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    @GetMapping("/companies/summary")
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getCompanySummaries(Pageable pageable, @RequestParam(required = false) String fields) {
         try {
-            return ResponseEntity.ok(companyRepository.findAll(pageable));
+            return ResponseEntity.ok(FieldSelection.apply(companyRepository.findAllProjectedBy(pageable), fields));
         } catch (Exception ex) {
             return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
         }
     }
 
     @PutMapping("/companies/{id}")
-    public ResponseEntity<?> updateCompany(@PathVariable Long id, @RequestBody UpdateCompanyRequest request) {
+    public ResponseEntity<?> updateCompany(@PathVariable Long id, @RequestBody UpdateCompanyRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            Company existing = companyRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Company not found with ID: " + id));
-            Company entityToSave = new Company();
-            entityToSave.setId(id);
-            entityToSave.setVersion(request.getVersion());
-            entityToSave.setCompanyName(request.getCompanyName());
-            entityToSave.setRegistrationNumber(request.getRegistrationNumber());
-            entityToSave.setIndustry(request.getIndustry());
-            entityToSave.setAddress(request.getAddress());
-            entityToSave.setCountry(request.getCountry());
-            entityToSave.setCreatedAt(existing.getCreatedAt());
-            Company updated = companyRepository.save(entityToSave);
-            return ResponseEntity.ok(updated);
+            Long version = request.getVersion();
+            if (ifMatch != null) {
+                Long currentVersion = companyRepository.findVersionById(id)
+                        .orElseThrow(() -> new RuntimeException("Company not found with ID: " + id));
+                String current = EntityTags.of("company", id, currentVersion);
+                if (!EntityTags.matchesIfMatch(ifMatch, current)) {
+                    return EntityTags.preconditionFailed(current);
+                }
+                version = currentVersion;
+            }
+            Company updated = concurrentUpdateMerger.update(id, request, version,
+                    new MergeableUpdate<>("company",
+                            companyId -> companyRepository.findById(companyId)
+                                    .orElseThrow(() -> new RuntimeException("Company not found with ID: " + companyId)),
+                            Company::getVersion, this::toCompanyRequest, this::applyCompanyUpdate));
+            partySearchIndex.put(PartyType.COMPANY, updated.getId(), updated.getCompanyName());
+            return ResponseEntity.ok().eTag(EntityTags.of("company", id, updated.getVersion())).body(updated);
+        } catch (UpdateConflictException ex) {
+            return EntityTags.conflict("company", id, ex);
+        } catch (BusinessRuleViolationException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
         } catch (RuntimeException ex) {
             return ResponseEntity.status(404).body(ex.getMessage());
         } catch (Exception ex) {
@@ -87,6 +244,24 @@ public class PartyController {
         }
     }
 
+    private UpdateCompanyRequest toCompanyRequest(Company company) {
+        return new UpdateCompanyRequest(company.getCompanyName(), company.getRegistrationNumber(), company.getIndustry(),
+                company.getAddress(), company.getCountry(), company.getVersion());
+    }
+
+    private Company applyCompanyUpdate(Company existing, UpdateCompanyRequest request, Long version) {
+        Company entityToSave = new Company();
+        entityToSave.setId(existing.getId());
+        entityToSave.setVersion(version);
+        entityToSave.setCompanyName(request.getCompanyName());
+        entityToSave.setRegistrationNumber(request.getRegistrationNumber());
+        entityToSave.setIndustry(request.getIndustry());
+        entityToSave.setAddress(request.getAddress());
+        entityToSave.setCountry(request.getCountry());
+        entityToSave.setCreatedAt(existing.getCreatedAt());
+        return companyRepository.save(entityToSave);
+    }
+
     @DeleteMapping("/companies/{id}")
     public ResponseEntity<?> deleteCompany(@PathVariable Long id) {
         try {
@@ -94,6 +269,7 @@ public class PartyController {
                 throw new RuntimeException("Company not found with ID: " + id);
             }
             companyRepository.deleteById(id);
+            partySearchIndex.remove(PartyType.COMPANY, id);
             return ResponseEntity.noContent().build();
         } catch (RuntimeException ex) {
             return ResponseEntity.status(404).body(ex.getMessage());
@@ -114,6 +290,7 @@ public class PartyController {
             borrower.setCreditLimit(request.getCreditLimit());
             borrower.setCreditRating(request.getCreditRating());
             borrowerRepository.save(borrower);
+            partySearchIndex.put(PartyType.BORROWER, borrower.getId(), borrower.getName());
             return ResponseEntity.status(201).body(borrower);
         } catch (Exception ex) {
             return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
@@ -121,11 +298,18 @@ public class PartyController {
     }
 
     @GetMapping("/borrowers/{id}")
-    public ResponseEntity<?> getBorrower(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getBorrower(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
+            ResponseEntity<?> notModified = checkNotModified("borrower", id, ifNoneMatch,
+                    borrowerRepository::findVersionById);
+            if (notModified != null) {
+                return notModified;
+            }
             Borrower borrower = borrowerRepository.findById(id)
                     .orElseThrow(() -> new RuntimeException("Borrower not found with ID: " + id));
-            return ResponseEntity.ok(borrower);
+            return ResponseEntity.ok().eTag(EntityTags.of("borrower", id, borrower.getVersion())).body(borrower);
         } catch (RuntimeException ex) {
             return ResponseEntity.status(404).body(ex.getMessage());
         } catch (Exception ex) {
@@ -134,31 +318,50 @@ public class PartyController {
     }
 
     @GetMapping("/borrowers")
-    public ResponseEntity<?> getAllBorrowers(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getAllBorrowers(Pageable pageable, @RequestParam(required = false) String fields) {
+        try {
+            return ResponseEntity.ok(FieldSelection.apply(borrowerRepository.findAll(pageable), fields));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    @GetMapping("/borrowers/summary")
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getBorrowerSummaries(Pageable pageable, @RequestParam(required = false) String fields) {
         try {
-            return ResponseEntity.ok(borrowerRepository.findAll(pageable));
+            return ResponseEntity.ok(FieldSelection.apply(borrowerRepository.findAllProjectedBy(pageable), fields));
         } catch (Exception ex) {
             return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
         }
     }
 
     @PutMapping("/borrowers/{id}")
-    public ResponseEntity<?> updateBorrower(@PathVariable Long id, @RequestBody UpdateBorrowerRequest request) {
+    public ResponseEntity<?> updateBorrower(@PathVariable Long id, @RequestBody UpdateBorrowerRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            Borrower existing = borrowerRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Borrower not found with ID: " + id));
-            Borrower entityToSave = new Borrower();
-            entityToSave.setId(id);
-            entityToSave.setVersion(request.getVersion());
-            entityToSave.setName(request.getName());
-            entityToSave.setEmail(request.getEmail());
-            entityToSave.setPhoneNumber(request.getPhoneNumber());
-            entityToSave.setCompanyId(request.getCompanyId());
-            entityToSave.setCreditLimit(request.getCreditLimit());
-            entityToSave.setCreditRating(request.getCreditRating());
-            entityToSave.setCreatedAt(existing.getCreatedAt());
-            Borrower updated = borrowerRepository.save(entityToSave);
-            return ResponseEntity.ok(updated);
+            Long version = request.getVersion();
+            if (ifMatch != null) {
+                Long currentVersion = borrowerRepository.findVersionById(id)
+                        .orElseThrow(() -> new RuntimeException("Borrower not found with ID: " + id));
+                String current = EntityTags.of("borrower", id, currentVersion);
+                if (!EntityTags.matchesIfMatch(ifMatch, current)) {
+                    return EntityTags.preconditionFailed(current);
+                }
+                version = currentVersion;
+            }
+            Borrower updated = concurrentUpdateMerger.update(id, request, version,
+                    new MergeableUpdate<>("borrower",
+                            borrowerId -> borrowerRepository.findById(borrowerId)
+                                    .orElseThrow(() -> new RuntimeException("Borrower not found with ID: " + borrowerId)),
+                            Borrower::getVersion, this::toBorrowerRequest, this::applyBorrowerUpdate));
+            partySearchIndex.put(PartyType.BORROWER, updated.getId(), updated.getName());
+            return ResponseEntity.ok().eTag(EntityTags.of("borrower", id, updated.getVersion())).body(updated);
+        } catch (UpdateConflictException ex) {
+            return EntityTags.conflict("borrower", id, ex);
+        } catch (BusinessRuleViolationException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
         } catch (RuntimeException ex) {
             return ResponseEntity.status(404).body(ex.getMessage());
         } catch (Exception ex) {
@@ -166,6 +369,26 @@ public class PartyController {
         }
     }
 
+    private UpdateBorrowerRequest toBorrowerRequest(Borrower borrower) {
+        return new UpdateBorrowerRequest(borrower.getName(), borrower.getEmail(), borrower.getPhoneNumber(),
+                borrower.getCompanyId(), borrower.getCreditLimit(), borrower.getCreditRating(), false,
+                borrower.getVersion());
+    }
+
+    private Borrower applyBorrowerUpdate(Borrower existing, UpdateBorrowerRequest request, Long version) {
+        Borrower entityToSave = new Borrower();
+        entityToSave.setId(existing.getId());
+        entityToSave.setVersion(version);
+        entityToSave.setName(request.getName());
+        entityToSave.setEmail(request.getEmail());
+        entityToSave.setPhoneNumber(request.getPhoneNumber());
+        entityToSave.setCompanyId(request.getCompanyId());
+        entityToSave.setCreditLimit(request.getCreditLimit());
+        entityToSave.setCreditRating(request.getCreditRating());
+        entityToSave.setCreatedAt(existing.getCreatedAt());
+        return borrowerRepository.save(entityToSave);
+    }
+
     @DeleteMapping("/borrowers/{id}")
     public ResponseEntity<?> deleteBorrower(@PathVariable Long id) {
         try {
@@ -173,6 +396,7 @@ public class PartyController {
                 throw new RuntimeException("Borrower not found with ID: " + id);
             }
             borrowerRepository.deleteById(id);
+            partySearchIndex.remove(PartyType.BORROWER, id);
             return ResponseEntity.noContent().build();
         } catch (RuntimeException ex) {
             return ResponseEntity.status(404).body(ex.getMessage());
@@ -193,6 +417,7 @@ public class PartyController {
             investor.setInvestmentCapacity(request.getInvestmentCapacity());
             investor.setInvestorType(request.getInvestorType());
             investorRepository.save(investor);
+            partySearchIndex.put(PartyType.INVESTOR, investor.getId(), investor.getName());
             return ResponseEntity.status(201).body(investor);
         } catch (Exception ex) {
             return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
@@ -200,11 +425,18 @@ public class PartyController {
     }
 
     @GetMapping("/investors/{id}")
-    public ResponseEntity<?> getInvestor(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getInvestor(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
+            ResponseEntity<?> notModified = checkNotModified("investor", id, ifNoneMatch,
+                    investorRepository::findVersionById);
+            if (notModified != null) {
+                return notModified;
+            }
             Investor investor = investorRepository.findById(id)
                     .orElseThrow(() -> new RuntimeException("Investor not found with ID: " + id));
-            return ResponseEntity.ok(investor);
+            return ResponseEntity.ok().eTag(EntityTags.of("investor", id, investor.getVersion())).body(investor);
         } catch (RuntimeException ex) {
             return ResponseEntity.status(404).body(ex.getMessage());
         } catch (Exception ex) {
@@ -213,31 +445,50 @@ public class PartyController {
     }
 
     @GetMapping("/investors")
-    public ResponseEntity<?> getAllInvestors(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getAllInvestors(Pageable pageable, @RequestParam(required = false) String fields) {
+        try {
+            return ResponseEntity.ok(FieldSelection.apply(investorRepository.findAll(pageable), fields));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    @GetMapping("/investors/summary")
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getInvestorSummaries(Pageable pageable, @RequestParam(required = false) String fields) {
         try {
-            return ResponseEntity.ok(investorRepository.findAll(pageable));
+            return ResponseEntity.ok(FieldSelection.apply(investorRepository.findAllProjectedBy(pageable), fields));
         } catch (Exception ex) {
             return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
         }
     }
 
     @PutMapping("/investors/{id}")
-    public ResponseEntity<?> updateInvestor(@PathVariable Long id, @RequestBody UpdateInvestorRequest request) {
+    public ResponseEntity<?> updateInvestor(@PathVariable Long id, @RequestBody UpdateInvestorRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            Investor existing = investorRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Investor not found with ID: " + id));
-            Investor entityToSave = new Investor();
-            entityToSave.setId(id);
-            entityToSave.setVersion(request.getVersion());
-            entityToSave.setName(request.getName());
-            entityToSave.setEmail(request.getEmail());
-            entityToSave.setPhoneNumber(request.getPhoneNumber());
-            entityToSave.setCompanyId(request.getCompanyId());
-            entityToSave.setInvestmentCapacity(request.getInvestmentCapacity());
-            entityToSave.setInvestorType(request.getInvestorType());
-            entityToSave.setCreatedAt(existing.getCreatedAt());
-            Investor updated = investorRepository.save(entityToSave);
-            return ResponseEntity.ok(updated);
+            Long version = request.getVersion();
+            if (ifMatch != null) {
+                Long currentVersion = investorRepository.findVersionById(id)
+                        .orElseThrow(() -> new RuntimeException("Investor not found with ID: " + id));
+                String current = EntityTags.of("investor", id, currentVersion);
+                if (!EntityTags.matchesIfMatch(ifMatch, current)) {
+                    return EntityTags.preconditionFailed(current);
+                }
+                version = currentVersion;
+            }
+            Investor updated = concurrentUpdateMerger.update(id, request, version,
+                    new MergeableUpdate<>("investor",
+                            investorId -> investorRepository.findById(investorId)
+                                    .orElseThrow(() -> new RuntimeException("Investor not found with ID: " + investorId)),
+                            Investor::getVersion, this::toInvestorRequest, this::applyInvestorUpdate));
+            partySearchIndex.put(PartyType.INVESTOR, updated.getId(), updated.getName());
+            return ResponseEntity.ok().eTag(EntityTags.of("investor", id, updated.getVersion())).body(updated);
+        } catch (UpdateConflictException ex) {
+            return EntityTags.conflict("investor", id, ex);
+        } catch (BusinessRuleViolationException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
         } catch (RuntimeException ex) {
             return ResponseEntity.status(404).body(ex.getMessage());
         } catch (Exception ex) {
@@ -245,6 +496,26 @@ public class PartyController {
         }
     }
 
+    private UpdateInvestorRequest toInvestorRequest(Investor investor) {
+        return new UpdateInvestorRequest(investor.getName(), investor.getEmail(), investor.getPhoneNumber(),
+                investor.getCompanyId(), investor.getInvestmentCapacity(), investor.getInvestorType(),
+                investor.getVersion());
+    }
+
+    private Investor applyInvestorUpdate(Investor existing, UpdateInvestorRequest request, Long version) {
+        Investor entityToSave = new Investor();
+        entityToSave.setId(existing.getId());
+        entityToSave.setVersion(version);
+        entityToSave.setName(request.getName());
+        entityToSave.setEmail(request.getEmail());
+        entityToSave.setPhoneNumber(request.getPhoneNumber());
+        entityToSave.setCompanyId(request.getCompanyId());
+        entityToSave.setInvestmentCapacity(request.getInvestmentCapacity());
+        entityToSave.setInvestorType(request.getInvestorType());
+        entityToSave.setCreatedAt(existing.getCreatedAt());
+        return investorRepository.save(entityToSave);
+    }
+
     @DeleteMapping("/investors/{id}")
     public ResponseEntity<?> deleteInvestor(@PathVariable Long id) {
         try {
@@ -252,6 +523,7 @@ public class PartyController {
                 throw new RuntimeException("Investor not found with ID: " + id);
             }
             investorRepository.deleteById(id);
+            partySearchIndex.remove(PartyType.INVESTOR, id);
             return ResponseEntity.noContent().build();
         } catch (RuntimeException ex) {
             return ResponseEntity.status(404).body(ex.getMessage());
@@ -259,4 +531,20 @@ public class PartyController {
             return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
         }
     }
+
+    /**
+     * If-None-Match がバージョン列から求めたETagに一致すれば304を返す（それ以外はnull）。
+     */
+    private ResponseEntity<?> checkNotModified(String type, Long id, String ifNoneMatch,
+            Function<Long, Optional<Long>> versionLookup) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        Optional<Long> version = versionLookup.apply(id);
+        if (version.isEmpty()) {
+            return null;
+        }
+        String etag = EntityTags.of(type, id, version.get());
+        return EntityTags.matchesIfNoneMatch(ifNoneMatch, etag) ? EntityTags.notModified(etag) : null;
+    }
 }
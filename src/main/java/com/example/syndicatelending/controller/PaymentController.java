@@ -0,0 +1,218 @@
+package com.example.syndicatelending.controller;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.domain.PaymentWaterfall;
+import com.example.syndicatelending.dto.CreatePaymentRequest;
+import com.example.syndicatelending.dto.PaymentBatchRequest;
+import com.example.syndicatelending.dto.PaymentBatchResult;
+import com.example.syndicatelending.entity.Loan;
+import com.example.syndicatelending.entity.Payment;
+import com.example.syndicatelending.entity.PaymentDistribution;
+import com.example.syndicatelending.repository.LoanRepository;
+import com.example.syndicatelending.repository.PaymentDistributionRepository;
+import com.example.syndicatelending.repository.PaymentRepository;
+import com.example.syndicatelending.repository.SharePieRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 返済API。
+ * 一括登録はローン単位にまとめ、ローンとSharePieをチャンクごとに一度だけ読み込み、
+ * 書き込みはJDBCバッチでまとめてフラッシュする。
+ */
+@RestController
+@RequestMapping("/api/v1/payments")
+public class PaymentController {
+    @Autowired
+    private LoanRepository loanRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private PaymentDistributionRepository paymentDistributionRepository;
+    @Autowired
+    private SharePieRepository sharePieRepository;
+    @Autowired
+    private PaymentWaterfall paymentWaterfall;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.payments.chunk-size:500}")
+    private int chunkSize;
+
+    @PostMapping("/batch")
+    public ResponseEntity<?> applyPayments(@RequestBody PaymentBatchRequest request) {
+        try {
+            List<CreatePaymentRequest> payments = request.getPayments();
+            if (payments == null || payments.isEmpty()) {
+                return ResponseEntity.badRequest().body("payments is required");
+            }
+            PaymentBatchResult result = new PaymentBatchResult(payments.size());
+
+            // ローン単位にまとめる（同一ローン内は支払日順に充当）
+            Map<Long, List<Integer>> indexesByLoan = new LinkedHashMap<>();
+            for (int i = 0; i < payments.size(); i++) {
+                CreatePaymentRequest payment = payments.get(i);
+                String error = validate(payment);
+                if (error != null) {
+                    result.addError(i, payment == null ? null : payment.getLoanId(), error);
+                    continue;
+                }
+                indexesByLoan.computeIfAbsent(payment.getLoanId(), id -> new ArrayList<>()).add(i);
+            }
+
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            List<Long> chunk = new ArrayList<>();
+            int chunkPayments = 0;
+            for (Map.Entry<Long, List<Integer>> entry : indexesByLoan.entrySet()) {
+                chunk.add(entry.getKey());
+                chunkPayments += entry.getValue().size();
+                if (chunkPayments >= chunkSize) {
+                    result.merge(applyChunk(transactionTemplate, chunk, indexesByLoan, payments));
+                    chunk = new ArrayList<>();
+                    chunkPayments = 0;
+                }
+            }
+            if (!chunk.isEmpty()) {
+                result.merge(applyChunk(transactionTemplate, chunk, indexesByLoan, payments));
+            }
+            result.getErrors().sort(Comparator.comparingInt(PaymentBatchResult.Error::getIndex));
+            return ResponseEntity.ok(result);
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    @GetMapping("/loan/{loanId}")
+    public ResponseEntity<?> getPaymentsByLoan(@PathVariable Long loanId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            if ((from == null) != (to == null) || (from != null && from.isAfter(to))) {
+                return ResponseEntity.badRequest().body("fromとtoは両方指定し、from <= to としてください");
+            }
+            return ResponseEntity.ok(from == null ? paymentRepository.findByLoanId(loanId)
+                    : paymentRepository.findByLoanIdAndTransactionDateBetweenOrderByTransactionDateAsc(loanId, from, to));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}/distributions")
+    public ResponseEntity<?> getDistributions(@PathVariable Long id) {
+        try {
+            if (!paymentRepository.existsById(id)) {
+                return ResponseEntity.status(404).body("Payment not found with id: " + id);
+            }
+            return ResponseEntity.ok(paymentDistributionRepository.findByPaymentId(id));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * ローン群の返済を1トランザクションで充当する。失敗した場合はチャンク内の全明細を失敗として返す。
+     */
+    private PaymentBatchResult applyChunk(TransactionTemplate transactionTemplate, List<Long> loanIds,
+            Map<Long, List<Integer>> indexesByLoan, List<CreatePaymentRequest> payments) {
+        try {
+            return transactionTemplate.execute(status -> {
+                PaymentBatchResult chunkResult = new PaymentBatchResult(0);
+                Map<Long, Loan> loans = loanRepository.findAllById(loanIds).stream()
+                        .collect(Collectors.toMap(Loan::getId, Function.identity()));
+                Set<Long> facilityIds = new HashSet<>();
+                loans.values().forEach(loan -> facilityIds.add(loan.getFacilityId()));
+                Map<Long, List<SharePieRepository.SnapshotRow>> sharesByFacility = facilityIds.isEmpty()
+                        ? Map.of()
+                        : sharePieRepository.findSnapshotRowsByFacilityIds(facilityIds).stream()
+                                .collect(Collectors.groupingBy(SharePieRepository.SnapshotRow::getFacilityId));
+
+                for (Long loanId : loanIds) {
+                    List<Integer> indexes = new ArrayList<>(indexesByLoan.get(loanId));
+                    Loan loan = loans.get(loanId);
+                    if (loan == null) {
+                        indexes.forEach(i -> chunkResult.addError(i, loanId, "Loan not found with id: " + loanId));
+                        continue;
+                    }
+                    indexes.sort(Comparator.comparing(i -> payments.get(i).getPaymentDate()));
+                    for (Integer i : indexes) {
+                        CreatePaymentRequest item = payments.get(i);
+                        if (item.getCurrency() != null && !item.getCurrency().equals(loan.getCurrency())) {
+                            chunkResult.addError(i, loanId, "Currency mismatch: loan currency is " + loan.getCurrency());
+                            continue;
+                        }
+                        paymentWaterfall.accrueInterest(loan, item.getPaymentDate());
+                        PaymentWaterfall.Allocation allocation = paymentWaterfall.apply(loan, Money.of(item.getAmount()));
+
+                        Payment payment = new Payment();
+                        payment.setLoanId(loanId);
+                        payment.setFacilityId(loan.getFacilityId());
+                        payment.setBorrowerId(loan.getBorrowerId());
+                        payment.setCurrency(loan.getCurrency());
+                        payment.setTransactionDate(item.getPaymentDate());
+                        payment.setAmount(Money.of(item.getAmount()));
+                        payment.setFeePaid(allocation.getFee());
+                        payment.setInterestPaid(allocation.getInterest());
+                        payment.setPrincipalPaid(allocation.getPrincipal());
+                        payment.setUnappliedAmount(allocation.getUnapplied());
+                        entityManager.persist(payment);
+
+                        for (PaymentDistribution distribution : paymentWaterfall.distribute(allocation,
+                                sharesByFacility.get(loan.getFacilityId()))) {
+                            distribution.setPaymentId(payment.getId());
+                            distribution.setLoanId(loanId);
+                            entityManager.persist(distribution);
+                        }
+                        chunkResult.addApplied(allocation.getFee(), allocation.getInterest(),
+                                allocation.getPrincipal(), allocation.getUnapplied());
+                    }
+                }
+                // バッチINSERT/UPDATEをまとめて発行し、永続化コンテキストを空にしてメモリを抑える
+                entityManager.flush();
+                entityManager.clear();
+                return chunkResult;
+            });
+        } catch (Exception ex) {
+            entityManager.clear();
+            PaymentBatchResult failed = new PaymentBatchResult(0);
+            for (Long loanId : loanIds) {
+                for (Integer i : indexesByLoan.get(loanId)) {
+                    failed.addError(i, loanId, "Failed to apply payment: " + ex.getMessage());
+                }
+            }
+            return failed;
+        }
+    }
+
+    private static String validate(CreatePaymentRequest payment) {
+        if (payment == null)
+            return "payment is null";
+        if (payment.getLoanId() == null)
+            return "loanIdは必須です";
+        if (payment.getAmount() == null || payment.getAmount().compareTo(BigDecimal.ZERO) <= 0)
+            return "amountは0より大きい必要があります";
+        if (payment.getPaymentDate() == null)
+            return "paymentDateは必須です";
+        return null;
+    }
+}
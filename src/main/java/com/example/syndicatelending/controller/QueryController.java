@@ -0,0 +1,32 @@
+package com.example.syndicatelending.controller;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.infrastructure.query.EntityQueryExecutor;
+import com.example.syndicatelending.dto.QueryRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Facility・SharePie・Investor・Syndicate・Borrower・Drawdownを関連をたどって1回で取得するクエリAPI。
+ * 関連は型ごとにまとめて読み込む（{@link EntityQueryExecutor}）。入れ子の深さ・項目数・ID数・出力件数に上限がある。
+ */
+@RestController
+@RequestMapping("/api/v1/query")
+public class QueryController {
+    @Autowired
+    private EntityQueryExecutor entityQueryExecutor;
+
+    @PostMapping
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> query(@RequestBody QueryRequest request) {
+        try {
+            return ResponseEntity.ok(entityQueryExecutor.execute(request.getQuery()));
+        } catch (BusinessRuleViolationException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+}
@@ -1,20 +1,41 @@
 package com.example.syndicatelending.controller;
 
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
+import com.example.syndicatelending.common.application.exception.UpdateConflictException;
+import com.example.syndicatelending.common.infrastructure.merge.ConcurrentUpdateMerger;
+import com.example.syndicatelending.common.infrastructure.merge.MergeableUpdate;
+import com.example.syndicatelending.common.infrastructure.web.EntityTags;
 import com.example.syndicatelending.dto.CreateSyndicateRequest;
+import com.example.syndicatelending.dto.SyndicateMembersRequest;
 import com.example.syndicatelending.dto.UpdateSyndicateRequest;
+import com.example.syndicatelending.entity.Investor;
 import com.example.syndicatelending.entity.Syndicate;
+import com.example.syndicatelending.repository.InvestorRepository;
 import com.example.syndicatelending.repository.SyndicateRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/syndicates")
 public class SyndicateController {
+    private static final String ETAG_TYPE = "syndicate";
+
     @Autowired
     private SyndicateRepository syndicateRepository;
+    @Autowired
+    private InvestorRepository investorRepository;
+    @Autowired
+    private ConcurrentUpdateMerger concurrentUpdateMerger;
 
     @PostMapping
     public ResponseEntity<?> createSyndicate(@RequestBody CreateSyndicateRequest request) {
@@ -29,37 +50,126 @@ public class SyndicateController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getSyndicate(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getSyndicate(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<Long> version = syndicateRepository.findVersionById(id);
+            if (version.isEmpty()) {
+                return ResponseEntity.status(404).body("Syndicate not found with ID: " + id);
+            }
+            String etag = EntityTags.of(ETAG_TYPE, id, version.get());
+            if (EntityTags.matchesIfNoneMatch(ifNoneMatch, etag)) {
+                return EntityTags.notModified(etag);
+            }
+        }
         Optional<Syndicate> syndicate = syndicateRepository.findById(id);
         if (syndicate.isPresent()) {
-            return ResponseEntity.ok(syndicate.get());
+            return ResponseEntity.ok().eTag(EntityTags.of(ETAG_TYPE, id, syndicate.get().getVersion()))
+                    .body(syndicate.get());
         } else {
             return ResponseEntity.status(404).body("Syndicate not found with ID: " + id);
         }
     }
 
     @GetMapping
+    @Transactional(readOnly = true)
     public ResponseEntity<?> getAllSyndicates(Pageable pageable) {
         return ResponseEntity.ok(syndicateRepository.findAll(pageable));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateSyndicate(@PathVariable Long id, @RequestBody UpdateSyndicateRequest request) {
-        Optional<Syndicate> existingOpt = syndicateRepository.findById(id);
-        if (existingOpt.isEmpty()) {
-            return ResponseEntity.status(404).body("Syndicate not found with ID: " + id);
+    public ResponseEntity<?> updateSyndicate(@PathVariable Long id, @RequestBody UpdateSyndicateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            Long version = request.getVersion();
+            if (ifMatch != null) {
+                Long currentVersion = syndicateRepository.findVersionById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("Syndicate not found with ID: " + id));
+                String current = EntityTags.of(ETAG_TYPE, id, currentVersion);
+                if (!EntityTags.matchesIfMatch(ifMatch, current)) {
+                    return EntityTags.preconditionFailed(current);
+                }
+                version = currentVersion;
+            }
+            Syndicate updated = concurrentUpdateMerger.update(id, request, version,
+                    new MergeableUpdate<>(ETAG_TYPE,
+                            syndicateId -> syndicateRepository.findById(syndicateId).orElseThrow(
+                                    () -> new ResourceNotFoundException("Syndicate not found with ID: " + syndicateId)),
+                            Syndicate::getVersion, this::toUpdateRequest, this::applyUpdate));
+            return ResponseEntity.ok().eTag(EntityTags.of(ETAG_TYPE, id, updated.getVersion())).body(updated);
+        } catch (UpdateConflictException ex) {
+            return EntityTags.conflict(ETAG_TYPE, id, ex);
+        } catch (BusinessRuleViolationException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
+        } catch (ResourceNotFoundException ex) {
+            return ResponseEntity.status(404).body(ex.getMessage());
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
         }
-        Syndicate existing = existingOpt.get();
+    }
+
+    private UpdateSyndicateRequest toUpdateRequest(Syndicate syndicate) {
+        return new UpdateSyndicateRequest(syndicate.getName(), syndicate.getLeadBankId(), syndicate.getBorrowerId(),
+                new ArrayList<>(syndicate.getMemberInvestorIds()), syndicate.getVersion());
+    }
+
+    private Syndicate applyUpdate(Syndicate existing, UpdateSyndicateRequest request, Long version) {
         Syndicate entityToSave = new Syndicate();
-        entityToSave.setId(id);
-        entityToSave.setVersion(request.getVersion());
+        entityToSave.setId(existing.getId());
+        entityToSave.setVersion(version);
         entityToSave.setName(request.getName());
         entityToSave.setLeadBankId(request.getLeadBankId());
         entityToSave.setBorrowerId(request.getBorrowerId());
         entityToSave.setMemberInvestorIds(request.getMemberInvestorIds());
         entityToSave.setCreatedAt(existing.getCreatedAt());
-        Syndicate updated = syndicateRepository.save(entityToSave);
-        return ResponseEntity.ok(updated);
+        return syndicateRepository.save(entityToSave);
+    }
+
+    /**
+     * メンバーの一括追加。追加分の行のみINSERTする。
+     */
+    @PostMapping("/{id}/members")
+    @Transactional
+    public ResponseEntity<?> addMembers(@PathVariable Long id, @RequestBody SyndicateMembersRequest request) {
+        try {
+            Syndicate syndicate = syndicateRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Syndicate not found with ID: " + id));
+            List<Long> investorIds = request.getInvestorIds() != null ? request.getInvestorIds() : List.of();
+            Set<Long> missing = new LinkedHashSet<>(investorIds);
+            for (Investor investor : investorRepository.findAllById(missing)) {
+                missing.remove(investor.getId());
+            }
+            if (!missing.isEmpty()) {
+                throw new BusinessRuleViolationException("Investors not found: " + missing);
+            }
+            syndicate.addMembers(investorIds);
+            return ResponseEntity.ok(syndicateRepository.save(syndicate));
+        } catch (ResourceNotFoundException ex) {
+            return ResponseEntity.status(404).body(ex.getMessage());
+        } catch (BusinessRuleViolationException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * メンバーの一括除外。除外分の行のみDELETEする。
+     */
+    @DeleteMapping("/{id}/members")
+    @Transactional
+    public ResponseEntity<?> removeMembers(@PathVariable Long id, @RequestParam List<Long> investorIds) {
+        try {
+            Syndicate syndicate = syndicateRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Syndicate not found with ID: " + id));
+            syndicate.removeMembers(investorIds);
+            return ResponseEntity.ok(syndicateRepository.save(syndicate));
+        } catch (ResourceNotFoundException ex) {
+            return ResponseEntity.status(404).body(ex.getMessage());
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,41 @@
+package com.example.syndicatelending.controller;
+
+import com.example.syndicatelending.common.infrastructure.tracing.InMemorySpanExporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * インメモリに保持したトレースの参照API（management.tracing.enabled=true かつ app.tracing.exporter=memory のとき）。
+ * {@code GET /} は遅いリクエストの一覧、{@code GET /{traceId}} はそのリクエスト内の全スパン（層・SQL件数つき）を返す。
+ */
+@RestController
+@RequestMapping("/api/v1/traces")
+public class TraceController {
+    @Autowired(required = false)
+    private InMemorySpanExporter inMemorySpanExporter;
+
+    @GetMapping
+    public ResponseEntity<?> getSlowestTraces(@RequestParam(defaultValue = "0") double minDurationMs,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (inMemorySpanExporter == null) {
+            return ResponseEntity.status(404).body("In-memory tracing is not enabled");
+        }
+        return ResponseEntity.ok(inMemorySpanExporter.slowestTraces(minDurationMs, limit));
+    }
+
+    @GetMapping("/{traceId}")
+    public ResponseEntity<?> getTrace(@PathVariable String traceId) {
+        if (inMemorySpanExporter == null) {
+            return ResponseEntity.status(404).body("In-memory tracing is not enabled");
+        }
+        List<Map<String, Object>> spans = inMemorySpanExporter.trace(traceId);
+        if (spans.isEmpty()) {
+            return ResponseEntity.status(404).body("Trace not found: " + traceId);
+        }
+        return ResponseEntity.ok(spans);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.syndicatelending.controller;
+
+import com.example.syndicatelending.repository.TransactionArchiveRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * 退避済み（締め済み期間）の取引の参照API。
+ * 退避テーブルは大きくなるため、ファシリティまたはローンと期間の指定を必須とする。
+ */
+@RestController
+@RequestMapping("/api/v1/transactions/archive")
+public class TransactionArchiveController {
+    @Autowired
+    private TransactionArchiveRepository transactionArchiveRepository;
+
+    @GetMapping
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getArchivedTransactions(@RequestParam(required = false) Long facilityId,
+            @RequestParam(required = false) Long loanId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            if ((facilityId == null) == (loanId == null)) {
+                return ResponseEntity.badRequest().body("facilityIdとloanIdのどちらか一方を指定してください");
+            }
+            if (from.isAfter(to)) {
+                return ResponseEntity.badRequest().body("from <= to としてください");
+            }
+            return ResponseEntity.ok(facilityId != null
+                    ? transactionArchiveRepository.findByFacilityIdAndTransactionDateBetweenOrderByTransactionDateAsc(
+                            facilityId, from, to)
+                    : transactionArchiveRepository.findByLoanIdAndTransactionDateBetweenOrderByTransactionDateAsc(
+                            loanId, from, to));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body("Internal error: " + ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.syndicatelending.domain;
+
+import com.example.syndicatelending.common.infrastructure.job.JobContext;
+import com.example.syndicatelending.common.infrastructure.job.JobHandler;
+import com.example.syndicatelending.entity.Loan;
+import com.example.syndicatelending.repository.LoanRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 全ローンの経過利息を基準日（asOf、省略時は当日）まで計上するジョブ。
+ * ID順にページ単位で処理し、ページごとに最後のローンIDをチェックポイントとして記録する。
+ * 計上済みの期間は再計上されないため、再開時に同じページを処理しても結果は変わらない。
+ */
+@Component
+public class InterestAccrualJobHandler implements JobHandler {
+
+    public static final String TYPE = "INTEREST_ACCRUAL";
+
+    @Autowired
+    private LoanRepository loanRepository;
+    @Autowired
+    private PaymentWaterfall paymentWaterfall;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.jobs.page-size:500}")
+    private int pageSize;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void validate(JobContext.Parameters parameters) {
+        parameters.getDate("asOf", LocalDate.now());
+    }
+
+    @Override
+    public String execute(JobContext context) {
+        LocalDate asOf = context.getParameters().getDate("asOf", LocalDate.now());
+        long afterId = context.getCheckpoint() == null ? 0 : Long.parseLong(context.getCheckpoint());
+        long processed = context.getProcessedItems();
+        long total = loanRepository.count();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        while (!context.isCancelRequested()) {
+            long from = afterId;
+            List<Loan> page = transactionTemplate.execute(status -> {
+                List<Loan> loans = loanRepository.findByIdGreaterThanOrderByIdAsc(from, PageRequest.of(0, pageSize));
+                loans.forEach(loan -> paymentWaterfall.accrueInterest(loan, asOf));
+                return loans;
+            });
+            if (page.isEmpty()) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).getId();
+            processed += page.size();
+            context.checkpoint(Long.toString(afterId), processed, total);
+        }
+        return "Accrued interest up to " + asOf + " for " + processed + " loans";
+    }
+}
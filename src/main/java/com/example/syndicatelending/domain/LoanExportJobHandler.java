@@ -0,0 +1,107 @@
+package com.example.syndicatelending.domain;
+
+import com.example.syndicatelending.common.infrastructure.job.JobContext;
+import com.example.syndicatelending.common.infrastructure.job.JobHandler;
+import com.example.syndicatelending.entity.Loan;
+import com.example.syndicatelending.repository.LoanRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * ローン一覧をCSVファイルに出力するジョブ（currencyで絞り込み可）。
+ * チェックポイントは「最後のローンID:ファイル上の書き込み済みバイト数」。
+ * 再開時はファイルをチェックポイントの位置まで切り詰めてから続きを書くため、行が重複しない。
+ */
+@Component
+public class LoanExportJobHandler implements JobHandler {
+
+    public static final String TYPE = "LOAN_EXPORT";
+
+    private static final String HEADER = "id,facilityId,borrowerId,currency,principalAmount,outstandingBalance,"
+            + "accruedInterest,outstandingFees,annualInterestRate,drawdownDate\n";
+
+    @Autowired
+    private LoanRepository loanRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.jobs.page-size:500}")
+    private int pageSize;
+
+    @Value("${app.jobs.export-dir:${java.io.tmpdir}/syndicate-exports}")
+    private String exportDir;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public String execute(JobContext context) throws Exception {
+        String currency = context.getParameters().getString("currency", null);
+        long afterId = 0;
+        long offset = 0;
+        if (context.getCheckpoint() != null) {
+            String[] parts = context.getCheckpoint().split(":");
+            afterId = Long.parseLong(parts[0]);
+            offset = Long.parseLong(parts[1]);
+        }
+        long processed = context.getProcessedItems();
+        long total = loanRepository.count();
+        Path file = Paths.get(exportDir).resolve("loans-" + context.getJobId() + ".csv");
+        Files.createDirectories(file.getParent());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.truncate(offset);
+            channel.position(offset);
+            if (offset == 0) {
+                channel.write(ByteBuffer.wrap(HEADER.getBytes(StandardCharsets.UTF_8)));
+            }
+            while (!context.isCancelRequested()) {
+                long from = afterId;
+                List<Loan> page = transactionTemplate.execute(
+                        status -> loanRepository.findByIdGreaterThanOrderByIdAsc(from, PageRequest.of(0, pageSize)));
+                if (page.isEmpty()) {
+                    break;
+                }
+                StringBuilder rows = new StringBuilder();
+                for (Loan loan : page) {
+                    if (currency == null || currency.equals(loan.getCurrency())) {
+                        rows.append(loan.getId()).append(',')
+                                .append(loan.getFacilityId()).append(',')
+                                .append(loan.getBorrowerId()).append(',')
+                                .append(loan.getCurrency()).append(',')
+                                .append(loan.getPrincipalAmount()).append(',')
+                                .append(loan.getOutstandingBalance()).append(',')
+                                .append(loan.getAccruedInterest()).append(',')
+                                .append(loan.getOutstandingFees()).append(',')
+                                .append(loan.getAnnualInterestRate().getValue().toPlainString()).append(',')
+                                .append(loan.getDrawdownDate()).append('\n');
+                    }
+                }
+                channel.write(ByteBuffer.wrap(rows.toString().getBytes(StandardCharsets.UTF_8)));
+                // チェックポイントより前の内容が確実にディスクにある状態で記録する
+                channel.force(false);
+                afterId = page.get(page.size() - 1).getId();
+                processed += page.size();
+                context.checkpoint(afterId + ":" + channel.position(), processed, total);
+            }
+        }
+        return file.toString();
+    }
+}
@@ -0,0 +1,628 @@
+package com.example.syndicatelending.domain;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.infrastructure.audit.AuditLog;
+import com.example.syndicatelending.common.infrastructure.audit.AuditRecord;
+import com.example.syndicatelending.common.infrastructure.importer.RecordReader;
+import com.example.syndicatelending.common.infrastructure.job.JobContext;
+import com.example.syndicatelending.common.infrastructure.job.JobHandler;
+import com.example.syndicatelending.common.infrastructure.search.PartySearchIndex;
+import com.example.syndicatelending.common.infrastructure.search.PartySearchIndex.PartyType;
+import com.example.syndicatelending.dto.CreateBorrowerRequest;
+import com.example.syndicatelending.dto.CreateCompanyRequest;
+import com.example.syndicatelending.dto.CreateInvestorRequest;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 参加者（企業・借り手・投資家）をCSV/NDJSONファイルから一括登録するジョブ。
+ * <p>
+ * ファイルは1レコードずつ読み（{@link RecordReader}）、app.import.batch-size 件ごとに
+ * 登録API（Create*Request）と同じ型変換・入力チェックを行い、JDBCのバッチで書き込む。
+ * 企業は登録番号（registrationNumber、必須）で既存行を探して更新し、なければ追加する（ファイル内の重複は後の行が優先）。
+ * 借り手・投資家は追加のみ。不正な行は書き込まず、「行番号,エラー,レコード」のCSV（エラーレポート）に出力する。
+ * チェックポイントは「次のレコードのバイト位置:行番号:エラーレポートのバイト数:追加件数:更新件数:エラー件数」で、
+ * チャンクの書き込みと同じトランザクションで記録するため、再開しても行が二重に登録されない。
+ * 書き込んだ行はコミット後に監査ログ（投入したユーザーを実行者とする）にも記録する。
+ * </p>
+ */
+@Component
+public class PartyImportJobHandler implements JobHandler {
+
+    public static final String TYPE = "PARTY_IMPORT";
+
+    private static final Logger log = LoggerFactory.getLogger(PartyImportJobHandler.class);
+
+    private static final String REPORT_HEADER = "line,error,record\n";
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private Validator validator;
+    @Autowired
+    private PartySearchIndex partySearchIndex;
+    @Autowired(required = false)
+    private AuditLog auditLog;
+
+    @Value("${app.import.dir:${java.io.tmpdir}/syndicate-imports}")
+    private String importDir;
+
+    @Value("${app.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.import.max-record-bytes:65536}")
+    private int maxRecordBytes;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void validate(JobContext.Parameters parameters) {
+        partyType(parameters);
+        Path file = resolve(parameters.getString("file", null));
+        RecordReader.Format.of(parameters.getString("format", null), file.getFileName().toString());
+    }
+
+    /**
+     * アップロードされた内容を取り込み用ディレクトリに保存し、ジョブのfileパラメータに指定する名前を返す。
+     */
+    public String store(InputStream content, RecordReader.Format format) throws IOException {
+        Path dir = Paths.get(importDir);
+        Files.createDirectories(dir);
+        String name = "upload-" + UUID.randomUUID() + "." + format.name().toLowerCase(Locale.ROOT);
+        Files.copy(content, dir.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+        return name;
+    }
+
+    /**
+     * 取り込み用ディレクトリ内のファイルを削除する（投入できなかったアップロードの後始末）。
+     */
+    public void delete(String name) throws IOException {
+        Files.deleteIfExists(resolvePath(name));
+    }
+
+    /**
+     * ジョブのエラーレポートのパス
+     */
+    public Path errorReport(Long jobId) {
+        return Paths.get(importDir).resolve("party-import-" + jobId + "-errors.csv");
+    }
+
+    @Override
+    public String execute(JobContext context) throws Exception {
+        PartyType type = partyType(context.getParameters());
+        Path file = resolve(context.getParameters().getString("file", null));
+        RecordReader.Format format = RecordReader.Format.of(context.getParameters().getString("format", null),
+                file.getFileName().toString());
+        Progress progress = Progress.parse(context.getCheckpoint());
+        String principal = context.getParameters().getString("principal", "system:" + TYPE);
+        Path report = errorReport(context.getJobId());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        try (RecordReader reader = RecordReader.open(file, format, progress.offset, progress.line, objectMapper,
+                maxRecordBytes);
+                FileChannel reportChannel = FileChannel.open(report, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE)) {
+            reportChannel.truncate(progress.reportBytes);
+            reportChannel.position(progress.reportBytes);
+            if (progress.reportBytes == 0) {
+                reportChannel.write(ByteBuffer.wrap(REPORT_HEADER.getBytes(StandardCharsets.UTF_8)));
+            }
+            long processed = context.getProcessedItems();
+            while (!context.isCancelRequested()) {
+                StringBuilder errors = new StringBuilder();
+                List<Row> rows = new ArrayList<>(batchSize);
+                int read = 0;
+                RecordReader.Record record;
+                while (read < batchSize && (record = reader.next()) != null) {
+                    read++;
+                    Row row = toRow(type, record, errors);
+                    if (row != null) {
+                        rows.add(row);
+                    }
+                }
+                if (read == 0) {
+                    break;
+                }
+                processed += read;
+                Chunk chunk = new Chunk(rows, errors, read - rows.size());
+                long total = processed;
+                transactionTemplate.executeWithoutResult(status -> {
+                    write(type, chunk);
+                    try {
+                        // チェックポイントより前のエラーが確実にディスクにある状態で記録する
+                        reportChannel.write(ByteBuffer.wrap(chunk.errors.toString().getBytes(StandardCharsets.UTF_8)));
+                        reportChannel.force(false);
+                        progress.advance(reader.position(), reader.line(), reportChannel.position(), chunk);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                    context.checkpoint(progress.toString(), total, null);
+                });
+                for (Row row : chunk.written) {
+                    for (Long id : row.existingIds != null ? row.existingIds : Collections.singletonList(row.id)) {
+                        partySearchIndex.put(type, id, row.name);
+                    }
+                }
+                if (auditLog != null) {
+                    audit(type, chunk.written, principal);
+                }
+            }
+        }
+        if (!context.isCancelRequested() && context.getParameters().getString("deleteOnSuccess", "false")
+                .equals("true")) {
+            Files.deleteIfExists(file);
+        }
+        return "Imported " + type + ": inserted=" + progress.inserted + ", updated=" + progress.updated
+                + ", rejected=" + progress.rejected + " (errors: " + report + ")";
+    }
+
+    /**
+     * レコードを登録APIのリクエストに変換して検査する。不正な場合はエラーレポートに追記してnullを返す。
+     */
+    private Row toRow(PartyType type, RecordReader.Record record, StringBuilder errors) {
+        if (record.getError() != null) {
+            reject(errors, record, record.getError());
+            return null;
+        }
+        ObjectNode node = objectMapper.createObjectNode();
+        for (String field : fields(type)) {
+            String value = record.get(field);
+            if (value != null) {
+                node.put(field, value.trim());
+            }
+        }
+        Object request;
+        try {
+            request = objectMapper.treeToValue(node, requestType(type));
+        } catch (JsonMappingException ex) {
+            String field = ex.getPath().isEmpty() ? "" : ex.getPath().get(0).getFieldName() + ": ";
+            String value = ex instanceof InvalidFormatException invalid ? "（" + invalid.getValue() + "）" : "";
+            reject(errors, record, field + "不正な値です" + value);
+            return null;
+        } catch (IOException ex) {
+            reject(errors, record, ex.getMessage());
+            return null;
+        }
+        List<String> problems = new ArrayList<>();
+        for (ConstraintViolation<Object> violation : validator.validate(request)) {
+            problems.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        for (String field : fields(type)) {
+            String value = node.path(field).asText(null);
+            if (value != null && value.length() > MAX_TEXT_LENGTH) {
+                problems.add(field + ": " + MAX_TEXT_LENGTH + "文字以内で指定してください");
+            }
+        }
+        Row row = new Row(record.getLine());
+        switch (type) {
+            case COMPANY -> {
+                CreateCompanyRequest company = (CreateCompanyRequest) request;
+                if (company.getRegistrationNumber() == null) {
+                    problems.add("registrationNumber: 一括登録では重複判定のため必須です");
+                }
+                row.name = company.getCompanyName();
+                row.key = company.getRegistrationNumber();
+                row.values = new Object[] { company.getCompanyName(), company.getRegistrationNumber(),
+                        name(company.getIndustry()), name(company.getCountry()), company.getAddress() };
+            }
+            case BORROWER -> {
+                CreateBorrowerRequest borrower = (CreateBorrowerRequest) request;
+                BigDecimal creditLimit = borrower.getCreditLimit() == null ? null
+                        : borrower.getCreditLimit().getAmount();
+                if (creditLimit != null && creditLimit.signum() < 0) {
+                    problems.add("creditLimit: 0以上で指定してください");
+                }
+                checkAmount(problems, "creditLimit", creditLimit, 36);
+                row.name = borrower.getName();
+                row.values = new Object[] { borrower.getName(), borrower.getEmail(), borrower.getPhoneNumber(),
+                        borrower.getCompanyId(), creditLimit, name(borrower.getCreditRating()) };
+            }
+            case INVESTOR -> {
+                CreateInvestorRequest investor = (CreateInvestorRequest) request;
+                checkAmount(problems, "investmentCapacity", investor.getInvestmentCapacity(), 17);
+                row.name = investor.getName();
+                row.values = new Object[] { investor.getName(), investor.getEmail(), investor.getPhoneNumber(),
+                        investor.getCompanyId(), investor.getInvestmentCapacity(), name(investor.getInvestorType()) };
+            }
+        }
+        if (!problems.isEmpty()) {
+            Collections.sort(problems);
+            reject(errors, record, String.join("; ", problems));
+            return null;
+        }
+        row.raw = record.getRaw();
+        return row;
+    }
+
+    /**
+     * チャンクを書き込む。バッチが失敗した場合は1行ずつ（セーブポイント単位で）書き込み、失敗した行をエラーにする。
+     * セーブポイントはトランザクションのJDBC接続に直接設定する（HibernateのJpaDialectは対応していない）。
+     */
+    private void write(PartyType type, Chunk chunk) {
+        List<Row> rows = type == PartyType.COMPANY ? collapseByRegistrationNumber(chunk) : chunk.rows;
+        Savepoint savepoint = setSavepoint();
+        try {
+            upsert(type, rows);
+            chunk.written.addAll(rows);
+        } catch (DataAccessException batchFailure) {
+            rollbackTo(savepoint);
+            for (Row row : rows) {
+                row.id = null;
+                row.existingIds = null;
+                Savepoint rowSavepoint = setSavepoint();
+                try {
+                    upsert(type, List.of(row));
+                    chunk.written.add(row);
+                } catch (DataAccessException ex) {
+                    rollbackTo(rowSavepoint);
+                    chunk.rejectWritten(row, ex.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private Savepoint setSavepoint() {
+        return jdbcTemplate.execute((ConnectionCallback<Savepoint>) Connection::setSavepoint);
+    }
+
+    private void rollbackTo(Savepoint savepoint) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            connection.rollback(savepoint);
+            return null;
+        });
+    }
+
+    /**
+     * 同じ登録番号の行は後の行だけを書き込む（先の行は後の行で更新されたものとして数える）。
+     */
+    private static List<Row> collapseByRegistrationNumber(Chunk chunk) {
+        Map<String, Row> latest = new LinkedHashMap<>();
+        for (Row row : chunk.rows) {
+            if (latest.put(row.key, row) != null) {
+                chunk.superseded++;
+            }
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    private void upsert(PartyType type, List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Row> inserts = rows;
+        if (type == PartyType.COMPANY) {
+            Map<String, List<Long>> existing = findCompanyIds(rows);
+            inserts = new ArrayList<>();
+            List<Object[]> updates = new ArrayList<>();
+            for (Row row : rows) {
+                List<Long> ids = existing.get(row.key);
+                if (ids == null) {
+                    inserts.add(row);
+                    continue;
+                }
+                row.existingIds = ids;
+                row.id = ids.get(0);
+                for (Long id : ids) {
+                    updates.add(new Object[] { row.values[0], row.values[2], row.values[3], row.values[4], now, id });
+                }
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate("update companies set company_name = ?, industry = ?, country = ?, "
+                        + "address = ?, updated_at = ?, version = coalesce(version, 0) + 1 where id = ?", updates);
+            }
+        }
+        if (!inserts.isEmpty()) {
+            insert(insertSql(type), inserts, now);
+        }
+    }
+
+    private Map<String, List<Long>> findCompanyIds(List<Row> rows) {
+        StringBuilder sql = new StringBuilder("select id, registration_number from companies where registration_number in (");
+        Object[] keys = new Object[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            keys[i] = rows.get(i).key;
+        }
+        sql.append(") order by id");
+        Map<String, List<Long>> ids = new HashMap<>();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            ids.computeIfAbsent(rs.getString(2), k -> new ArrayList<>()).add(rs.getLong(1));
+        }, keys);
+        return ids;
+    }
+
+    /**
+     * 追加する行をJDBCのバッチでINSERTし、採番されたIDを行に設定する（検索インデックスの登録に使う）。
+     */
+    private void insert(String sql, List<Row> rows, LocalDateTime now) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql, new String[] { "id" })) {
+                for (Row row : rows) {
+                    int index = 1;
+                    for (Object value : row.values) {
+                        statement.setObject(index++, value);
+                    }
+                    statement.setObject(index++, now);
+                    statement.setObject(index, now);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                readGeneratedKeys(statement, rows);
+            }
+            return null;
+        });
+    }
+
+    private static void readGeneratedKeys(PreparedStatement statement, List<Row> rows) throws SQLException {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            for (int i = 0; i < rows.size() && keys.next(); i++) {
+                rows.get(i).id = keys.getLong(1);
+            }
+        }
+    }
+
+    private static String insertSql(PartyType type) {
+        return switch (type) {
+            case COMPANY -> "insert into companies (company_name, registration_number, industry, country, address, "
+                    + "created_at, updated_at, version) values (?, ?, ?, ?, ?, ?, ?, 0)";
+            case BORROWER -> "insert into borrowers (name, email, phone_number, company_id, credit_limit, "
+                    + "credit_rating, created_at, updated_at, version) values (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+            case INVESTOR -> "insert into investors (name, email, phone_number, company_id, investment_capacity, "
+                    + "investor_type, is_active, created_at, updated_at, version) values (?, ?, ?, ?, ?, ?, true, ?, ?, 0)";
+        };
+    }
+
+    private static List<String> fields(PartyType type) {
+        return switch (type) {
+            case COMPANY -> List.of("companyName", "registrationNumber", "industry", "address", "country");
+            case BORROWER -> List.of("name", "email", "phoneNumber", "companyId", "creditLimit", "creditRating");
+            case INVESTOR -> List.of("name", "email", "phoneNumber", "companyId", "investmentCapacity",
+                    "investorType");
+        };
+    }
+
+    private static Class<?> requestType(PartyType type) {
+        return switch (type) {
+            case COMPANY -> CreateCompanyRequest.class;
+            case BORROWER -> CreateBorrowerRequest.class;
+            case INVESTOR -> CreateInvestorRequest.class;
+        };
+    }
+
+    /**
+     * 書き込んだ行を監査ログに記録する（JDBCで書き込むためエンティティのイベントを通らない）。
+     * 更新前の値は読まないため、更新は取り込んだ値だけを記録する（バージョンは不明として-1）。
+     */
+    private void audit(PartyType type, List<Row> rows, String principal) {
+        String[] fields = auditFields(type);
+        String entityType = switch (type) {
+            case COMPANY -> "Company";
+            case BORROWER -> "Borrower";
+            case INVESTOR -> "Investor";
+        };
+        for (Row row : rows) {
+            List<AuditRecord.Change> changes = new ArrayList<>(fields.length);
+            for (int i = 0; i < fields.length; i++) {
+                if (row.values[i] != null) {
+                    changes.add(new AuditRecord.Change(fields[i], null, row.values[i] instanceof BigDecimal decimal
+                            ? decimal.toPlainString() : row.values[i].toString()));
+                }
+            }
+            try {
+                if (row.existingIds == null) {
+                    auditLog.append(AuditRecord.Op.INSERT, entityType, row.id, 0, principal, changes);
+                } else {
+                    for (Long id : row.existingIds) {
+                        auditLog.append(AuditRecord.Op.UPDATE, entityType, id, -1, principal, changes);
+                    }
+                }
+            } catch (RuntimeException ex) {
+                // コミット済みのため取り込みは止めない
+                log.error("監査ログに記録できませんでした: {}#{}: {}", entityType, row.id, ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Row.valuesの各要素に対応する項目名
+     */
+    private static String[] auditFields(PartyType type) {
+        return switch (type) {
+            case COMPANY -> new String[] { "companyName", "registrationNumber", "industry", "country", "address" };
+            case BORROWER -> new String[] { "name", "email", "phoneNumber", "companyId", "creditLimit",
+                    "creditRating" };
+            case INVESTOR -> new String[] { "name", "email", "phoneNumber", "companyId", "investmentCapacity",
+                    "investorType" };
+        };
+    }
+
+    /**
+     * 列の精度（numeric(p,2)）に収まるかを検査する。
+     */
+    private static void checkAmount(List<String> problems, String field, BigDecimal amount, int integerDigits) {
+        if (amount == null) {
+            return;
+        }
+        if (amount.stripTrailingZeros().scale() > 2 || amount.precision() - amount.scale() > integerDigits) {
+            problems.add(field + ": 整数部" + integerDigits + "桁・小数部2桁以内で指定してください");
+        }
+    }
+
+    private static String name(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+
+    private static void reject(StringBuilder errors, RecordReader.Record record, String message) {
+        errors.append(record.getLine()).append(',').append(csv(message)).append(',').append(csv(record.getRaw()))
+                .append('\n');
+    }
+
+    private static String csv(String value) {
+        return "\"" + (value == null ? "" : value.replace("\"", "\"\"")) + "\"";
+    }
+
+    private static PartyType partyType(JobContext.Parameters parameters) {
+        String value = parameters.getString("partyType", null);
+        if (value == null) {
+            throw new BusinessRuleViolationException("partyTypeを指定してください（COMPANY / BORROWER / INVESTOR）");
+        }
+        try {
+            return PartyType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessRuleViolationException("partyTypeはCOMPANY / BORROWER / INVESTORで指定してください: " + value);
+        }
+    }
+
+    /**
+     * fileパラメータを取り込み用ディレクトリ内の既存ファイルに解決する（ディレクトリ外は指定できない）。
+     */
+    private Path resolve(String name) {
+        if (name == null || name.isBlank()) {
+            throw new BusinessRuleViolationException("fileを指定してください（" + importDir + " からの相対パス）");
+        }
+        Path file = resolvePath(name);
+        if (!Files.isRegularFile(file)) {
+            throw new BusinessRuleViolationException("ファイルがありません: " + name);
+        }
+        return file;
+    }
+
+    private Path resolvePath(String name) {
+        Path dir = Paths.get(importDir).toAbsolutePath().normalize();
+        Path file = dir.resolve(name).normalize();
+        if (!file.startsWith(dir) || file.equals(dir)) {
+            throw new BusinessRuleViolationException("fileには " + importDir + " 内のファイルを指定してください");
+        }
+        return file;
+    }
+
+    private static final class Row {
+        final long line;
+        String raw;
+        String name;
+        String key;
+        Object[] values;
+        Long id;
+        List<Long> existingIds;
+
+        Row(long line) {
+            this.line = line;
+        }
+    }
+
+    private static final class Chunk {
+        final List<Row> rows;
+        final StringBuilder errors;
+        final List<Row> written = new ArrayList<>();
+        final int invalid;
+        int superseded;
+        int failed;
+
+        Chunk(List<Row> rows, StringBuilder errors, int invalid) {
+            this.rows = rows;
+            this.errors = errors;
+            this.invalid = invalid;
+        }
+
+        void rejectWritten(Row row, String message) {
+            failed++;
+            errors.append(row.line).append(',').append(csv(message)).append(',').append(csv(row.raw)).append('\n');
+        }
+    }
+
+    /**
+     * 再開位置と件数（チェックポイントの文字列表現）
+     */
+    private static final class Progress {
+        long offset;
+        long line;
+        long reportBytes;
+        long inserted;
+        long updated;
+        long rejected;
+
+        static Progress parse(String checkpoint) {
+            Progress progress = new Progress();
+            if (checkpoint != null) {
+                String[] parts = checkpoint.split(":");
+                progress.offset = Long.parseLong(parts[0]);
+                progress.line = Long.parseLong(parts[1]);
+                progress.reportBytes = Long.parseLong(parts[2]);
+                progress.inserted = Long.parseLong(parts[3]);
+                progress.updated = Long.parseLong(parts[4]);
+                progress.rejected = Long.parseLong(parts[5]);
+            }
+            return progress;
+        }
+
+        void advance(long offset, long line, long reportBytes, Chunk chunk) {
+            this.offset = offset;
+            this.line = line;
+            this.reportBytes = reportBytes;
+            for (Row row : chunk.written) {
+                if (row.existingIds == null) {
+                    inserted++;
+                } else {
+                    updated++;
+                }
+            }
+            updated += chunk.superseded;
+            rejected += chunk.invalid + chunk.failed;
+        }
+
+        @Override
+        public String toString() {
+            return offset + ":" + line + ":" + reportBytes + ":" + inserted + ":" + updated + ":" + rejected;
+        }
+    }
+}
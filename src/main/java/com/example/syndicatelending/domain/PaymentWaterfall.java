@@ -0,0 +1,139 @@
+package com.example.syndicatelending.domain;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.entity.Loan;
+import com.example.syndicatelending.entity.PaymentDistribution;
+import com.example.syndicatelending.repository.SharePieRepository;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 返済のウォーターフォール処理。
+ * <p>
+ * 支払額を 手数料 → 経過利息 → 元本 の順に充当してローンの残高を更新し、
+ * 各充当額をファシリティのSharePie持分比率で投資家に按分する。
+ * </p>
+ */
+@Component
+public class PaymentWaterfall {
+
+    private static final BigDecimal DAYS_IN_YEAR = BigDecimal.valueOf(365);
+
+    /**
+     * 支払日までの経過利息を計上する（実日数/365の単利）。
+     */
+    public void accrueInterest(Loan loan, LocalDate asOf) {
+        LocalDate from = loan.getLastInterestDate() != null ? loan.getLastInterestDate() : loan.getDrawdownDate();
+        long days = ChronoUnit.DAYS.between(from, asOf);
+        if (days <= 0) {
+            return;
+        }
+        BigDecimal interest = loan.getOutstandingBalance().getAmount()
+                .multiply(loan.getAnnualInterestRate().getValue())
+                .multiply(BigDecimal.valueOf(days))
+                .divide(DAYS_IN_YEAR, 2, RoundingMode.HALF_UP);
+        loan.setAccruedInterest(loan.getAccruedInterest().add(Money.of(interest)));
+        loan.setLastInterestDate(asOf);
+    }
+
+    /**
+     * 支払額を手数料 → 経過利息 → 元本の順に充当し、ローンの未払額を減らす。
+     */
+    public Allocation apply(Loan loan, Money amount) {
+        Money remaining = amount;
+
+        Money fee = min(remaining, loan.getOutstandingFees());
+        loan.setOutstandingFees(loan.getOutstandingFees().subtract(fee));
+        remaining = remaining.subtract(fee);
+
+        Money interest = min(remaining, loan.getAccruedInterest());
+        loan.setAccruedInterest(loan.getAccruedInterest().subtract(interest));
+        remaining = remaining.subtract(interest);
+
+        Money principal = min(remaining, loan.getOutstandingBalance());
+        loan.setOutstandingBalance(loan.getOutstandingBalance().subtract(principal));
+        remaining = remaining.subtract(principal);
+
+        return new Allocation(fee, interest, principal, remaining);
+    }
+
+    /**
+     * 充当額を持分比率で投資家に按分する。
+     * 丸め差額は最大持分の投資家に寄せ、各項目の合計を充当額と一致させる。
+     */
+    public List<PaymentDistribution> distribute(Allocation allocation, List<SharePieRepository.SnapshotRow> shares) {
+        List<PaymentDistribution> result = new ArrayList<>();
+        if (shares == null || shares.isEmpty()) {
+            return result;
+        }
+        int largest = 0;
+        for (int i = 0; i < shares.size(); i++) {
+            SharePieRepository.SnapshotRow row = shares.get(i);
+            PaymentDistribution distribution = new PaymentDistribution();
+            distribution.setInvestorId(row.getInvestorId());
+            distribution.setFeeAmount(row.getShare().applyTo(allocation.getFee()));
+            distribution.setInterestAmount(row.getShare().applyTo(allocation.getInterest()));
+            distribution.setPrincipalAmount(row.getShare().applyTo(allocation.getPrincipal()));
+            result.add(distribution);
+            if (row.getShare().getValue().compareTo(shares.get(largest).getShare().getValue()) > 0) {
+                largest = i;
+            }
+        }
+        Money fee = Money.zero();
+        Money interest = Money.zero();
+        Money principal = Money.zero();
+        for (PaymentDistribution distribution : result) {
+            fee = fee.add(distribution.getFeeAmount());
+            interest = interest.add(distribution.getInterestAmount());
+            principal = principal.add(distribution.getPrincipalAmount());
+        }
+        PaymentDistribution plug = result.get(largest);
+        plug.setFeeAmount(plug.getFeeAmount().add(allocation.getFee().subtract(fee)));
+        plug.setInterestAmount(plug.getInterestAmount().add(allocation.getInterest().subtract(interest)));
+        plug.setPrincipalAmount(plug.getPrincipalAmount().add(allocation.getPrincipal().subtract(principal)));
+        return result;
+    }
+
+    private static Money min(Money a, Money b) {
+        return a.isLessThan(b) ? a : b;
+    }
+
+    /**
+     * 1件の支払いの充当結果
+     */
+    public static final class Allocation {
+        private final Money fee;
+        private final Money interest;
+        private final Money principal;
+        private final Money unapplied;
+
+        Allocation(Money fee, Money interest, Money principal, Money unapplied) {
+            this.fee = fee;
+            this.interest = interest;
+            this.principal = principal;
+            this.unapplied = unapplied;
+        }
+
+        public Money getFee() {
+            return fee;
+        }
+
+        public Money getInterest() {
+            return interest;
+        }
+
+        public Money getPrincipal() {
+            return principal;
+        }
+
+        public Money getUnapplied() {
+            return unapplied;
+        }
+    }
+}
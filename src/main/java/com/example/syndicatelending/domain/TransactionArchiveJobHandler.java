@@ -0,0 +1,91 @@
+package com.example.syndicatelending.domain;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.infrastructure.job.JobContext;
+import com.example.syndicatelending.common.infrastructure.job.JobHandler;
+import com.example.syndicatelending.repository.TransactionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 締め済み期間（基準日 before より前）の取引を退避テーブルへ移すジョブ。
+ * before を省略した場合は保持期間（app.archive.retention-months）より前の月初を基準日とする。
+ * 基準日の時点で終了していないファシリティの取引は、基準日より前の日付でも移さない。
+ * チャンクごとに「退避テーブルへのコピー → 元の行の削除」を1トランザクションで行うため、再開しても二重に移動されない。
+ * 返済取引の投資家別配分も同じチャンクで退避する。
+ */
+@Component
+public class TransactionArchiveJobHandler implements JobHandler {
+
+    public static final String TYPE = "TRANSACTION_ARCHIVE";
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.jobs.page-size:500}")
+    private int pageSize;
+
+    @Value("${app.archive.retention-months:24}")
+    private int retentionMonths;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void validate(JobContext.Parameters parameters) {
+        resolveBefore(parameters);
+    }
+
+    @Override
+    public String execute(JobContext context) {
+        LocalDate before = resolveBefore(context.getParameters());
+        long afterId = context.getCheckpoint() == null ? 0 : Long.parseLong(context.getCheckpoint());
+        long processed = context.getProcessedItems();
+        long total = processed + transactionRepository.countToArchive(before);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        while (!context.isCancelRequested()) {
+            long from = afterId;
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> chunk = transactionRepository.findIdsToArchive(before, from, PageRequest.of(0, pageSize));
+                if (!chunk.isEmpty()) {
+                    transactionRepository.copyToArchive(chunk);
+                    transactionRepository.copyDistributionsToArchive(chunk);
+                    transactionRepository.deleteDistributions(chunk);
+                    transactionRepository.deleteByIds(chunk);
+                }
+                return chunk;
+            });
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+            processed += ids.size();
+            context.checkpoint(Long.toString(afterId), processed, total);
+        }
+        return "Archived " + processed + " transactions dated before " + before;
+    }
+
+    /**
+     * 基準日を決める。当月以降を指定すると締まっていない期間の取引まで移してしまうため拒否する。
+     */
+    private LocalDate resolveBefore(JobContext.Parameters parameters) {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        LocalDate before = parameters.getDate("before", currentMonth.minusMonths(retentionMonths));
+        if (before.isAfter(currentMonth)) {
+            throw new BusinessRuleViolationException("beforeには当月初日（" + currentMonth + "）以前の日付を指定してください");
+        }
+        return before;
+    }
+}
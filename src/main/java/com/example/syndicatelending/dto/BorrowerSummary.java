@@ -0,0 +1,20 @@
+package com.example.syndicatelending.dto;
+
+import com.example.syndicatelending.common.infrastructure.web.FieldSelection;
+import com.example.syndicatelending.entity.CreditRating;
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+/**
+ * 借り手一覧（ドロップダウン・グリッド）用の読み取り専用プロジェクション。
+ * 監査項目・versionを含まず、必要な列のみをSELECTする。
+ */
+@JsonFilter(FieldSelection.FILTER_ID)
+public interface BorrowerSummary {
+    Long getId();
+
+    String getName();
+
+    String getCompanyId();
+
+    CreditRating getCreditRating();
+}
@@ -0,0 +1,20 @@
+package com.example.syndicatelending.dto;
+
+import com.example.syndicatelending.common.infrastructure.web.FieldSelection;
+import com.example.syndicatelending.entity.Country;
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+/**
+ * 企業一覧用の読み取り専用プロジェクション。
+ * 監査項目・versionを含まず、必要な列のみをSELECTする。
+ */
+@JsonFilter(FieldSelection.FILTER_ID)
+public interface CompanySummary {
+    Long getId();
+
+    String getCompanyName();
+
+    String getRegistrationNumber();
+
+    Country getCountry();
+}
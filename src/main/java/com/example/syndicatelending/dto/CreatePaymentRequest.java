@@ -0,0 +1,56 @@
+package com.example.syndicatelending.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 返済1件分のリクエスト
+ */
+public class CreatePaymentRequest {
+    private Long loanId;
+    private BigDecimal amount;
+    private String currency; // 省略時はローンの通貨
+    private LocalDate paymentDate;
+
+    public CreatePaymentRequest() {
+    }
+
+    public CreatePaymentRequest(Long loanId, BigDecimal amount, String currency, LocalDate paymentDate) {
+        this.loanId = loanId;
+        this.amount = amount;
+        this.currency = currency;
+        this.paymentDate = paymentDate;
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public void setLoanId(Long loanId) {
+        this.loanId = loanId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public LocalDate getPaymentDate() {
+        return paymentDate;
+    }
+
+    public void setPaymentDate(LocalDate paymentDate) {
+        this.paymentDate = paymentDate;
+    }
+}
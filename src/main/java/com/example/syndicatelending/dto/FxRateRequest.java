@@ -0,0 +1,46 @@
+package com.example.syndicatelending.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 為替レートの登録リクエスト（1 baseCurrency = rate quoteCurrency）
+ */
+public class FxRateRequest {
+    private String baseCurrency;
+    private String quoteCurrency;
+    private LocalDate rateDate;
+    private BigDecimal rate;
+
+    public String getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    public void setBaseCurrency(String baseCurrency) {
+        this.baseCurrency = baseCurrency;
+    }
+
+    public String getQuoteCurrency() {
+        return quoteCurrency;
+    }
+
+    public void setQuoteCurrency(String quoteCurrency) {
+        this.quoteCurrency = quoteCurrency;
+    }
+
+    public LocalDate getRateDate() {
+        return rateDate;
+    }
+
+    public void setRateDate(LocalDate rateDate) {
+        this.rateDate = rateDate;
+    }
+
+    public BigDecimal getRate() {
+        return rate;
+    }
+
+    public void setRate(BigDecimal rate) {
+        this.rate = rate;
+    }
+}
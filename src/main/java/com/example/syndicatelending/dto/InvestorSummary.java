@@ -0,0 +1,20 @@
+package com.example.syndicatelending.dto;
+
+import com.example.syndicatelending.common.infrastructure.web.FieldSelection;
+import com.example.syndicatelending.entity.InvestorType;
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+/**
+ * 投資家一覧（SharePie入力のドロップダウン等）用の読み取り専用プロジェクション。
+ * 監査項目・versionを含まず、必要な列のみをSELECTする。
+ */
+@JsonFilter(FieldSelection.FILTER_ID)
+public interface InvestorSummary {
+    Long getId();
+
+    String getName();
+
+    InvestorType getInvestorType();
+
+    Boolean getIsActive();
+}
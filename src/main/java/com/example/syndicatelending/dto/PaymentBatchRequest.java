@@ -0,0 +1,25 @@
+package com.example.syndicatelending.dto;
+
+import java.util.List;
+
+/**
+ * 返済の一括登録リクエスト
+ */
+public class PaymentBatchRequest {
+    private List<CreatePaymentRequest> payments;
+
+    public PaymentBatchRequest() {
+    }
+
+    public PaymentBatchRequest(List<CreatePaymentRequest> payments) {
+        this.payments = payments;
+    }
+
+    public List<CreatePaymentRequest> getPayments() {
+        return payments;
+    }
+
+    public void setPayments(List<CreatePaymentRequest> payments) {
+        this.payments = payments;
+    }
+}
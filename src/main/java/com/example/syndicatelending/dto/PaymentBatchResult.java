@@ -0,0 +1,103 @@
+package com.example.syndicatelending.dto;
+
+import com.example.syndicatelending.common.domain.model.Money;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 返済一括登録の結果（件数・充当額合計・失敗した明細）
+ */
+public class PaymentBatchResult {
+    private int received;
+    private int applied;
+    private Money feePaid = Money.zero();
+    private Money interestPaid = Money.zero();
+    private Money principalPaid = Money.zero();
+    private Money unappliedAmount = Money.zero();
+    private final List<Error> errors = new ArrayList<>();
+
+    public PaymentBatchResult(int received) {
+        this.received = received;
+    }
+
+    public void addApplied(Money fee, Money interest, Money principal, Money unapplied) {
+        applied++;
+        feePaid = feePaid.add(fee);
+        interestPaid = interestPaid.add(interest);
+        principalPaid = principalPaid.add(principal);
+        unappliedAmount = unappliedAmount.add(unapplied);
+    }
+
+    public void merge(PaymentBatchResult other) {
+        applied += other.applied;
+        feePaid = feePaid.add(other.feePaid);
+        interestPaid = interestPaid.add(other.interestPaid);
+        principalPaid = principalPaid.add(other.principalPaid);
+        unappliedAmount = unappliedAmount.add(other.unappliedAmount);
+        errors.addAll(other.errors);
+    }
+
+    public void addError(int index, Long loanId, String message) {
+        errors.add(new Error(index, loanId, message));
+    }
+
+    public int getReceived() {
+        return received;
+    }
+
+    public int getApplied() {
+        return applied;
+    }
+
+    public int getFailed() {
+        return errors.size();
+    }
+
+    public Money getFeePaid() {
+        return feePaid;
+    }
+
+    public Money getInterestPaid() {
+        return interestPaid;
+    }
+
+    public Money getPrincipalPaid() {
+        return principalPaid;
+    }
+
+    public Money getUnappliedAmount() {
+        return unappliedAmount;
+    }
+
+    public List<Error> getErrors() {
+        return errors;
+    }
+
+    /**
+     * 失敗した明細（indexはリクエスト内の位置）
+     */
+    public static class Error {
+        private final int index;
+        private final Long loanId;
+        private final String message;
+
+        public Error(int index, Long loanId, String message) {
+            this.index = index;
+            this.loanId = loanId;
+            this.message = message;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Long getLoanId() {
+            return loanId;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.syndicatelending.dto;
+
+/**
+ * クエリAPIのリクエスト（例: {"query": "facilities(ids: [1]) { id commitment syndicate { name } }"}）
+ */
+public class QueryRequest {
+    private String query;
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.syndicatelending.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * バッチジョブの投入リクエスト
+ */
+public class SubmitJobRequest {
+    private String type;
+    private JsonNode parameters; // ジョブ種別ごとのパラメータ（例: {"asOf":"2025-03-31"}）
+
+    public SubmitJobRequest() {
+    }
+
+    public SubmitJobRequest(String type, JsonNode parameters) {
+        this.type = type;
+        this.parameters = parameters;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public JsonNode getParameters() {
+        return parameters;
+    }
+
+    public void setParameters(JsonNode parameters) {
+        this.parameters = parameters;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.syndicatelending.dto;
+
+import java.util.List;
+
+/**
+ * シンジケートメンバーの一括追加・除外リクエスト
+ */
+public class SyndicateMembersRequest {
+    private List<Long> investorIds;
+
+    public SyndicateMembersRequest() {
+    }
+
+    public SyndicateMembersRequest(List<Long> investorIds) {
+        this.investorIds = investorIds;
+    }
+
+    public List<Long> getInvestorIds() {
+        return investorIds;
+    }
+
+    public void setInvestorIds(List<Long> investorIds) {
+        this.investorIds = investorIds;
+    }
+}
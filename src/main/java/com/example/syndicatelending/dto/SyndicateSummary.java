@@ -0,0 +1,19 @@
+package com.example.syndicatelending.dto;
+
+import com.example.syndicatelending.common.infrastructure.web.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+/**
+ * 投資家の参加シンジケート一覧用の読み取り専用プロジェクション。
+ * メンバーコレクションを読み込まず、シンジケート本体の列のみをSELECTする。
+ */
+@JsonFilter(FieldSelection.FILTER_ID)
+public interface SyndicateSummary {
+    Long getId();
+
+    String getName();
+
+    Long getLeadBankId();
+
+    Long getBorrowerId();
+}
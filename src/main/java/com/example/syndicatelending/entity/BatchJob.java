@@ -0,0 +1,205 @@
+package com.example.syndicatelending.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 非同期バッチジョブの状態（再起動時はチェックポイントから再開する）。
+ * <p>
+ * 実行中の状態遷移・進捗はワーカーとキャンセル要求が同時に書き込むため、
+ * エンティティの保存ではなくBatchJobRepositoryの列単位の更新で行う（versionは持たない）。
+ * </p>
+ */
+@Entity
+@Table(name = "batch_job")
+public class BatchJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String jobType;
+
+    @Column(nullable = false, length = 100)
+    private String tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobStatus status;
+
+    /** ジョブ種別ごとのパラメータ（JSON） */
+    @Column(length = 4000)
+    private String parameters;
+
+    /** 再開位置（ジョブ種別ごとの形式） */
+    @Column(length = 4000)
+    private String checkpoint;
+
+    @Column(nullable = false)
+    private Long processedItems = 0L;
+
+    private Long totalItems;
+
+    @Column(nullable = false)
+    private Boolean cancelRequested = false;
+
+    @Column(length = 2000)
+    private String resultMessage;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public BatchJob() {
+    }
+
+    public BatchJob(String jobType, String tenantId, String parameters) {
+        this.jobType = jobType;
+        this.tenantId = tenantId;
+        this.parameters = parameters;
+        this.status = JobStatus.QUEUED;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = this.updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 進捗率（0〜100、総件数が未確定ならnull）
+     */
+    public Double getProgress() {
+        if (status == JobStatus.SUCCEEDED) {
+            return 100.0;
+        }
+        if (totalItems == null || totalItems == 0) {
+            return null;
+        }
+        return Math.min(100.0, processedItems * 100.0 / totalItems);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getJobType() {
+        return jobType;
+    }
+
+    public void setJobType(String jobType) {
+        this.jobType = jobType;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(JobStatus status) {
+        this.status = status;
+    }
+
+    public String getParameters() {
+        return parameters;
+    }
+
+    public void setParameters(String parameters) {
+        this.parameters = parameters;
+    }
+
+    public String getCheckpoint() {
+        return checkpoint;
+    }
+
+    public void setCheckpoint(String checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    public Long getProcessedItems() {
+        return processedItems;
+    }
+
+    public void setProcessedItems(Long processedItems) {
+        this.processedItems = processedItems;
+    }
+
+    public Long getTotalItems() {
+        return totalItems;
+    }
+
+    public void setTotalItems(Long totalItems) {
+        this.totalItems = totalItems;
+    }
+
+    public Boolean getCancelRequested() {
+        return cancelRequested;
+    }
+
+    public void setCancelRequested(Boolean cancelRequested) {
+        this.cancelRequested = cancelRequested;
+    }
+
+    public String getResultMessage() {
+        return resultMessage;
+    }
+
+    public void setResultMessage(String resultMessage) {
+        this.resultMessage = resultMessage;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.syndicatelending.entity;
 
+import com.example.syndicatelending.common.infrastructure.web.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.common.domain.model.MoneyAttributeConverter;
 import jakarta.persistence.*;
@@ -7,6 +9,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "borrowers")
+@JsonFilter(FieldSelection.FILTER_ID)
 public class Borrower {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
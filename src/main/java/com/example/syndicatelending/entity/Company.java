@@ -1,10 +1,13 @@
 package com.example.syndicatelending.entity;
 
+import com.example.syndicatelending.common.infrastructure.web.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "companies")
+@JsonFilter(FieldSelection.FILTER_ID)
 public class Company {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,9 +1,14 @@
 package com.example.syndicatelending.entity;
 
+import com.example.syndicatelending.common.infrastructure.web.FieldSelection;
+import com.example.syndicatelending.common.domain.model.Money;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "drawdown")
+@DiscriminatorValue("DRAWDOWN")
+@JsonFilter(FieldSelection.FILTER_ID)
 public class Drawdown extends Transaction {
 
     @Column(nullable = false)
@@ -36,6 +41,14 @@ public class Drawdown extends Transaction {
         this.currency = currency;
     }
 
+    /**
+     * 通貨付きの引出額（為替換算用）
+     */
+    @JsonIgnore
+    public Money getAmountInCurrency() {
+        return getAmount() == null ? null : getAmount().withCurrency(currency);
+    }
+
     public String getPurpose() {
         return purpose;
     }
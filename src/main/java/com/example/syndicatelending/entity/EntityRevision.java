@@ -0,0 +1,70 @@
+package com.example.syndicatelending.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * エンティティのあるバージョンの内容（更新リクエストと同じ形のJSON）。
+ * 更新で上書きされる直前に記録し、古いバージョンからの更新を3-wayマージする際の基点に使う。
+ */
+@Entity
+@Table(name = "entity_revision")
+public class EntityRevision {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "entity_type", nullable = false, length = 40)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false, length = 20000)
+    private String snapshot;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public EntityRevision() {
+    }
+
+    public EntityRevision(String entityType, Long entityId, Long version, String snapshot) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.version = version;
+        this.snapshot = snapshot;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public String getSnapshot() {
+        return snapshot;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
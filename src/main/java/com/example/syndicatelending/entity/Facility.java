@@ -9,9 +9,13 @@ import java.util.List;
 
 import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.common.domain.model.MoneyAttributeConverter;
+import com.example.syndicatelending.common.infrastructure.web.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
 @Table(name = "facilities")
+@JsonFilter(FieldSelection.FILTER_ID)
 public class Facility {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -106,6 +110,14 @@ public class Facility {
         this.currency = currency;
     }
 
+    /**
+     * 通貨付きのコミットメント金額（為替換算用）
+     */
+    @JsonIgnore
+    public Money getCommitmentInCurrency() {
+        return commitment == null ? null : commitment.withCurrency(currency);
+    }
+
     public LocalDate getStartDate() {
         return startDate;
     }
@@ -2,13 +2,18 @@
 package com.example.syndicatelending.entity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
-import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "facility_investment")
+@DiscriminatorValue("FACILITY_INVESTMENT")
 public class FacilityInvestment extends Transaction {
 
+    public FacilityInvestment() {
+        super();
+        this.setTransactionType("FACILITY_INVESTMENT");
+    }
+
     @Column(nullable = false)
     private Long investorId;
 
@@ -1,11 +1,14 @@
 package com.example.syndicatelending.entity;
 
+import com.example.syndicatelending.common.infrastructure.web.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "investors")
+@JsonFilter(FieldSelection.FILTER_ID)
 public class Investor {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
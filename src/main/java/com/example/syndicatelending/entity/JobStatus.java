@@ -0,0 +1,12 @@
+package com.example.syndicatelending.entity;
+
+/**
+ * バッチジョブの状態
+ */
+public enum JobStatus {
+    QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+    }
+}
@@ -7,6 +7,7 @@ import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.common.domain.model.Percentage;
 import com.example.syndicatelending.common.domain.model.MoneyAttributeConverter;
 import com.example.syndicatelending.common.domain.model.PercentageAttributeConverter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 /**
  * ローン（貸付）エンティティ。
@@ -42,7 +43,7 @@ public class Loan {
     private Money outstandingBalance;
 
     /** 年利率（%） */
-    @Column(nullable = false)
+    @Column(nullable = false, precision = 10, scale = 4)
     @Convert(converter = PercentageAttributeConverter.class)
     private Percentage annualInterestRate;
 
@@ -66,6 +67,19 @@ public class Loan {
     @Column(nullable = false)
     private String currency;
 
+    /** 未払経過利息 */
+    @Column(nullable = false)
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money accruedInterest = Money.zero();
+
+    /** 未払手数料 */
+    @Column(nullable = false)
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money outstandingFees = Money.zero();
+
+    /** 利息計算済みの最終日（未設定ならドローダウン日から計算） */
+    private LocalDate lastInterestDate;
+
     /** レコード作成日時 */
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -185,6 +199,46 @@ public class Loan {
         this.currency = currency;
     }
 
+    /**
+     * 通貨付きの元本（為替換算用）
+     */
+    @JsonIgnore
+    public Money getPrincipalAmountInCurrency() {
+        return principalAmount == null ? null : principalAmount.withCurrency(currency);
+    }
+
+    /**
+     * 通貨付きの残高（為替換算用）
+     */
+    @JsonIgnore
+    public Money getOutstandingBalanceInCurrency() {
+        return outstandingBalance == null ? null : outstandingBalance.withCurrency(currency);
+    }
+
+    public Money getAccruedInterest() {
+        return accruedInterest;
+    }
+
+    public void setAccruedInterest(Money accruedInterest) {
+        this.accruedInterest = accruedInterest;
+    }
+
+    public Money getOutstandingFees() {
+        return outstandingFees;
+    }
+
+    public void setOutstandingFees(Money outstandingFees) {
+        this.outstandingFees = outstandingFees;
+    }
+
+    public LocalDate getLastInterestDate() {
+        return lastInterestDate;
+    }
+
+    public void setLastInterestDate(LocalDate lastInterestDate) {
+        this.lastInterestDate = lastInterestDate;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,89 @@
+package com.example.syndicatelending.entity;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.MoneyAttributeConverter;
+import jakarta.persistence.*;
+
+/**
+ * 借り手からの返済（支払い）取引。
+ * 支払額は手数料 → 経過利息 → 元本の順に充当され、充当しきれない額は未充当額として残す。
+ */
+@Entity
+@DiscriminatorValue("PAYMENT")
+public class Payment extends Transaction {
+
+    @Column(nullable = false)
+    private Long loanId;
+
+    @Column(nullable = false)
+    private String currency;
+
+    @Column(name = "fee_paid", nullable = false)
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money feePaid;
+
+    @Column(name = "interest_paid", nullable = false)
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money interestPaid;
+
+    @Column(name = "principal_paid", nullable = false)
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money principalPaid;
+
+    @Column(name = "unapplied_amount", nullable = false)
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money unappliedAmount;
+
+    public Payment() {
+        super();
+        this.setTransactionType("PAYMENT");
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public void setLoanId(Long loanId) {
+        this.loanId = loanId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public Money getFeePaid() {
+        return feePaid;
+    }
+
+    public void setFeePaid(Money feePaid) {
+        this.feePaid = feePaid;
+    }
+
+    public Money getInterestPaid() {
+        return interestPaid;
+    }
+
+    public void setInterestPaid(Money interestPaid) {
+        this.interestPaid = interestPaid;
+    }
+
+    public Money getPrincipalPaid() {
+        return principalPaid;
+    }
+
+    public void setPrincipalPaid(Money principalPaid) {
+        this.principalPaid = principalPaid;
+    }
+
+    public Money getUnappliedAmount() {
+        return unappliedAmount;
+    }
+
+    public void setUnappliedAmount(Money unappliedAmount) {
+        this.unappliedAmount = unappliedAmount;
+    }
+}
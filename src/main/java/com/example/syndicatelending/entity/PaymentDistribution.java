@@ -0,0 +1,111 @@
+package com.example.syndicatelending.entity;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.MoneyAttributeConverter;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 返済の投資家別配分（SharePieの持分比率で按分した手数料・利息・元本）
+ */
+@Entity
+@Table(name = "payment_distribution")
+public class PaymentDistribution {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_distribution_seq")
+    @SequenceGenerator(name = "payment_distribution_seq", sequenceName = "payment_distribution_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long paymentId;
+
+    @Column(nullable = false)
+    private Long loanId;
+
+    @Column(nullable = false)
+    private Long investorId;
+
+    @Column(nullable = false)
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money feeAmount;
+
+    @Column(nullable = false)
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money interestAmount;
+
+    @Column(nullable = false)
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money principalAmount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getPaymentId() {
+        return paymentId;
+    }
+
+    public void setPaymentId(Long paymentId) {
+        this.paymentId = paymentId;
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public void setLoanId(Long loanId) {
+        this.loanId = loanId;
+    }
+
+    public Long getInvestorId() {
+        return investorId;
+    }
+
+    public void setInvestorId(Long investorId) {
+        this.investorId = investorId;
+    }
+
+    public Money getFeeAmount() {
+        return feeAmount;
+    }
+
+    public void setFeeAmount(Money feeAmount) {
+        this.feeAmount = feeAmount;
+    }
+
+    public Money getInterestAmount() {
+        return interestAmount;
+    }
+
+    public void setInterestAmount(Money interestAmount) {
+        this.interestAmount = interestAmount;
+    }
+
+    public Money getPrincipalAmount() {
+        return principalAmount;
+    }
+
+    public void setPrincipalAmount(Money principalAmount) {
+        this.principalAmount = principalAmount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
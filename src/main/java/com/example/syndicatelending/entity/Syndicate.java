@@ -1,8 +1,10 @@
 package com.example.syndicatelending.entity;
 
 import jakarta.persistence.*;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Table(name = "syndicates")
@@ -16,10 +18,11 @@ public class Syndicate {
     private Long leadBankId;
     @Column(name = "borrower_id")
     private Long borrowerId;
+    // Setで保持し、メンバー変更時は差分の行のみINSERT/DELETEさせる（Listだと全行削除・再挿入になる）
     @ElementCollection
     @CollectionTable(name = "syndicate_members", joinColumns = @JoinColumn(name = "syndicate_id"))
-    @Column(name = "investor_id")
-    private List<Long> memberInvestorIds = new ArrayList<>();
+    @Column(name = "investor_id", nullable = false)
+    private Set<Long> memberInvestorIds = new LinkedHashSet<>();
     @Column(name = "created_at", nullable = false, updatable = false)
     private java.time.LocalDateTime createdAt;
     @Column(name = "updated_at", nullable = false)
@@ -35,9 +38,7 @@ public class Syndicate {
         this.name = name;
         this.leadBankId = leadBankId;
         this.borrowerId = borrowerId;
-        if (memberInvestorIds != null) {
-            this.memberInvestorIds = memberInvestorIds;
-        }
+        setMemberInvestorIds(memberInvestorIds);
     }
 
     @PrePersist
@@ -82,12 +83,46 @@ public class Syndicate {
         this.borrowerId = borrowerId;
     }
 
-    public List<Long> getMemberInvestorIds() {
+    public Set<Long> getMemberInvestorIds() {
         return memberInvestorIds;
     }
 
-    public void setMemberInvestorIds(List<Long> memberInvestorIds) {
-        this.memberInvestorIds = memberInvestorIds;
+    public void setMemberInvestorIds(Collection<Long> memberInvestorIds) {
+        // コレクション自体を差し替えると再作成（全行削除）になるため、中身を入れ替える
+        this.memberInvestorIds.retainAll(memberInvestorIds != null ? memberInvestorIds : Set.of());
+        if (memberInvestorIds != null) {
+            this.memberInvestorIds.addAll(memberInvestorIds);
+        }
+    }
+
+    /**
+     * メンバーを追加する。
+     *
+     * @return 新たに追加された投資家ID
+     */
+    public Set<Long> addMembers(Collection<Long> investorIds) {
+        Set<Long> added = new LinkedHashSet<>();
+        for (Long investorId : investorIds) {
+            if (investorId != null && memberInvestorIds.add(investorId)) {
+                added.add(investorId);
+            }
+        }
+        return added;
+    }
+
+    /**
+     * メンバーを除外する。
+     *
+     * @return 実際に除外された投資家ID
+     */
+    public Set<Long> removeMembers(Collection<Long> investorIds) {
+        Set<Long> removed = new LinkedHashSet<>();
+        for (Long investorId : investorIds) {
+            if (memberInvestorIds.remove(investorId)) {
+                removed.add(investorId);
+            }
+        }
+        return removed;
     }
 
     public java.time.LocalDateTime getCreatedAt() {
@@ -6,12 +6,20 @@ import jakarta.persistence.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+/**
+ * 取引の基底エンティティ。
+ * 支払い等の取引が大半を占めるため、サブタイプごとの結合が発生しないSINGLE_TABLE継承で1テーブルに格納する。
+ * 取引種別（transaction_type）を識別子列として兼用する。
+ */
 @Entity
-@Inheritance(strategy = InheritanceType.JOINED)
+@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+@DiscriminatorColumn(name = "transaction_type", discriminatorType = DiscriminatorType.STRING, length = 255)
 @Table(name = "transaction")
 public abstract class Transaction {
+    // IDENTITYだとJDBCバッチINSERTが無効になるため、採番をまとめて行うシーケンスを使う
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "transaction_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -23,7 +31,8 @@ public abstract class Transaction {
     @Column(nullable = false)
     private LocalDate transactionDate;
 
-    @Column(nullable = false)
+    // 識別子列の読み取り専用ビュー（書き込みは@DiscriminatorValueで行われる）
+    @Column(name = "transaction_type", nullable = false, insertable = false, updatable = false)
     private String transactionType;
 
     @Column(nullable = false)
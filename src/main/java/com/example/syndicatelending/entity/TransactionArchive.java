@@ -0,0 +1,93 @@
+package com.example.syndicatelending.entity;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.MoneyAttributeConverter;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 退避（コールド）テーブルに移した締め済み期間の取引。参照専用。
+ * 行の移動は TransactionArchiveJobHandler が行い、アプリケーションからは更新しない。
+ */
+@Entity
+@Immutable
+@Table(name = "transaction_archive")
+public class TransactionArchive {
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long facilityId;
+
+    @Column(nullable = false)
+    private Long borrowerId;
+
+    @Column(nullable = false)
+    private LocalDate transactionDate;
+
+    @Column(name = "transaction_type", nullable = false)
+    private String transactionType;
+
+    @Column(nullable = false)
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money amount;
+
+    private Long loanId;
+
+    private String currency;
+
+    private Long investorId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getFacilityId() {
+        return facilityId;
+    }
+
+    public Long getBorrowerId() {
+        return borrowerId;
+    }
+
+    public LocalDate getTransactionDate() {
+        return transactionDate;
+    }
+
+    public String getTransactionType() {
+        return transactionType;
+    }
+
+    public Money getAmount() {
+        return amount;
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public Long getInvestorId() {
+        return investorId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.syndicatelending.repository;
+
+import com.example.syndicatelending.entity.BatchJob;
+import com.example.syndicatelending.entity.JobStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BatchJobRepository extends JpaRepository<BatchJob, Long> {
+    Optional<BatchJob> findByIdAndTenantId(Long id, String tenantId);
+
+    Page<BatchJob> findByTenantId(String tenantId, Pageable pageable);
+
+    Page<BatchJob> findByTenantIdAndStatus(String tenantId, JobStatus status, Pageable pageable);
+
+    List<BatchJob> findByStatusOrderByIdAsc(JobStatus status, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("update BatchJob j set j.status = :to, j.updatedAt = :now where j.status = :from")
+    int updateStatusAll(@Param("from") JobStatus from, @Param("to") JobStatus to, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("update BatchJob j set j.status = com.example.syndicatelending.entity.JobStatus.RUNNING, "
+            + "j.startedAt = :now, j.updatedAt = :now "
+            + "where j.id = :id and j.status = com.example.syndicatelending.entity.JobStatus.QUEUED")
+    int markRunning(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("update BatchJob j set j.checkpoint = :checkpoint, j.processedItems = :processed, "
+            + "j.totalItems = :total, j.updatedAt = :now where j.id = :id")
+    int updateProgress(@Param("id") Long id, @Param("checkpoint") String checkpoint,
+            @Param("processed") Long processed, @Param("total") Long total, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("update BatchJob j set j.status = :status, j.resultMessage = :message, j.finishedAt = :now, "
+            + "j.updatedAt = :now where j.id = :id")
+    int markFinished(@Param("id") Long id, @Param("status") JobStatus status, @Param("message") String message,
+            @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("update BatchJob j set j.status = com.example.syndicatelending.entity.JobStatus.CANCELLED, "
+            + "j.cancelRequested = true, j.finishedAt = :now, j.updatedAt = :now "
+            + "where j.id = :id and j.status = com.example.syndicatelending.entity.JobStatus.QUEUED")
+    int cancelIfQueued(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("update BatchJob j set j.cancelRequested = true, j.updatedAt = :now where j.id = :id")
+    int requestCancel(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
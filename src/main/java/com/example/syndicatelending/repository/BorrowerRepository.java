@@ -1,13 +1,18 @@
 package com.example.syndicatelending.repository;
 
+import com.example.syndicatelending.dto.BorrowerSummary;
 import com.example.syndicatelending.entity.Borrower;
 import com.example.syndicatelending.entity.CreditRating;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BorrowerRepository extends JpaRepository<Borrower, Long>, JpaSpecificationExecutor<Borrower> {
@@ -18,4 +23,33 @@ public interface BorrowerRepository extends JpaRepository<Borrower, Long>, JpaSp
     Page<Borrower> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
     Page<Borrower> findByCreditRating(CreditRating creditRating, Pageable pageable);
+
+    /**
+     * 一覧表示用に必要な列のみをプロジェクションで取得（管理対象エンティティを生成しない）
+     */
+    Page<BorrowerSummary> findAllProjectedBy(Pageable pageable);
+
+    /**
+     * 分析スナップショット用に、更新日時ウォーターマーク以降の格付のみを取得
+     */
+    @Query("select b.id as id, b.creditRating as creditRating, b.updatedAt as updatedAt "
+            + "from Borrower b where b.updatedAt >= :since")
+    List<RatingRow> findRatingRows(@Param("since") LocalDateTime since);
+
+    /**
+     * 分析スナップショット用の読み取り専用プロジェクション
+     */
+    interface RatingRow {
+        Long getId();
+
+        CreditRating getCreditRating();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    /**
+     * ETag判定用に、バージョン列のみを主キーで取得
+     */
+    @Query("select b.version from Borrower b where b.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
@@ -1,11 +1,14 @@
 package com.example.syndicatelending.repository;
 
+import com.example.syndicatelending.dto.CompanySummary;
 import com.example.syndicatelending.entity.Company;
 import com.example.syndicatelending.entity.Industry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -23,4 +26,15 @@ public interface CompanyRepository extends JpaRepository<Company, Long>, JpaSpec
     Page<Company> findByCompanyNameContainingIgnoreCase(String companyName, Pageable pageable);
 
     Page<Company> findByIndustry(Industry industry, Pageable pageable);
+
+    /**
+     * 一覧表示用に必要な列のみをプロジェクションで取得（管理対象エンティティを生成しない）
+     */
+    Page<CompanySummary> findAllProjectedBy(Pageable pageable);
+
+    /**
+     * ETag判定用に、バージョン列のみを主キーで取得
+     */
+    @Query("select c.version from Company c where c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
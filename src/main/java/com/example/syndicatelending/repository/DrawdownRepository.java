@@ -1,14 +1,22 @@
 package com.example.syndicatelending.repository;
 
 import com.example.syndicatelending.entity.Drawdown;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface DrawdownRepository extends JpaRepository<Drawdown, Long> {
     List<Drawdown> findByFacilityId(Long facilityId);
+    // 複数Facility分をまとめて取得（クエリAPIのバッチ読み込み用。件数の上限はpageableで指定）
+    List<Drawdown> findByFacilityIdIn(Collection<Long> facilityIds, Pageable pageable);
+    // 期間条件付き（パーティション表ではtransaction_dateで対象パーティションのみ走査される）
+    List<Drawdown> findByFacilityIdAndTransactionDateBetweenOrderByTransactionDateAsc(Long facilityId, LocalDate from,
+            LocalDate to);
     List<Drawdown> findByLoanId(Long loanId);
     List<Drawdown> findByBorrowerId(Long borrowerId);
 }
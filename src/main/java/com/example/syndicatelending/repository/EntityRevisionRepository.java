@@ -0,0 +1,25 @@
+package com.example.syndicatelending.repository;
+
+import com.example.syndicatelending.entity.EntityRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+@Repository
+public interface EntityRevisionRepository extends JpaRepository<EntityRevision, Long> {
+    Optional<EntityRevision> findByEntityTypeAndEntityIdAndVersion(String entityType, Long entityId, Long version);
+
+    boolean existsByEntityTypeAndEntityIdAndVersion(String entityType, Long entityId, Long version);
+
+    /**
+     * 指定バージョンより古い記録を削除する（保持世代数の上限）
+     */
+    @Modifying
+    @Query("delete from EntityRevision r where r.entityType = :entityType and r.entityId = :entityId "
+            + "and r.version < :version")
+    int deleteOlderThan(@Param("entityType") String entityType, @Param("entityId") Long entityId,
+            @Param("version") Long version);
+}
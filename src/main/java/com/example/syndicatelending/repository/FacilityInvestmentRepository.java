@@ -4,8 +4,14 @@ package com.example.syndicatelending.repository;
 import com.example.syndicatelending.entity.FacilityInvestment;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface FacilityInvestmentRepository extends JpaRepository<FacilityInvestment, Long> {
+    /**
+     * 派生のdeleteは対象を読み込んでから1件ずつ削除するためトランザクションが必須。
+     * 呼び出し元にトランザクションがない場合も失敗しないよう、ここで開始する（既存のトランザクションがあれば参加する）。
+     */
+    @Transactional
     void deleteByFacilityId(Long facilityId);
 }
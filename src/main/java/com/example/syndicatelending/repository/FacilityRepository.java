@@ -1,10 +1,17 @@
 // FacilityRepositoryのpackageを変更
 package com.example.syndicatelending.repository;
 
+import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.entity.Facility;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface FacilityRepository extends JpaRepository<Facility, Long> {
@@ -12,4 +19,36 @@ public interface FacilityRepository extends JpaRepository<Facility, Long> {
      * 指定されたSyndicateに関連付けられたFacilityリストを取得
      */
     List<Facility> findBySyndicateId(Long syndicateId);
+
+    /**
+     * 複数Syndicate分のFacilityをまとめて取得（クエリAPIのバッチ読み込み用。件数の上限はpageableで指定）
+     */
+    List<Facility> findBySyndicateIdIn(Collection<Long> syndicateIds, Pageable pageable);
+
+    /**
+     * キャッシュの鮮度確認・ETag判定用に、バージョン列のみを主キーで取得
+     */
+    @Query("select f.version from Facility f where f.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * 分析スナップショット用の列のみを、更新日時ウォーターマーク以降・ID昇順（キーセットページング）で取得
+     */
+    @Query("select f.id as id, f.commitment as commitment, f.currency as currency, f.updatedAt as updatedAt "
+            + "from Facility f where f.updatedAt >= :since and f.id > :afterId order by f.id")
+    List<SnapshotRow> findSnapshotRows(@Param("since") LocalDateTime since, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    /**
+     * 分析スナップショット用の読み取り専用プロジェクション
+     */
+    interface SnapshotRow {
+        Long getId();
+
+        Money getCommitment();
+
+        String getCurrency();
+
+        LocalDateTime getUpdatedAt();
+    }
 }
@@ -0,0 +1,36 @@
+package com.example.syndicatelending.repository;
+
+import com.example.syndicatelending.entity.FxRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FxRateRepository extends JpaRepository<FxRate, Long> {
+    Optional<FxRate> findByBaseCurrencyAndQuoteCurrencyAndRateDate(String baseCurrency, String quoteCurrency,
+            LocalDate rateDate);
+
+    /**
+     * レート表の構築用に全件を読み取り専用プロジェクションで取得
+     */
+    @Query("select r.baseCurrency as baseCurrency, r.quoteCurrency as quoteCurrency, r.rateDate as rateDate, "
+            + "r.rate as rate from FxRate r")
+    List<RateRow> findAllRateRows();
+
+    /**
+     * レート表の構築用の読み取り専用プロジェクション
+     */
+    interface RateRow {
+        String getBaseCurrency();
+
+        String getQuoteCurrency();
+
+        LocalDate getRateDate();
+
+        BigDecimal getRate();
+    }
+}
@@ -1,13 +1,17 @@
 package com.example.syndicatelending.repository;
 
+import com.example.syndicatelending.dto.InvestorSummary;
 import com.example.syndicatelending.entity.Investor;
 import com.example.syndicatelending.entity.InvestorType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface InvestorRepository extends JpaRepository<Investor, Long>, JpaSpecificationExecutor<Investor> {
@@ -20,4 +24,15 @@ public interface InvestorRepository extends JpaRepository<Investor, Long>, JpaSp
     Page<Investor> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
     Page<Investor> findByInvestorType(InvestorType investorType, Pageable pageable);
+
+    /**
+     * 一覧表示用に必要な列のみをプロジェクションで取得（管理対象エンティティを生成しない）
+     */
+    Page<InvestorSummary> findAllProjectedBy(Pageable pageable);
+
+    /**
+     * ETag判定用に、バージョン列のみを主キーで取得
+     */
+    @Query("select i.version from Investor i where i.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
@@ -1,12 +1,50 @@
 package com.example.syndicatelending.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.entity.Loan;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface LoanRepository extends JpaRepository<Loan, Long> {
-    // Custom query methods can be defined here
+    /**
+     * IDのキーセットページング（バッチジョブの再開位置から読み進める）
+     */
+    List<Loan> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * 分析スナップショット用の列のみを、更新日時ウォーターマーク以降・ID昇順（キーセットページング）で取得
+     */
+    @Query("select l.id as id, l.facilityId as facilityId, l.borrowerId as borrowerId, "
+            + "l.principalAmount as principalAmount, l.outstandingBalance as outstandingBalance, "
+            + "l.currency as currency, l.updatedAt as updatedAt "
+            + "from Loan l where l.updatedAt >= :since and l.id > :afterId order by l.id")
+    List<SnapshotRow> findSnapshotRows(@Param("since") LocalDateTime since, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    /**
+     * 分析スナップショット用の読み取り専用プロジェクション
+     */
+    interface SnapshotRow {
+        Long getId();
+
+        Long getFacilityId();
+
+        Long getBorrowerId();
+
+        Money getPrincipalAmount();
+
+        Money getOutstandingBalance();
+
+        String getCurrency();
+
+        LocalDateTime getUpdatedAt();
+    }
 }
-// 空ファイル（loan/repository/LoanRepositoryを参照）
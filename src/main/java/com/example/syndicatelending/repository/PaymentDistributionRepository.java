@@ -0,0 +1,12 @@
+package com.example.syndicatelending.repository;
+
+import com.example.syndicatelending.entity.PaymentDistribution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PaymentDistributionRepository extends JpaRepository<PaymentDistribution, Long> {
+    List<PaymentDistribution> findByPaymentId(Long paymentId);
+}
@@ -0,0 +1,16 @@
+package com.example.syndicatelending.repository;
+
+import com.example.syndicatelending.entity.Payment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PaymentRepository extends JpaRepository<Payment, Long> {
+    List<Payment> findByLoanId(Long loanId);
+    // 期間条件付き（パーティション表ではtransaction_dateで対象パーティションのみ走査される）
+    List<Payment> findByLoanIdAndTransactionDateBetweenOrderByTransactionDateAsc(Long loanId, LocalDate from,
+            LocalDate to);
+}
@@ -1,14 +1,54 @@
 // SharePieRepositoryのpackageを変更
 package com.example.syndicatelending.repository;
 
+import com.example.syndicatelending.common.domain.model.Percentage;
 import com.example.syndicatelending.entity.SharePie;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface SharePieRepository extends JpaRepository<SharePie, Long> {
-    List<SharePie> findByFacility_Id(Long facilityId);
+    /**
+     * 導出クエリは facility への外部結合になりインデックスが使われないため、外部キー列で絞り込む
+     */
+    @Query("select s from SharePie s where s.facility.id = :facilityId")
+    List<SharePie> findByFacility_Id(@Param("facilityId") Long facilityId);
 
-    void deleteByFacility_Id(Long facilityId);
+    /**
+     * 複数Facility分のSharePieをまとめて取得（クエリAPIのバッチ読み込み用。件数の上限はpageableで指定）
+     */
+    @Query("select s from SharePie s where s.facility.id in :facilityIds")
+    List<SharePie> findByFacilityIds(@Param("facilityIds") Collection<Long> facilityIds, Pageable pageable);
+
+    /**
+     * 読み込んでから1件ずつ削除するためトランザクションが必須（呼び出し元にない場合はここで開始する）。
+     */
+    @Transactional
+    default void deleteByFacility_Id(Long facilityId) {
+        deleteAll(findByFacility_Id(facilityId));
+    }
+
+    /**
+     * 分析スナップショット用に、指定Facility群のSharePieを列のみで取得
+     */
+    @Query("select s.facility.id as facilityId, s.investorId as investorId, s.share as share "
+            + "from SharePie s where s.facility.id in :facilityIds")
+    List<SnapshotRow> findSnapshotRowsByFacilityIds(@Param("facilityIds") Collection<Long> facilityIds);
+
+    /**
+     * 分析スナップショット用の読み取り専用プロジェクション
+     */
+    interface SnapshotRow {
+        Long getFacilityId();
+
+        Long getInvestorId();
+
+        Percentage getShare();
+    }
 }
@@ -1,10 +1,48 @@
 package com.example.syndicatelending.repository;
 
+import com.example.syndicatelending.dto.SyndicateSummary;
 import com.example.syndicatelending.entity.Syndicate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SyndicateRepository extends JpaRepository<Syndicate, Long> {
     boolean existsByName(String name);
+
+    /**
+     * 投資家が参加しているシンジケート（syndicate_members.investor_id のインデックスで逆引き）
+     */
+    @Query(value = "select s.id as id, s.name as name, s.leadBankId as leadBankId, s.borrowerId as borrowerId "
+            + "from Syndicate s join s.memberInvestorIds m where m = :investorId",
+            countQuery = "select count(s) from Syndicate s join s.memberInvestorIds m where m = :investorId")
+    Page<SyndicateSummary> findSummariesByMemberInvestorId(@Param("investorId") Long investorId, Pageable pageable);
+
+    /**
+     * 複数Syndicateのメンバー（投資家ID）をまとめて取得（クエリAPIのバッチ読み込み用）
+     */
+    @Query("select s.id as syndicateId, m as investorId from Syndicate s join s.memberInvestorIds m "
+            + "where s.id in :syndicateIds")
+    List<MemberRow> findMemberRowsBySyndicateIds(@Param("syndicateIds") Collection<Long> syndicateIds);
+
+    /**
+     * シンジケートのメンバー行
+     */
+    interface MemberRow {
+        Long getSyndicateId();
+
+        Long getInvestorId();
+    }
+
+    /**
+     * ETag判定用に、バージョン列のみを主キーで取得
+     */
+    @Query("select s.version from Syndicate s where s.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
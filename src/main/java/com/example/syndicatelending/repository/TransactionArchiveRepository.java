@@ -0,0 +1,17 @@
+package com.example.syndicatelending.repository;
+
+import com.example.syndicatelending.entity.TransactionArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TransactionArchiveRepository extends JpaRepository<TransactionArchive, Long> {
+    List<TransactionArchive> findByFacilityIdAndTransactionDateBetweenOrderByTransactionDateAsc(Long facilityId,
+            LocalDate from, LocalDate to);
+
+    List<TransactionArchive> findByLoanIdAndTransactionDateBetweenOrderByTransactionDateAsc(Long loanId,
+            LocalDate from, LocalDate to);
+}
@@ -0,0 +1,60 @@
+package com.example.syndicatelending.repository;
+
+import com.example.syndicatelending.entity.Transaction;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 取引（全種別）の退避用Repository。
+ * 移動はID指定のINSERT ... SELECT / DELETEで行い、エンティティを読み込まない。
+ */
+@Repository
+public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+
+    /**
+     * 退避対象の取引ID。基準日の時点で終了していないファシリティ（endDate が基準日以降）の取引は、
+     * 古くても出資・引出・返済の履歴として参照されるため対象外とする。
+     */
+    @Query("select t.id from Transaction t where t.transactionDate < :before and t.id > :afterId"
+            + " and not exists (select 1 from Facility f where f.id = t.facilityId and f.endDate >= :before)"
+            + " order by t.id")
+    List<Long> findIdsToArchive(@Param("before") LocalDate before, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Query("select count(t) from Transaction t where t.transactionDate < :before"
+            + " and not exists (select 1 from Facility f where f.id = t.facilityId and f.endDate >= :before)")
+    long countToArchive(@Param("before") LocalDate before);
+
+    @Modifying
+    @Query(value = "insert into transaction_archive (id, facility_id, borrower_id, transaction_date, transaction_type,"
+            + " amount, created_at, updated_at, version, loan_id, currency, purpose, investor_id, fee_paid,"
+            + " interest_paid, principal_paid, unapplied_amount, archived_at)"
+            + " select id, facility_id, borrower_id, transaction_date, transaction_type, amount, created_at,"
+            + " updated_at, version, loan_id, currency, purpose, investor_id, fee_paid, interest_paid,"
+            + " principal_paid, unapplied_amount, current_timestamp from transaction where id in (:ids)",
+            nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "insert into payment_distribution_archive (id, payment_id, loan_id, investor_id, fee_amount,"
+            + " interest_amount, principal_amount, created_at)"
+            + " select id, payment_id, loan_id, investor_id, fee_amount, interest_amount, principal_amount, created_at"
+            + " from payment_distribution where payment_id in (:ids)", nativeQuery = true)
+    int copyDistributionsToArchive(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "delete from payment_distribution where payment_id in (:ids)", nativeQuery = true)
+    int deleteDistributions(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "delete from transaction where id in (:ids)", nativeQuery = true)
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,134 @@
+-- ベースラインスキーマ（従来 spring.jpa.hibernate.ddl-auto=update が生成していた構成）
+-- H2 / PostgreSQL の双方で実行できる構文のみを使用する
+
+create table companies (
+    id bigint generated by default as identity,
+    company_name varchar(255) not null,
+    registration_number varchar(255),
+    industry varchar(255) check (industry in ('FINANCE','MANUFACTURING','IT','RETAIL','ENERGY','TRANSPORTATION','HEALTHCARE','CONSTRUCTION','AGRICULTURE','OTHER')),
+    country varchar(255) check (country in ('JAPAN','USA','UK','GERMANY','FRANCE','CHINA','INDIA','AUSTRALIA','CANADA','OTHER')),
+    address varchar(255),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint,
+    primary key (id)
+);
+
+create table borrowers (
+    id bigint generated by default as identity,
+    name varchar(255) not null,
+    email varchar(255),
+    phone_number varchar(255),
+    company_id varchar(255),
+    credit_limit numeric(38,2),
+    credit_rating varchar(255) check (credit_rating in ('AAA','AA','A','BBB','BB','B','CCC','CC','C','D')),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint,
+    primary key (id)
+);
+
+create table investors (
+    id bigint generated by default as identity,
+    name varchar(255) not null,
+    email varchar(255),
+    phone_number varchar(255),
+    company_id varchar(255),
+    investment_capacity numeric(19,2),
+    investor_type varchar(255) check (investor_type in ('LEAD_BANK','BANK','INSURANCE','FUND','CORPORATE','INDIVIDUAL','GOVERNMENT','PENSION','SOVEREIGN_FUND','CREDIT_UNION','OTHER')),
+    is_active boolean not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint,
+    primary key (id)
+);
+
+create table syndicates (
+    id bigint generated by default as identity,
+    name varchar(255) not null unique,
+    lead_bank_id bigint,
+    borrower_id bigint,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint,
+    primary key (id)
+);
+
+create table syndicate_members (
+    syndicate_id bigint not null,
+    investor_id bigint
+);
+
+create table facilities (
+    id bigint generated by default as identity,
+    syndicate_id bigint not null,
+    commitment numeric(19,2) not null,
+    currency varchar(255) not null,
+    start_date date not null,
+    end_date date not null,
+    interest_terms varchar(255),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint,
+    primary key (id)
+);
+
+create table facility_share_pies (
+    id bigint generated by default as identity,
+    facility_id bigint not null,
+    investor_id bigint not null,
+    share numeric(8,4) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    primary key (id)
+);
+
+create table loan (
+    id bigint generated by default as identity,
+    facility_id bigint not null,
+    borrower_id bigint not null,
+    principal_amount numeric(38,2) not null,
+    outstanding_balance numeric(38,2) not null,
+    annual_interest_rate numeric(10,4) not null,
+    drawdown_date date not null,
+    repayment_period_months integer not null,
+    repayment_cycle varchar(255) not null,
+    repayment_method varchar(255) not null,
+    currency varchar(255) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint,
+    primary key (id)
+);
+
+create table transaction (
+    id bigint generated by default as identity,
+    facility_id bigint not null,
+    borrower_id bigint not null,
+    transaction_date date not null,
+    transaction_type varchar(255) not null,
+    amount numeric(38,2) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint,
+    primary key (id)
+);
+
+create table drawdown (
+    id bigint not null,
+    loan_id bigint not null,
+    currency varchar(255) not null,
+    purpose varchar(255) not null,
+    primary key (id)
+);
+
+create table facility_investment (
+    id bigint not null,
+    investor_id bigint not null,
+    primary key (id)
+);
+
+alter table drawdown add constraint fk_drawdown_transaction foreign key (id) references transaction (id);
+alter table facility_investment add constraint fk_facility_investment_transaction foreign key (id) references transaction (id);
+alter table facility_share_pies add constraint fk_facility_share_pies_facility foreign key (facility_id) references facilities (id);
+alter table syndicate_members add constraint fk_syndicate_members_syndicate foreign key (syndicate_id) references syndicates (id);
@@ -0,0 +1,38 @@
+-- Repositoryの検索メソッド・外部キー経路ごとのインデックス
+-- （名前の部分一致検索 *ContainingIgnoreCase はインメモリのPartySearchIndexで代替するため対象外）
+
+-- DrawdownRepository.findByFacilityId / FacilityInvestmentRepository.deleteByFacilityId
+create index idx_transaction_facility_id on transaction (facility_id, transaction_date);
+-- DrawdownRepository.findByBorrowerId
+create index idx_transaction_borrower_id on transaction (borrower_id, transaction_date);
+-- DrawdownRepository.findByLoanId
+create index idx_drawdown_loan_id on drawdown (loan_id);
+create index idx_facility_investment_investor_id on facility_investment (investor_id);
+
+-- FacilityRepository.findBySyndicateId
+create index idx_facilities_syndicate_id on facilities (syndicate_id);
+-- SharePieRepository.findByFacility_Id / deleteByFacility_Id
+create index idx_facility_share_pies_facility_id on facility_share_pies (facility_id, investor_id, share);
+create index idx_facility_share_pies_investor_id on facility_share_pies (investor_id, facility_id);
+
+-- Syndicate.memberInvestorIds の読み込み（syndicate_id）と投資家からの逆引き（investor_id）
+create index idx_syndicate_members_syndicate_id on syndicate_members (syndicate_id, investor_id);
+create index idx_syndicate_members_investor_id on syndicate_members (investor_id, syndicate_id);
+
+create index idx_loan_facility_id on loan (facility_id);
+create index idx_loan_borrower_id on loan (borrower_id);
+
+-- CompanyRepository.findByRegistrationNumber / findByIndustry / findByCountry
+create index idx_companies_registration_number on companies (registration_number);
+create index idx_companies_industry on companies (industry);
+create index idx_companies_country on companies (country);
+-- BorrowerRepository.findByCreditRating
+create index idx_borrowers_credit_rating on borrowers (credit_rating);
+-- InvestorRepository.findByInvestorType / findByIsActiveTrue
+create index idx_investors_investor_type on investors (investor_type);
+create index idx_investors_is_active on investors (is_active);
+
+-- LoanBookSnapshot の更新日時ウォーターマークによる差分取得（キーセットページング）
+create index idx_loan_updated_at on loan (updated_at, id);
+create index idx_facilities_updated_at on facilities (updated_at, id);
+create index idx_borrowers_updated_at on borrowers (updated_at);
@@ -0,0 +1,30 @@
+-- Transaction継承をJOINEDからSINGLE_TABLEへ移行する
+-- サブタイプ列をtransactionへ移し、transaction_type を識別子列として使う
+
+alter table transaction add column loan_id bigint;
+alter table transaction add column currency varchar(255);
+alter table transaction add column purpose varchar(255);
+alter table transaction add column investor_id bigint;
+
+update transaction
+   set loan_id = (select d.loan_id from drawdown d where d.id = transaction.id),
+       currency = (select d.currency from drawdown d where d.id = transaction.id),
+       purpose = (select d.purpose from drawdown d where d.id = transaction.id)
+ where exists (select 1 from drawdown d where d.id = transaction.id);
+
+update transaction
+   set investor_id = (select fi.investor_id from facility_investment fi where fi.id = transaction.id)
+ where exists (select 1 from facility_investment fi where fi.id = transaction.id);
+
+drop table drawdown;
+drop table facility_investment;
+
+-- サブタイプ列のNOT NULLは種別ごとのチェック制約で担保する
+alter table transaction add constraint ck_transaction_drawdown
+    check (transaction_type <> 'DRAWDOWN' or (loan_id is not null and currency is not null and purpose is not null));
+alter table transaction add constraint ck_transaction_facility_investment
+    check (transaction_type <> 'FACILITY_INVESTMENT' or investor_id is not null);
+
+-- DrawdownRepository.findByLoanId / 投資家別の出資取引
+create index idx_transaction_loan_id on transaction (loan_id);
+create index idx_transaction_investor_id on transaction (investor_id);
@@ -0,0 +1,14 @@
+-- syndicate_members を集合として扱う（重複・NULL行を除去し、(syndicate_id, investor_id) を主キーにする）
+
+create table syndicate_members_dedup as
+    select distinct syndicate_id, investor_id from syndicate_members where investor_id is not null;
+delete from syndicate_members;
+insert into syndicate_members (syndicate_id, investor_id)
+    select syndicate_id, investor_id from syndicate_members_dedup;
+drop table syndicate_members_dedup;
+
+alter table syndicate_members alter column investor_id set not null;
+alter table syndicate_members add constraint pk_syndicate_members primary key (syndicate_id, investor_id);
+
+-- 主キーが (syndicate_id, investor_id) を兼ねる
+drop index idx_syndicate_members_syndicate_id;
@@ -0,0 +1,34 @@
+-- 返済（PAYMENT取引）と投資家別配分、ローンの経過利息・未払手数料
+
+alter table loan add column accrued_interest numeric(38,2) default 0 not null;
+alter table loan add column outstanding_fees numeric(38,2) default 0 not null;
+alter table loan add column last_interest_date date;
+
+alter table transaction add column fee_paid numeric(38,2);
+alter table transaction add column interest_paid numeric(38,2);
+alter table transaction add column principal_paid numeric(38,2);
+alter table transaction add column unapplied_amount numeric(38,2);
+alter table transaction add constraint ck_transaction_payment
+    check (transaction_type <> 'PAYMENT' or (loan_id is not null and currency is not null and fee_paid is not null
+        and interest_paid is not null and principal_paid is not null and unapplied_amount is not null));
+
+-- JDBCバッチINSERTのため、取引IDはIDENTITYではなくシーケンス（allocationSize=50）で採番する
+-- 既存IDとの重複を避ける開始位置の調整は db/vendor/{vendor}/V5_1 で行う
+create sequence transaction_seq start with 1 increment by 50;
+
+create table payment_distribution (
+    id bigint not null,
+    payment_id bigint not null,
+    loan_id bigint not null,
+    investor_id bigint not null,
+    fee_amount numeric(38,2) not null,
+    interest_amount numeric(38,2) not null,
+    principal_amount numeric(38,2) not null,
+    created_at timestamp(6) not null,
+    primary key (id)
+);
+create sequence payment_distribution_seq start with 1 increment by 50;
+
+alter table payment_distribution add constraint fk_payment_distribution_payment foreign key (payment_id) references transaction (id);
+create index idx_payment_distribution_payment_id on payment_distribution (payment_id);
+create index idx_payment_distribution_investor_id on payment_distribution (investor_id);
@@ -0,0 +1,24 @@
+-- 非同期バッチジョブの状態・チェックポイント
+
+create table batch_job (
+    id bigint generated by default as identity,
+    job_type varchar(100) not null,
+    tenant_id varchar(100) not null,
+    status varchar(20) not null check (status in ('QUEUED','RUNNING','SUCCEEDED','FAILED','CANCELLED')),
+    parameters varchar(4000),
+    checkpoint varchar(4000),
+    processed_items bigint default 0 not null,
+    total_items bigint,
+    cancel_requested boolean default false not null,
+    result_message varchar(2000),
+    created_at timestamp(6) not null,
+    started_at timestamp(6),
+    finished_at timestamp(6),
+    updated_at timestamp(6) not null,
+    primary key (id)
+);
+
+-- 起動時の再開・空き枠への投入（status = QUEUED を古い順）
+create index idx_batch_job_status on batch_job (status, id);
+-- テナントごとのジョブ一覧
+create index idx_batch_job_tenant_id on batch_job (tenant_id, status);
@@ -0,0 +1,47 @@
+-- 締め済み期間の取引を移す退避（コールド）テーブル
+-- 列構成は transaction と同じ。移動は TransactionArchiveJobHandler がチャンク単位で行う
+
+create table transaction_archive (
+    id bigint not null,
+    facility_id bigint not null,
+    borrower_id bigint not null,
+    transaction_date date not null,
+    transaction_type varchar(255) not null,
+    amount numeric(38,2) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint,
+    loan_id bigint,
+    currency varchar(255),
+    purpose varchar(255),
+    investor_id bigint,
+    fee_paid numeric(38,2),
+    interest_paid numeric(38,2),
+    principal_paid numeric(38,2),
+    unapplied_amount numeric(38,2),
+    archived_at timestamp(6) not null,
+    primary key (id)
+);
+
+create table payment_distribution_archive (
+    id bigint not null,
+    payment_id bigint not null,
+    loan_id bigint not null,
+    investor_id bigint not null,
+    fee_amount numeric(38,2) not null,
+    interest_amount numeric(38,2) not null,
+    principal_amount numeric(38,2) not null,
+    created_at timestamp(6) not null,
+    primary key (id)
+);
+
+-- TransactionArchiveRepository.findByFacilityIdAndTransactionDateBetween / findByLoanIdAndTransactionDateBetween
+create index idx_transaction_archive_facility_id on transaction_archive (facility_id, transaction_date);
+create index idx_transaction_archive_loan_id on transaction_archive (loan_id, transaction_date);
+create index idx_payment_distribution_archive_payment_id on payment_distribution_archive (payment_id);
+
+-- TransactionRepository.findIdsToArchive（基準日より前の取引をID順に取り出す）
+create index idx_transaction_date on transaction (transaction_date, id);
+-- 期間指定の検索（PaymentRepository.findByLoanIdAndTransactionDateBetween）
+drop index idx_transaction_loan_id;
+create index idx_transaction_loan_id on transaction (loan_id, transaction_date);
@@ -0,0 +1,13 @@
+-- 為替レート（1 base_currency = rate quote_currency）。FxRateServiceが起動時・更新時にメモリへ読み込む
+
+create table fx_rate (
+    id bigint generated by default as identity,
+    base_currency varchar(3) not null,
+    quote_currency varchar(3) not null,
+    rate_date date not null,
+    rate numeric(19,10) not null check (rate > 0),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    primary key (id),
+    constraint uk_fx_rate_pair_date unique (base_currency, quote_currency, rate_date)
+);
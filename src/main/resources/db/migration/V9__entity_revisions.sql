@@ -0,0 +1,12 @@
+-- 更新直前の状態（そのバージョンを参照したクライアントが見た内容）。楽観ロック競合時の3-wayマージの基点に使う
+
+create table entity_revision (
+    id bigint generated by default as identity,
+    entity_type varchar(40) not null,
+    entity_id bigint not null,
+    version bigint not null,
+    snapshot varchar(20000) not null,
+    created_at timestamp(6) not null,
+    primary key (id),
+    constraint uk_entity_revision unique (entity_type, entity_id, version)
+);